@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.micro;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Attribute reads through {@code PyObjectGetAttr} at call sites that see one, a few and many
+ * receiver types, i.e., that stay in the inline cache, use its polymorphic entries or go
+ * megamorphic.
+ */
+public class AttributeAccessBenchmark extends PythonMicroBenchmark {
+
+    @Param({"1000"}) public int size;
+
+    private Value readAttrs;
+    private Value monomorphic;
+    private Value polymorphic;
+    private Value megamorphic;
+    private Value methodAttr;
+
+    @Override
+    protected void setup() {
+        Value create = eval("def create_objects(n, ntypes):\n" +
+                        "    types = []\n" +
+                        "    for i in range(ntypes):\n" +
+                        "        class C:\n" +
+                        "            def __init__(self, x):\n" +
+                        "                self.x = x\n" +
+                        "            def m(self):\n" +
+                        "                return self.x\n" +
+                        "        types.append(C)\n" +
+                        "    return [types[i % ntypes](i) for i in range(n)]\n", "create_objects");
+        monomorphic = create.execute(size, 1);
+        polymorphic = create.execute(size, 3);
+        megamorphic = create.execute(size, 16);
+        readAttrs = eval("def read_attrs(objs):\n" +
+                        "    s = 0\n" +
+                        "    for o in objs:\n" +
+                        "        s += o.x\n" +
+                        "    return s\n", "read_attrs");
+        methodAttr = eval("def read_methods(objs):\n" +
+                        "    s = 0\n" +
+                        "    for o in objs:\n" +
+                        "        s += o.m()\n" +
+                        "    return s\n", "read_methods");
+    }
+
+    @Benchmark
+    public Value monomorphic() {
+        return readAttrs.execute(monomorphic);
+    }
+
+    @Benchmark
+    public Value polymorphic() {
+        return readAttrs.execute(polymorphic);
+    }
+
+    @Benchmark
+    public Value megamorphic() {
+        return readAttrs.execute(megamorphic);
+    }
+
+    @Benchmark
+    public Value methodMonomorphic() {
+        return methodAttr.execute(monomorphic);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.micro;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Calls dispatched through {@code CallDispatchNode} and the special method call nodes: direct
+ * calls of Python functions with positional and keyword arguments, bound method calls, builtin
+ * calls, and call sites that see too many callees to be cached.
+ */
+public class CallBenchmark extends PythonMicroBenchmark {
+
+    @Param({"1000"}) public int size;
+
+    private Value callFunction;
+    private Value callKeywords;
+    private Value callMethod;
+    private Value callBuiltin;
+    private Value callMegamorphic;
+
+    @Override
+    protected void setup() {
+        context.eval("python", "def f(a, b):\n" +
+                        "    return a + b\n" +
+                        "def g(a, b=1, *, c=2):\n" +
+                        "    return a + b + c\n" +
+                        "class C:\n" +
+                        "    def m(self, a):\n" +
+                        "        return a\n" +
+                        "def make(i):\n" +
+                        "    def h(a):\n" +
+                        "        return a + i\n" +
+                        "    return h\n" +
+                        "callees = [make(i) for i in range(16)]\n");
+        callFunction = eval("def call_function(n):\n" +
+                        "    s = 0\n" +
+                        "    for i in range(n):\n" +
+                        "        s = f(s, i)\n" +
+                        "    return s\n", "call_function");
+        callKeywords = eval("def call_keywords(n):\n" +
+                        "    s = 0\n" +
+                        "    for i in range(n):\n" +
+                        "        s = g(s, c=i)\n" +
+                        "    return s\n", "call_keywords");
+        callMethod = eval("def call_method(n):\n" +
+                        "    o = C()\n" +
+                        "    s = 0\n" +
+                        "    for i in range(n):\n" +
+                        "        s += o.m(i)\n" +
+                        "    return s\n", "call_method");
+        callBuiltin = eval("def call_builtin(n):\n" +
+                        "    s = 0\n" +
+                        "    for i in range(n):\n" +
+                        "        s += abs(-i)\n" +
+                        "    return s\n", "call_builtin");
+        callMegamorphic = eval("def call_megamorphic(n):\n" +
+                        "    s = 0\n" +
+                        "    for i in range(n):\n" +
+                        "        s = callees[i % 16](s)\n" +
+                        "    return s\n", "call_megamorphic");
+    }
+
+    @Benchmark
+    public Value function() {
+        return callFunction.execute(size);
+    }
+
+    @Benchmark
+    public Value keywords() {
+        return callKeywords.execute(size);
+    }
+
+    @Benchmark
+    public Value method() {
+        return callMethod.execute(size);
+    }
+
+    @Benchmark
+    public Value builtin() {
+        return callBuiltin.execute(size);
+    }
+
+    @Benchmark
+    public Value megamorphic() {
+        return callMegamorphic.execute(size);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.micro;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import com.oracle.graal.python.runtime.GilNode;
+
+/**
+ * Releasing and reacquiring the GIL, directly through {@link GilNode} and from Python code
+ * ({@code time.sleep(0)} releases the GIL). With {@code contended} set, another Python thread
+ * competes for the GIL during the whole trial.
+ */
+public class GilBenchmark extends PythonMicroBenchmark {
+
+    @Param({"1000"}) public int size;
+    @Param({"false", "true"}) public boolean contended;
+
+    private Value releaseFromPython;
+    private Value thread;
+    private GilNode.UncachedAcquire gil;
+
+    @Override
+    protected void setup() {
+        releaseFromPython = eval("import time, threading\n" +
+                        "def release_gil(n):\n" +
+                        "    for i in range(n):\n" +
+                        "        time.sleep(0)\n" +
+                        "running = True\n" +
+                        "def spin():\n" +
+                        "    x = 0\n" +
+                        "    while running:\n" +
+                        "        x += 1\n" +
+                        "def start_thread():\n" +
+                        "    t = threading.Thread(target=spin, daemon=True)\n" +
+                        "    t.start()\n" +
+                        "    return t\n" +
+                        "def stop_thread(t):\n" +
+                        "    global running\n" +
+                        "    running = False\n" +
+                        "    t.join()\n", "release_gil");
+        if (contended) {
+            thread = context.getBindings("python").getMember("start_thread").execute();
+        }
+        enterContext();
+        // the benchmark thread owns the GIL like a thread running Python code does, so that
+        // releaseAndAcquire can release it
+        gil = GilNode.uncachedAcquire();
+    }
+
+    @Override
+    protected void tearDown() {
+        if (gil != null) {
+            gil.close();
+            gil = null;
+        }
+        if (thread != null) {
+            context.getBindings("python").getMember("stop_thread").execute(thread);
+        }
+    }
+
+    @Benchmark
+    public void releaseAndAcquire() {
+        for (int i = 0; i < size; i++) {
+            try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                // nothing to do without the GIL
+            }
+        }
+    }
+
+    @Benchmark
+    public Value releaseFromPython() {
+        return releaseFromPython.execute(size);
+    }
+}
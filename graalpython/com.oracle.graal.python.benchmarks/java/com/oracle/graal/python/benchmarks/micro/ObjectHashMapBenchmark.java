@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.micro;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap;
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap.GetNode;
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap.PutNode;
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMapFactory.GetNodeGen;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Lookups and insertions into {@link ObjectHashMap}, both directly through the uncached nodes and
+ * through compiled Python code using dicts with keys that are stored in an {@link ObjectHashMap}.
+ */
+public class ObjectHashMapBenchmark extends PythonMicroBenchmark {
+
+    @Param({"16", "4096"}) public int size;
+
+    private Long[] longKeys;
+    private TruffleString[] stringKeys;
+    private long[] stringHashes;
+    private ObjectHashMap longMap;
+    private ObjectHashMap stringMap;
+    private GetNode getNode;
+
+    private Value dictStrKeys;
+    private Value dictTupleKeys;
+
+    @Override
+    protected void setup() {
+        enterContext();
+        getNode = GetNodeGen.getUncached();
+        longKeys = new Long[size];
+        stringKeys = new TruffleString[size];
+        stringHashes = new long[size];
+        longMap = new ObjectHashMap();
+        stringMap = new ObjectHashMap();
+        for (int i = 0; i < size; i++) {
+            longKeys[i] = (long) i * 7919;
+            stringKeys[i] = TruffleString.fromJavaStringUncached("key" + i, TS_ENCODING);
+            stringHashes[i] = PyObjectHashNode.hash(stringKeys[i], TruffleString.HashCodeNode.getUncached());
+            PutNode.putUncached(longMap, longKeys[i], PyObjectHashNode.hash(longKeys[i]), i);
+            PutNode.putUncached(stringMap, stringKeys[i], stringHashes[i], i);
+        }
+        dictStrKeys = eval("def dict_str_keys(n):\n" +
+                        "    keys = ['key%d' % i for i in range(n)]\n" +
+                        "    d = {}\n" +
+                        "    for k in keys:\n" +
+                        "        d[k] = k\n" +
+                        "    for k in keys:\n" +
+                        "        d[k]\n" +
+                        "    return d\n", "dict_str_keys");
+        dictTupleKeys = eval("def dict_tuple_keys(n):\n" +
+                        "    keys = [(i, i) for i in range(n)]\n" +
+                        "    d = {}\n" +
+                        "    for k in keys:\n" +
+                        "        d[k] = k\n" +
+                        "    for k in keys:\n" +
+                        "        d[k]\n" +
+                        "    return d\n", "dict_tuple_keys");
+    }
+
+    @Benchmark
+    public ObjectHashMap putLongKeys() {
+        ObjectHashMap map = new ObjectHashMap();
+        for (int i = 0; i < size; i++) {
+            PutNode.putUncached(map, longKeys[i], PyObjectHashNode.hash(longKeys[i]), i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void getLongKeys(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(getNode.execute(null, null, longMap, longKeys[i], PyObjectHashNode.hash(longKeys[i])));
+        }
+    }
+
+    @Benchmark
+    public void getStringKeys(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(getNode.execute(null, null, stringMap, stringKeys[i], stringHashes[i]));
+        }
+    }
+
+    @Benchmark
+    public Value pythonDictStrKeys() {
+        return dictStrKeys.execute(size);
+    }
+
+    @Benchmark
+    public Value pythonDictTupleKeys() {
+        return dictTupleKeys.execute(size);
+    }
+}
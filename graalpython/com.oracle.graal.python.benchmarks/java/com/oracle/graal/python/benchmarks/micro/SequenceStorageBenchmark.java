@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.micro;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * List operations that go through {@code SequenceStorageNodes}: appends and item assignments that
+ * stay within a primitive storage, and ones that generalize it.
+ */
+public class SequenceStorageBenchmark extends PythonMicroBenchmark {
+
+    @Param({"1000"}) public int size;
+
+    private Value appendInts;
+    private Value appendDoubles;
+    private Value appendGeneralize;
+    private Value setItemInts;
+    private Value setItemGeneralize;
+
+    @Override
+    protected void setup() {
+        appendInts = eval("def append_ints(n):\n" +
+                        "    l = []\n" +
+                        "    for i in range(n):\n" +
+                        "        l.append(i)\n" +
+                        "    return l\n", "append_ints");
+        appendDoubles = eval("def append_doubles(n):\n" +
+                        "    l = []\n" +
+                        "    for i in range(n):\n" +
+                        "        l.append(i * 0.5)\n" +
+                        "    return l\n", "append_doubles");
+        appendGeneralize = eval("def append_generalize(n):\n" +
+                        "    l = []\n" +
+                        "    for i in range(n):\n" +
+                        "        l.append(i)\n" +
+                        "    l.append('x')\n" +
+                        "    return l\n", "append_generalize");
+        setItemInts = eval("def setitem_ints(l):\n" +
+                        "    for i in range(len(l)):\n" +
+                        "        l[i] = i\n" +
+                        "    return l\n", "setitem_ints");
+        setItemGeneralize = eval("def setitem_generalize(n):\n" +
+                        "    l = [0] * n\n" +
+                        "    l[n // 2] = 'x'\n" +
+                        "    for i in range(n):\n" +
+                        "        l[i] = i\n" +
+                        "    return l\n", "setitem_generalize");
+    }
+
+    @Benchmark
+    public Value appendInts() {
+        return appendInts.execute(size);
+    }
+
+    @Benchmark
+    public Value appendDoubles() {
+        return appendDoubles.execute(size);
+    }
+
+    @Benchmark
+    public Value appendGeneralize() {
+        return appendGeneralize.execute(size);
+    }
+
+    @Benchmark
+    public Value setItemInts() {
+        return setItemInts.execute(appendInts.execute(size));
+    }
+
+    @Benchmark
+    public Value setItemGeneralize() {
+        return setItemGeneralize.execute(size);
+    }
+}
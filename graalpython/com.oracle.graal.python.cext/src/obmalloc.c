@@ -65,6 +65,27 @@ typedef struct {
 size_t PyTruffle_AllocatedMemory = 0;
 size_t PyTruffle_MaxNativeMemory = 0;
 size_t PyTruffle_NativeMemoryGCBarrier = 0;
+
+/*
+ * Statistics about native memory usage; see 'PyTruffle_GetNativeMemoryStat'. Like the C API library
+ * itself, they are process-wide and count the allocations of all contexts. 'PyMem_Raw*' functions
+ * may be called without holding the GIL, so the counters are only updated atomically.
+ */
+static size_t native_memory_peak = 0;
+static size_t native_memory_total = 0;
+static size_t native_memory_allocations = 0;
+static size_t native_memory_frees = 0;
+static size_t native_memory_collections = 0;
+
+#define NATIVE_MEMORY_STAT_LIVE_BYTES 0
+#define NATIVE_MEMORY_STAT_PEAK_BYTES 1
+#define NATIVE_MEMORY_STAT_TOTAL_BYTES 2
+#define NATIVE_MEMORY_STAT_ALLOCATIONS 3
+#define NATIVE_MEMORY_STAT_FREES 4
+#define NATIVE_MEMORY_STAT_COLLECTIONS 5
+#define NATIVE_MEMORY_STAT_GC_BARRIER 6
+#define NATIVE_MEMORY_STAT_INCREMENT(COUNTER, N) __atomic_fetch_add(&(COUNTER), (N), __ATOMIC_RELAXED)
+#define NATIVE_MEMORY_STAT_GET(COUNTER) __atomic_load_n(&(COUNTER), __ATOMIC_RELAXED)
 #define MAX_COLLECTION_RETRIES (7)
 #define COLLECTION_DELAY_INCREMENT (50)
 
@@ -74,6 +95,17 @@ void PyTruffle_InitializeNativeMemorySize() {
 	PyTruffle_NativeMemoryGCBarrier = GraalPyTruffle_GetInitialNativeMemory();
 }
 
+MUST_INLINE static
+void native_memory_allocated(size_t size) {
+	PyTruffle_AllocatedMemory += size;
+	NATIVE_MEMORY_STAT_INCREMENT(native_memory_total, size);
+	size_t live = PyTruffle_AllocatedMemory;
+	size_t peak = NATIVE_MEMORY_STAT_GET(native_memory_peak);
+	while (live > peak && !__atomic_compare_exchange_n(&native_memory_peak, &peak, live, 1, __ATOMIC_RELAXED, __ATOMIC_RELAXED)) {
+		// 'peak' was reloaded, retry unless another thread recorded a higher peak
+	}
+}
+
 int PyTruffle_AllocMemory(size_t size) {
     // memory management
 	while ((PyTruffle_AllocatedMemory + size) > PyTruffle_NativeMemoryGCBarrier) {
@@ -86,9 +118,10 @@ int PyTruffle_AllocMemory(size_t size) {
 	    size_t delay = 0;
 	    for (int iteration = 0; iteration < MAX_COLLECTION_RETRIES; iteration++) {
 	    	GraalPyTruffle_TriggerGC(delay);
+	    	NATIVE_MEMORY_STAT_INCREMENT(native_memory_collections, 1);
 	    	delay += COLLECTION_DELAY_INCREMENT;
 	    	if ((PyTruffle_AllocatedMemory + size) <= PyTruffle_NativeMemoryGCBarrier) {
-	    		PyTruffle_AllocatedMemory += size;
+	    		native_memory_allocated(size);
 	    		return 0;
 	    	}
 	    }
@@ -103,7 +136,7 @@ int PyTruffle_AllocMemory(size_t size) {
 			return 1;
 		}
 	}
-	PyTruffle_AllocatedMemory += size;
+	native_memory_allocated(size);
 	return 0;
 }
 
@@ -115,6 +148,27 @@ void PyTruffle_FreeMemory(size_t size) {
     PyTruffle_AllocatedMemory -= size;
 }
 
+PyAPI_FUNC(int64_t) PyTruffle_GetNativeMemoryStat(int32_t stat) {
+	switch (stat) {
+	case NATIVE_MEMORY_STAT_LIVE_BYTES:
+		return (int64_t) PyTruffle_AllocatedMemory;
+	case NATIVE_MEMORY_STAT_PEAK_BYTES:
+		return (int64_t) NATIVE_MEMORY_STAT_GET(native_memory_peak);
+	case NATIVE_MEMORY_STAT_TOTAL_BYTES:
+		return (int64_t) NATIVE_MEMORY_STAT_GET(native_memory_total);
+	case NATIVE_MEMORY_STAT_ALLOCATIONS:
+		return (int64_t) NATIVE_MEMORY_STAT_GET(native_memory_allocations);
+	case NATIVE_MEMORY_STAT_FREES:
+		return (int64_t) NATIVE_MEMORY_STAT_GET(native_memory_frees);
+	case NATIVE_MEMORY_STAT_COLLECTIONS:
+		return (int64_t) NATIVE_MEMORY_STAT_GET(native_memory_collections);
+	case NATIVE_MEMORY_STAT_GC_BARRIER:
+		return (int64_t) PyTruffle_NativeMemoryGCBarrier;
+	default:
+		return -1;
+	}
+}
+
 /* This is our version of 'PyObject_Free' which is also able to free Sulong handles. */
 MUST_INLINE static
 void _PyObject_Free(void* ptr) {
@@ -126,6 +180,7 @@ void _PyObject_Free(void* ptr) {
 	} else {
         mem_head_t* ptr_with_head = AS_MEM_HEAD(ptr);
         PyTruffle_FreeMemory(ptr_with_head->size);
+        NATIVE_MEMORY_STAT_INCREMENT(native_memory_frees, 1);
         free(ptr_with_head);
 	}
 }
@@ -137,6 +192,7 @@ void* PyObject_Malloc(size_t size) {
 	mem_head_t* ptr_with_head = malloc(size + sizeof(mem_head_t));
 	void* ptr = FROM_MEM_HEAD(ptr_with_head);
 	ptr_with_head->size = size;
+	NATIVE_MEMORY_STAT_INCREMENT(native_memory_allocations, 1);
     return ptr;
 }
 
@@ -158,6 +214,7 @@ void* PyMem_Malloc(size_t size) {
 	mem_head_t* ptr_with_head = malloc(size + sizeof(mem_head_t));
 	void* ptr = FROM_MEM_HEAD(ptr_with_head);
 	ptr_with_head->size = size;
+	NATIVE_MEMORY_STAT_INCREMENT(native_memory_allocations, 1);
     return ptr;
 }
 
@@ -175,6 +232,7 @@ void* PyMem_RawMalloc(size_t size) {
 	mem_head_t* ptr_with_head = malloc((size == 0 ? 1 : size) + sizeof(mem_head_t));
 	void* ptr = FROM_MEM_HEAD(ptr_with_head);
 	ptr_with_head->size = size;
+	NATIVE_MEMORY_STAT_INCREMENT(native_memory_allocations, 1);
     return ptr;
 }
 
@@ -186,7 +244,9 @@ void* PyMem_RawCalloc(size_t nelem, size_t elsize) {
     size_t total = n * elsize + sizeof(mem_head_t);
 	mem_head_t* ptr_with_head = (mem_head_t*) malloc(total);
 	memset(ptr_with_head, 0, total);
+	ptr_with_head->size = n * elsize;
 	void* ptr = FROM_MEM_HEAD(ptr_with_head);
+	NATIVE_MEMORY_STAT_INCREMENT(native_memory_allocations, 1);
     return ptr;
 }
 
@@ -213,6 +273,9 @@ void* PyMem_RawRealloc(void *ptr, size_t new_size) {
 
     mem_head_t* ptr_with_head = (mem_head_t*) realloc(old, new_size + sizeof(mem_head_t));
     ptr_with_head->size = new_size;
+    if (old == NULL) {
+        NATIVE_MEMORY_STAT_INCREMENT(native_memory_allocations, 1);
+    }
     return FROM_MEM_HEAD(ptr_with_head);
 }
 
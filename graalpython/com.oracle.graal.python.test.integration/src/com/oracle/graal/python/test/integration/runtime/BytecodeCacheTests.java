@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.integration.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BytecodeCacheTests {
+    private Path tmpDir;
+
+    @Before
+    public void setUp() throws IOException {
+        tmpDir = Files.createTempDirectory("graalpy-bytecode-cache");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static String run(Path script, boolean dontWriteBytecode) throws IOException {
+        return run(script, dontWriteBytecode, System.err);
+    }
+
+    private static String run(Path script, boolean dontWriteBytecode, OutputStream err) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Context context = Context.newBuilder("python").allowAllAccess(true).allowExperimentalOptions(true).out(out).err(err) //
+                        .option("python.PersistentBytecodeCache", "true") //
+                        .option("python.DontWriteBytecodeFlag", Boolean.toString(dontWriteBytecode)).build()) {
+            context.eval(Source.newBuilder("python", script.toFile()).build());
+        }
+        return out.toString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+    }
+
+    private Path[] cacheFiles() throws IOException {
+        Path pycache = tmpDir.resolve("__pycache__");
+        if (!Files.isDirectory(pycache)) {
+            return new Path[0];
+        }
+        try (Stream<Path> files = Files.list(pycache)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".gpyc")).toArray(Path[]::new);
+        }
+    }
+
+    @Test
+    public void cacheIsWrittenAndValidated() throws IOException {
+        Path script = tmpDir.resolve("script.py");
+        Files.writeString(script, "def f(x):\n    return x * 2\nprint(f(21))\n");
+        assertEquals("42\n", run(script, false));
+        assertEquals(1, cacheFiles().length);
+        // second run uses the cache and must behave the same
+        assertEquals("42\n", run(script, false));
+
+        // a changed source must not use the stale cache entry
+        Files.writeString(script, "def f(x):\n    return x * 3\nprint(f(21))\n");
+        assertEquals("63\n", run(script, false));
+        assertEquals("63\n", run(script, false));
+    }
+
+    @Test
+    public void dontWriteBytecode() throws IOException {
+        Path script = tmpDir.resolve("script.py");
+        Files.writeString(script, "print('hello')\n");
+        assertEquals("hello\n", run(script, true));
+        assertFalse(Files.exists(tmpDir.resolve("__pycache__")));
+        assertEquals("hello\n", run(script, false));
+        assertTrue(cacheFiles().length == 1);
+    }
+
+    @Test
+    public void compileWarningsAreReportedAgain() throws IOException {
+        Path script = tmpDir.resolve("script.py");
+        Files.writeString(script, "x = 1\nprint(x is 1)\n");
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+            assertEquals("True\n", run(script, false, err));
+            assertTrue(err.toString(StandardCharsets.UTF_8).contains("SyntaxWarning"));
+        }
+        // files with compile-time warnings are not cached
+        assertEquals(0, cacheFiles().length);
+    }
+}
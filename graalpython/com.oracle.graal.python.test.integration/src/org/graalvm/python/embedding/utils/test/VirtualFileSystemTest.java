@@ -46,14 +46,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
@@ -519,4 +526,127 @@ public class VirtualFileSystemTest {
         }
     }
 
+    @Test
+    public void packedResources() throws Exception {
+        Path dir = Files.createTempDirectory("vfs-test-pack");
+        Path pack = dir.resolve("org.graalvm.python.vfs").resolve("vfs.pack");
+        Files.createDirectories(pack.getParent());
+        Files.write(pack, createPack());
+        // a pack on the real filesystem is memory mapped
+        checkPackedResources(dir);
+
+        Path jar = dir.resolve("vfs.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("org.graalvm.python.vfs/vfs.pack"));
+            out.write(createPack());
+            out.closeEntry();
+        }
+        // a pack inside a jar is extracted to a cache directory first
+        checkPackedResources(jar);
+    }
+
+    private void checkPackedResources(Path classPathEntry) throws Exception {
+        try (PackLoader loader = new PackLoader(classPathEntry)) {
+            Class<?> anchor = loader.defineAnchor();
+            VirtualFileSystem fs = VirtualFileSystem.newBuilder().//
+                            unixMountPoint(VFS_MOUNT_POINT).//
+                            windowsMountPoint(VFS_WIN_MOUNT_POINT).//
+                            resourceLoadingClass(anchor).build();
+            try (Context context = GraalPyResources.contextBuilder(fs).build()) {
+                context.eval(PYTHON, patchMountPoint("""
+                                import os
+                                assert sorted(os.listdir('/test_mount_point')) == ['dir1', 'dir1-x', 'file1'], os.listdir('/test_mount_point')
+                                assert sorted(os.listdir('/test_mount_point/dir1')) == ['dir2', 'file2']
+                                assert os.listdir('/test_mount_point/dir1/dir2') == ['file3']
+                                assert os.path.isdir('/test_mount_point/dir1')
+                                assert os.path.isdir('/test_mount_point/dir1/dir2/')
+                                assert os.path.isfile('/test_mount_point/dir1-x')
+                                assert not os.path.exists('/test_mount_point/dir')
+                                assert not os.path.exists('/test_mount_point/DIR1')
+                                with open('/test_mount_point/dir1/dir2/file3', 'rb') as f:
+                                    assert f.read() == b'packed3'
+                                assert os.path.getsize('/test_mount_point/file1') == 7
+                                assert os.path.getsize('/test_mount_point/dir1/file2') == 0
+                                with open('/test_mount_point/file1', 'rb') as f:
+                                    assert f.read() == b'packed1'
+                                with open('/test_mount_point/file1', 'rb') as f:
+                                    assert f.read() == b'packed1'
+                                # loose resources are not used when there is a pack
+                                assert not os.path.exists('/test_mount_point/SomeFile')
+                                """));
+            }
+
+            VirtualFileSystem caseInsensitiveFs = VirtualFileSystem.newBuilder().//
+                            unixMountPoint(VFS_MOUNT_POINT).//
+                            windowsMountPoint(VFS_WIN_MOUNT_POINT).//
+                            caseInsensitive(true).//
+                            resourceLoadingClass(anchor).build();
+            try (Context context = GraalPyResources.contextBuilder(caseInsensitiveFs).build()) {
+                context.eval(PYTHON, patchMountPoint("""
+                                import os
+                                assert os.path.isfile('/test_mount_point/DIR1/dir2/FILE3')
+                                assert sorted(os.listdir('/test_mount_point/Dir1')) == ['dir2', 'file2']
+                                """));
+            }
+
+            Path resourcesDir = Files.createTempDirectory("vfs-test-pack-resources");
+            GraalPyResources.extractVirtualFileSystemResources(fs, resourcesDir);
+            assertEquals("packed1", Files.readString(resourcesDir.resolve("file1")));
+            assertEquals(0, Files.size(resourcesDir.resolve(Path.of("dir1", "file2"))));
+            assertEquals("packed3", Files.readString(resourcesDir.resolve(Path.of("dir1", "dir2", "file3"))));
+        }
+    }
+
+    /**
+     * Creates a pack in the format written by the Maven plugin.
+     */
+    private static byte[] createPack() throws IOException {
+        // sorted like the index written by the Maven plugin, '-' sorts before '/'
+        String[] entries = {"/org.graalvm.python.vfs/", "/org.graalvm.python.vfs/dir1-x", "/org.graalvm.python.vfs/dir1/", "/org.graalvm.python.vfs/dir1/dir2/",
+                        "/org.graalvm.python.vfs/dir1/dir2/file3", "/org.graalvm.python.vfs/dir1/file2", "/org.graalvm.python.vfs/file1"};
+        byte[][] contents = {null, "x".getBytes(StandardCharsets.UTF_8), null, null, "packed3".getBytes(StandardCharsets.UTF_8), new byte[0], "packed1".getBytes(StandardCharsets.UTF_8)};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0x47505646);
+            out.writeInt(1);
+            out.writeInt(entries.length);
+            long offset = 0;
+            for (int i = 0; i < entries.length; i++) {
+                byte[] name = entries[i].getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+                out.writeLong(contents[i] == null ? -1 : offset);
+                out.writeLong(contents[i] == null ? -1 : contents[i].length);
+                offset += contents[i] == null ? 0 : contents[i].length;
+            }
+            for (byte[] content : contents) {
+                if (content != null) {
+                    out.write(content);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    public static final class PackAnchor {
+    }
+
+    /**
+     * Defines {@link PackAnchor} on its own, so that resources are resolved from the given class
+     * path entry rather than from the test resources.
+     */
+    private static final class PackLoader extends URLClassLoader {
+        PackLoader(Path classPathEntry) throws IOException {
+            super(new URL[]{classPathEntry.toUri().toURL()}, VirtualFileSystemTest.class.getClassLoader());
+        }
+
+        Class<?> defineAnchor() throws IOException {
+            String name = PackAnchor.class.getName();
+            try (InputStream stream = VirtualFileSystemTest.class.getResourceAsStream("/" + name.replace('.', '/') + ".class")) {
+                byte[] b = stream.readAllBytes();
+                return defineClass(name, b, 0, b.length);
+            }
+        }
+    }
+
 }
@@ -51,6 +51,7 @@ import org.junit.Test;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageDelItem;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageLen;
+import com.oracle.graal.python.builtins.objects.common.LongHashingStorage;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.test.PythonTests;
@@ -117,4 +118,54 @@ public class PDictTest {
 
         assertNull(dict.getItem(ts("key2")));
     }
+
+    @Test
+    public void longStorage() {
+        PDict dict = PythonObjectFactory.getUncached().createDict();
+        for (int i = 0; i < 100; i++) {
+            dict.setItem(i * 1024L, i);
+        }
+        assertTrue(dict.getDictStorage() instanceof LongHashingStorage);
+        assertEquals(100, length(dict));
+        dict.setItem(0, 42);
+        assertEquals(100, length(dict));
+
+        assertEquals(42, dict.getItem(0L));
+        assertEquals(7, dict.getItem(7 * 1024));
+        assertEquals(1, dict.getItem(true));
+        assertEquals(2, dict.getItem(2048.0));
+        assertNull(dict.getItem(2048.5));
+        assertNull(dict.getItem(1));
+        assertNull(dict.getItem(ts("1024")));
+    }
+
+    @Test
+    public void longStorageTransition() {
+        PDict dict = PythonObjectFactory.getUncached().createDict();
+        dict.setItem(1, 2L);
+        dict.setItem(Long.MAX_VALUE, 3);
+        assertTrue(dict.getDictStorage() instanceof LongHashingStorage);
+
+        dict.setItem(ts("key1"), 42);
+        assertTrue(dict.getDictStorage() instanceof EconomicMapStorage);
+        assertEquals(3, length(dict));
+        assertEquals(2, dict.getItem(1));
+        assertEquals(3, dict.getItem(Long.MAX_VALUE));
+        assertEquals(42, dict.getItem(ts("key1")));
+    }
+
+    @Test
+    public void longStorageDel() {
+        PDict dict = PythonObjectFactory.getUncached().createDict();
+        dict.setItem(1, 2);
+        dict.setItem(3, 4);
+        delItem(dict, 5);
+        assertTrue(dict.getDictStorage() instanceof LongHashingStorage);
+
+        delItem(dict, 1);
+        assertTrue(dict.getDictStorage() instanceof EconomicMapStorage);
+        assertEquals(1, length(dict));
+        assertNull(dict.getItem(1));
+        assertEquals(4, dict.getItem(3));
+    }
 }
@@ -46,12 +46,15 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.junit.After;
 import org.junit.Before;
@@ -713,4 +716,67 @@ public class HostInteropTest extends PythonTests {
         t.writeBufferDouble(ByteOrder.LITTLE_ENDIAN, 0, 12345.6789123);
         assertEquals(12345.6789123, t.readBufferDouble(ByteOrder.LITTLE_ENDIAN, 0), 0.0);
     }
+
+    @Test
+    public void testArrayBulkRead() {
+        Value t = context.eval("python", "import array; array.array('d', [i * 0.5 for i in range(1000)])");
+        assertTrue(t.hasBufferElements());
+        assertEquals(8000, t.getBufferSize());
+        byte[] dst = new byte[8016];
+        t.readBuffer(8, dst, 8, 8000 - 8);
+        DoubleBuffer doubles = ByteBuffer.wrap(dst).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        assertEquals(0.0, doubles.get(0), 0.0);
+        for (int i = 1; i < 1000; i++) {
+            assertEquals(i * 0.5, doubles.get(i), 0.0);
+        }
+        boolean raised = false;
+        try {
+            t.readBuffer(8, dst, 0, 8000);
+        } catch (IndexOutOfBoundsException e) {
+            raised = true;
+        }
+        assertTrue(raised);
+    }
+
+    @Test
+    public void testListStorageCopy() {
+        Value l = context.eval("python", "l = [i * 0.5 for i in range(1000)]; l.append(500.0); l");
+        double[] doubles = context.eval("python", "import polyglot; polyglot.storage_copy(l)").as(double[].class);
+        assertEquals(1001, doubles.length);
+        for (int i = 0; i <= 1000; i++) {
+            assertEquals(i * 0.5, doubles[i], 0.0);
+        }
+        // the copy does not change with the list
+        l.setArrayElement(0, 42.0);
+        assertEquals(0.0, doubles[0], 0.0);
+
+        int[] ints = context.eval("python", "polyglot.storage_copy([i for i in range(3)])").as(int[].class);
+        assertEquals(3, ints.length);
+        assertEquals(2, ints[2]);
+    }
+
+    @Test
+    public void testListFromArray() {
+        Value listFromArray = context.eval("python", "import polyglot; polyglot.list_from_array");
+        double[] doubles = {0.5, 1.5, 2.5};
+        Value l = listFromArray.execute(doubles);
+        assertEquals(3, l.getArraySize());
+        assertEquals(2.5, l.getArrayElement(2).asDouble(), 0.0);
+        // the list does not change with the array
+        doubles[0] = 42.0;
+        assertEquals(0.5, l.getArrayElement(0).asDouble(), 0.0);
+        Value sum = context.eval("python", "lambda l: (type(l) is list, sum(l))").execute(l);
+        assertTrue(sum.getArrayElement(0).asBoolean());
+        assertEquals(4.5, sum.getArrayElement(1).asDouble(), 0.0);
+
+        Value longs = listFromArray.execute(new long[]{1, 2, 3});
+        assertEquals(3, longs.getArrayElement(2).asLong());
+        boolean raised = false;
+        try {
+            listFromArray.execute(new String[]{"a"});
+        } catch (PolyglotException e) {
+            raised = e.getMessage().contains("TypeError");
+        }
+        assertTrue(raised);
+    }
 }
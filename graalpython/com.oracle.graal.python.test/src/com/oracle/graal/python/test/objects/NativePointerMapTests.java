@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.oracle.graal.python.builtins.objects.cext.common.NativePointerMap;
+
+public class NativePointerMapTests {
+    @Test
+    public void testPutGetRemove() {
+        NativePointerMap<String> map = new NativePointerMap<>();
+        assertNull(map.put(0x1000, "a"));
+        assertNull(map.put(0x2000, "b"));
+        assertEquals("a", map.put(0x1000, "c"));
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(0x1000));
+        assertEquals("b", map.get(0x2000));
+        assertNull(map.get(0x3000));
+        assertTrue(map.containsKey(0x2000));
+        assertEquals("b", map.remove(0x2000));
+        assertNull(map.remove(0x2000));
+        assertFalse(map.containsKey(0x2000));
+        assertEquals(1, map.size());
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0x1000));
+    }
+
+    @Test
+    public void testNullKey() {
+        // NULL pointers are looked up, e.g., by CApiTransitions.lookupNative
+        NativePointerMap<String> map = new NativePointerMap<>();
+        assertNull(map.get(0));
+        assertFalse(map.containsKey(0));
+        assertNull(map.remove(0));
+        // also when the home slot of NULL is taken
+        for (long key = 16; key <= 64 * 16; key += 16) {
+            map.put(key, "x");
+        }
+        assertNull(map.get(0));
+        assertFalse(map.containsKey(0));
+        assertNull(map.remove(0));
+        assertEquals(64, map.size());
+    }
+
+    @Test
+    public void testRandomized() {
+        // aligned pointers from a small range, so that probe sequences collide and wrap around
+        Random random = new Random(42);
+        NativePointerMap<Long> map = new NativePointerMap<>();
+        HashMap<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            long key = (random.nextInt(5000) + 1) * 16L;
+            long value = random.nextLong();
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long key = 16; key <= 5000 * 16L; key += 16) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        HashMap<Long, Long> actual = new HashMap<>();
+        map.forEach((value, key) -> actual.put(key, value));
+        assertEquals(expected, actual);
+    }
+}
@@ -41,8 +41,9 @@ import builtins
 import os
 import pathlib
 import sys
+import unittest
 
-from . import CPyExtTestCase, CPyExtFunction, unhandled_error_compare
+from . import CPyExtTestCase, CPyExtFunction, unhandled_error_compare, compile_module_from_string, GRAALPYTHON
 
 __dir__ = __file__.rpartition("/")[0]
 
@@ -371,3 +372,49 @@ class TestMisc(CPyExtTestCase):
         arguments=["PyObject* value"],
         cmpfunc=unhandled_error_compare
     )
+
+
+@unittest.skipUnless(GRAALPYTHON, "GraalPy specific native memory statistics")
+def test_native_memory_stats():
+    module = compile_module_from_string("""
+        #define PY_SSIZE_T_CLEAN
+        #include <Python.h>
+
+        static PyObject* alloc_and_free(PyObject* module, PyObject* arg) {
+            Py_ssize_t n = PyLong_AsSsize_t(arg);
+            void* raw = PyMem_RawCalloc(n, 1);
+            void* mem = PyMem_Malloc(n);
+            if (raw == NULL || mem == NULL) {
+                return PyErr_NoMemory();
+            }
+            PyMem_RawFree(raw);
+            PyMem_Free(mem);
+            Py_RETURN_NONE;
+        }
+
+        static PyMethodDef module_methods[] = {
+            {"alloc_and_free", alloc_and_free, METH_O, ""},
+            {NULL}
+        };
+
+        static PyModuleDef NativeMemoryStatsModule = {
+            PyModuleDef_HEAD_INIT, "NativeMemoryStats", "", -1, module_methods
+        };
+
+        PyMODINIT_FUNC
+        PyInit_NativeMemoryStats(void)
+        {
+            return PyModule_Create(&NativeMemoryStatsModule);
+        }
+    """, "NativeMemoryStats")
+    size = 1 << 20
+    before = __graalpython__.get_native_memory_stats()
+    module.alloc_and_free(size)
+    after = __graalpython__.get_native_memory_stats()
+    assert after['allocations'] - before['allocations'] >= 2
+    assert after['frees'] - before['frees'] >= 2
+    assert after['total_allocated_bytes'] - before['total_allocated_bytes'] >= 2 * size
+    assert after['peak_bytes'] >= before['live_bytes'] + 2 * size
+    assert after['peak_bytes'] >= after['live_bytes']
+    # the calloc'ed block must be accounted with its size when freed
+    assert after['live_bytes'] < before['live_bytes'] + size
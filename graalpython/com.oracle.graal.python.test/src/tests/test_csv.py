@@ -78,3 +78,32 @@ class TestUnicodeCharacters(unittest.TestCase):
 
 
 
+
+
+class TestReaderFields(unittest.TestCase):
+    def test_quoted_fields(self):
+        test_data = ['abc,"d,e""f",,"g\n', 'h"\r\n', 'i,"j"k\n']
+        self.assertEqual(list(csv.reader(test_data)), [['abc', 'd,e"f', '', 'g\nh'], ['i', 'jk']])
+
+    def test_escapechar(self):
+        test_data = ['a\\,b,"c\\"d",e\\\n', 'f\n']
+        reader = csv.reader(test_data, escapechar='\\', doublequote=False)
+        self.assertEqual(list(reader), [['a,b', 'c"d', 'e\nf']])
+
+    def test_adjacent_special_characters(self):
+        # '\x0b' and '\x0c' lie between '\n' and '\r'
+        reader = csv.reader(['a\x0b\x0cb\x0bc\x0c\x0cd\x0c\x0be\n'], delimiter='\x0b', quotechar='\x0c')
+        self.assertEqual(list(reader), [['a', 'b\x0bc\x0cd', 'e']])
+
+    def test_field_size_limit(self):
+        old_limit = csv.field_size_limit(10)
+        try:
+            self.assertEqual(list(csv.reader(['0123456789,abc'])), [['0123456789', 'abc']])
+            self.assertRaises(csv.Error, list, csv.reader(['01234567890,abc']))
+            self.assertRaises(csv.Error, list, csv.reader(['"0123456789\n', '"']))
+        finally:
+            csv.field_size_limit(old_limit)
+
+    def test_nonnumeric(self):
+        reader = csv.reader(['1.5,"a",2\n'], quoting=csv.QUOTE_NONNUMERIC)
+        self.assertEqual(list(reader), [[1.5, 'a', 2.0]])
@@ -1267,3 +1267,38 @@ def test_dict_values_eq():
     d1 = {1: 1, 2: 2, 4: 4}
     assert d1.values() != d1.values()
 
+
+
+def test_int_keyed_dict():
+    class MyInt(int):
+        pass
+
+    d = {}
+    for i in range(100):
+        d[i * 1024] = i
+    d[-1] = -1
+    d[2 ** 62] = 2 ** 63 - 1
+    assert len(d) == 102
+    assert d[False] == 0 and d[1024.0] == 1 and d[MyInt(2048)] == 2
+    assert True not in d and 1024.5 not in d and "1024" not in d
+    assert d[-1] == -1 and d[2 ** 62] == 2 ** 63 - 1
+    assert list(d)[:3] == [0, 1024, 2048]
+    assert list(reversed(d))[:2] == [2 ** 62, -1]
+
+    d[1024] = 42
+    assert list(d.items())[1] == (1024, 42)
+    d2 = d.copy()
+    d2[0] = 'a'
+    assert d[0] == 0 and d2[0] == 'a'
+    del d[0]
+    assert 0 not in d and len(d) == 101
+    assert d.popitem() == (2 ** 62, 2 ** 63 - 1)
+
+    d = {}
+    d[1] = 2
+    d[True] = 3
+    assert list(d.items()) == [(1, 3)]
+    d[2.0] = 4
+    assert list(d.items()) == [(1, 3), (2.0, 4)]
+    assert {1: True}[1] is True
+    assert list({True: 1}) == [True]
@@ -0,0 +1,92 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import sys
+import threading
+import time
+import unittest
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy specific GIL statistics")
+class GilStatsTests(unittest.TestCase):
+    def test_stats_shape(self):
+        stats = __graalpython__.get_gil_stats()
+        for key in ('acquisitions', 'contended_acquisitions', 'wait_ns', 'average_hold_ns'):
+            self.assertIsInstance(stats[key], int)
+            self.assertGreaterEqual(stats[key], 0)
+        self.assertEqual(24, len(stats['hold_time_histogram']))
+        self.assertIsInstance(stats['threads'], dict)
+
+    def test_stats_count_thread_switches(self):
+        def work():
+            deadline = time.time() + 0.2
+            while time.time() < deadline:
+                time.sleep(0.001)
+
+        before = __graalpython__.get_gil_stats()['acquisitions']
+        threads = [threading.Thread(target=work) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        stats = __graalpython__.get_gil_stats()
+        self.assertGreater(stats['acquisitions'], before)
+        self.assertGreater(sum(stats['hold_time_histogram']), 0)
+        self.assertIn(threading.get_ident(), stats['threads'])
+
+    def test_switchinterval(self):
+        was_set = __graalpython__.get_gil_stats()['switch_interval_set']
+        old = sys.getswitchinterval()
+        try:
+            sys.setswitchinterval(0.001)
+            self.assertAlmostEqual(0.001, sys.getswitchinterval())
+            self.assertTrue(__graalpython__.get_gil_stats()['switch_interval_set'])
+            __graalpython__.reset_switchinterval()
+            self.assertAlmostEqual(0.005, sys.getswitchinterval())
+            self.assertFalse(__graalpython__.get_gil_stats()['switch_interval_set'])
+        finally:
+            # only keep a fixed interval if another test had set one
+            if was_set:
+                sys.setswitchinterval(old)
+            else:
+                __graalpython__.reset_switchinterval()
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -80,6 +80,48 @@ class HashlibTest(unittest.TestCase):
         hm = hmac.new(self._get_buffer(), b'data', digestmod=hashlib.sha256)
         self.assertEqual('c449f6626bf7f997cda786d07895f086c2fa18eab25b1c08c4de66a5d46a2a08', hm.hexdigest())
 
+    def test_update_large_and_sliced_buffers(self):
+        data = bytes(range(256)) * 1000
+        expected = hashlib.sha256(data).hexdigest()
+        for buf in (bytearray(data), memoryview(data), memoryview(data)[0:len(data)]):
+            sha = hashlib.sha256()
+            sha.update(buf)
+            self.assertEqual(expected, sha.hexdigest())
+        sha = hashlib.sha256()
+        view = memoryview(data)
+        for i in range(0, len(data), 70001):
+            sha.update(view[i:i + 70001])
+        self.assertEqual(expected, sha.hexdigest())
+
+    def test_update_from_threads(self):
+        import threading
+        chunk = b'x' * 100000
+        sha = hashlib.sha1()
+        threads = [threading.Thread(target=lambda: [sha.update(chunk) for _ in range(10)]) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(hashlib.sha1(chunk * 40).hexdigest(), sha.hexdigest())
+
+    def test_file_digest(self):
+        import io
+        import tempfile
+        data = bytes(range(256)) * 5000
+        with tempfile.TemporaryFile() as f:
+            f.write(data)
+            for buffering in (0, -1):
+                with open(f.fileno(), 'rb', buffering=buffering, closefd=False) as fileobj:
+                    fileobj.seek(0)
+                    fileobj.read(1000)
+                    digest = hashlib.file_digest(fileobj, 'sha256')
+                    self.assertEqual(hashlib.sha256(data[1000:]).hexdigest(), digest.hexdigest())
+                    self.assertEqual(len(data), fileobj.tell())
+                    self.assertEqual(b'', fileobj.read())
+                    fileobj.seek(0)
+                    self.assertEqual(hashlib.md5(data).hexdigest(), hashlib.file_digest(fileobj, hashlib.md5).hexdigest())
+        self.assertEqual(hashlib.sha1(b'abc').hexdigest(), hashlib.file_digest(io.BytesIO(b'abc'), 'sha1').hexdigest())
+
     @staticmethod
     def _get_buffer():
         ba = bytearray(b'ab')
@@ -312,5 +312,57 @@ class IOBaseTests(unittest.TestCase):
         self.assertEqual(["ab\r\n", "cd"], t.readlines())
 
 
+class TextIOWrapperDecodeTests(unittest.TestCase):
+
+    def wrap(self, data, encoding, chunk_size=None, **kwargs):
+        import io
+        t = _io.TextIOWrapper(io.BufferedReader(io.BytesIO(data), 4), encoding=encoding, **kwargs)
+        if chunk_size:
+            t._CHUNK_SIZE = chunk_size
+        return t
+
+    def test_utf8_split_sequences(self):
+        text = "a\u00e9b\u20acc\U0001f600d\n" * 10
+        data = text.encode("utf-8")
+        for chunk_size in (1, 2, 3, 5, 7):
+            self.assertEqual(text, self.wrap(data, "utf-8", chunk_size).read())
+            self.assertEqual(text.splitlines(True), list(self.wrap(data, "utf-8", chunk_size)))
+
+    def test_utf8_tell_seek(self):
+        text = "\u00e9\u20ac\n\U0001f600x\n"
+        t = self.wrap(text.encode("utf-8"), "utf-8", 3)
+        self.assertEqual("\u00e9\u20ac\n", t.readline())
+        pos = t.tell()
+        self.assertEqual("\U0001f600x\n", t.readline())
+        t.seek(pos)
+        self.assertEqual("\U0001f600x\n", t.read())
+
+    def test_utf8_errors(self):
+        t = self.wrap(b"abc\xffdef", "utf-8", 2)
+        self.assertRaises(UnicodeDecodeError, t.read)
+        t = self.wrap(b"abc\xe2\x82", "utf-8", 2)
+        self.assertRaises(UnicodeDecodeError, t.read)
+        t = self.wrap(b"abc\xffdef", "utf-8", 2, errors="replace")
+        self.assertEqual("abc\ufffddef", t.read())
+
+    def test_latin1_and_ascii(self):
+        data = bytes(range(256))
+        self.assertEqual(data.decode("latin-1").replace("\r\n", "\n").replace("\r", "\n"),
+                         self.wrap(data, "latin-1", 5).read())
+        self.assertEqual("ab\ncd\n", self.wrap(b"ab\r\ncd\r", "ascii", 3).read())
+        self.assertRaises(UnicodeDecodeError, self.wrap(b"ab\x80", "ascii").read)
+
+    def test_newlines(self):
+        data = b"a\r\nb\rc\nd"
+        for chunk_size in (1, 2, 3, 100):
+            t = self.wrap(data, "utf-8", chunk_size)
+            self.assertEqual(["a\n", "b\n", "c\n", "d"], t.readlines())
+            self.assertEqual(("\r", "\n", "\r\n"), t.newlines)
+            t = self.wrap(data, "utf-8", chunk_size, newline="")
+            self.assertEqual(["a\r\n", "b\r", "c\n", "d"], t.readlines())
+            t = self.wrap(data, "utf-8", chunk_size, newline="\n")
+            self.assertEqual(["a\r\n", "b\rc\n", "d"], t.readlines())
+
+
 if __name__ == '__main__':
     unittest.main()
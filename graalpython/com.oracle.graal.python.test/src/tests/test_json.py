@@ -37,8 +37,10 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
+import io
 import json
 import os
+import sys
 import unittest
 
 BIGINT_JSON_DATA = '''
@@ -88,3 +90,52 @@ class JsonTest(unittest.TestCase):
         assert s == '{"foo": "\\uda6a"}'
         s = json.dumps({'foo': "\uda6a"}, ensure_ascii=False)
         assert s == '{"foo": "\uda6a"}'
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy', "graalpy-specific streaming decoder")
+class JsonIterScanTest(unittest.TestCase):
+    def iterscan(self, text, **kwargs):
+        import _json
+        return list(_json.iterscan(json.JSONDecoder().scan_once, io.StringIO(text), **kwargs))
+
+    def test_array(self):
+        text = '[1, -2.5e3, "a]\\"b", {"x": [true, null], "y}": "}"}, [[]], false, -Infinity]'
+        expected = json.loads(text)
+        for chunk_size in (1, 2, 3, 7, 65536):
+            self.assertEqual(self.iterscan(text, chunk_size=chunk_size), expected)
+
+    def test_empty_array(self):
+        self.assertEqual(self.iterscan(' [ ] \n', chunk_size=1), [])
+
+    def test_ndjson(self):
+        lines = [{"id": i, "name": "n%d" % i, "tags": ["a", "b"]} for i in range(100)]
+        text = "\n".join(json.dumps(line) for line in lines) + "\n"
+        for chunk_size in (1, 5, 64):
+            self.assertEqual(self.iterscan(text, array=False, chunk_size=chunk_size), lines)
+        self.assertEqual(self.iterscan('1 "a" [2]\n{}', array=False), [1, "a", [2], {}])
+        self.assertEqual(self.iterscan('  \n', array=False), [])
+
+    def test_hooks(self):
+        import _json
+        decoder = json.JSONDecoder(object_hook=lambda d: sorted(d), parse_int=str)
+        it = _json.iterscan(decoder.scan_once, io.StringIO('[{"b": 1, "a": 2}, 3]'), chunk_size=4)
+        self.assertEqual(list(it), [["a", "b"], "3"])
+
+    def test_lazy(self):
+        import _json
+        it = _json.iterscan(json.JSONDecoder().scan_once, io.StringIO('[1, 2, oops]'))
+        self.assertEqual(next(it), 1)
+        self.assertEqual(next(it), 2)
+        self.assertRaises(json.JSONDecodeError, next, it)
+
+    def test_errors(self):
+        for text in ('', '{}', '[1,]', '[1 2]', '[1, 2', '[1] 2', '["abc', '[{"a": 1]', '[1x]'):
+            with self.assertRaises(json.JSONDecodeError, msg=text):
+                self.iterscan(text, chunk_size=2)
+        with self.assertRaises(json.JSONDecodeError):
+            self.iterscan('1 2x', array=False)
+        with self.assertRaises(ValueError):
+            self.iterscan('[]', chunk_size=0)
+        import _json
+        with self.assertRaises(TypeError):
+            list(_json.iterscan(json.JSONDecoder().scan_once, io.BytesIO(b'[1]')))
@@ -856,6 +856,33 @@ class ListCompareTest(CompareTest):
         l.reverse()
         self.assertEqual([1], l)
 
+    @unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy specific option")
+    def test_parallel_sort(self):
+        import subprocess
+        code = """if True:
+            import random
+            random.seed(42)
+            ints = [random.randint(-1000, 1000) for _ in range(5000)]
+            floats = [random.random() for _ in range(5000)]
+            strs = [str(i) for i in ints]
+            for data in (ints, floats, strs):
+                for reverse in (False, True):
+                    assert sorted(data, reverse=reverse) == sorted(data, key=lambda x: (x,), reverse=reverse)
+            # keys are all ints, so this takes the key sort path; check that it is stable
+            pairs = [(x, i) for i, x in enumerate(ints)]
+            for reverse in (False, True):
+                res = sorted(pairs, key=lambda p: p[0], reverse=reverse)
+                assert res == sorted(pairs, key=lambda p: (p[0], -p[1] if reverse else p[1]), reverse=reverse)
+            # object storage holding only ints
+            objs = [None] + ints
+            objs.pop(0)
+            objs.sort()
+            assert objs == sorted(ints)
+            print('DONE')
+        """
+        result = subprocess.check_output([sys.executable, '-S', '--experimental-options', '--python.ParallelSortThreshold=2', '-c', code], text=True)
+        self.assertIn('DONE', result)
+
 
 if __name__ == '__main__':
     unittest.main()
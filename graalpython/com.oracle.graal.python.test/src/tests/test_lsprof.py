@@ -0,0 +1,129 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import cProfile
+import pstats
+import threading
+import unittest
+
+
+def fib(n):
+    if n < 2:
+        return n
+    return fib(n - 1) + fib(n - 2)
+
+
+def call_builtins(n):
+    result = []
+    for i in range(n):
+        result.append(abs(-i))
+    return result
+
+
+def stats_by_name(profiler):
+    stats = pstats.Stats(profiler).stats
+    return {func[2]: value for func, value in stats.items()}
+
+
+class LsprofTests(unittest.TestCase):
+    def test_exact_call_counts(self):
+        profiler = cProfile.Profile()
+        profiler.enable()
+        fib(10)
+        profiler.disable()
+        cc, nc, tt, ct, callers = stats_by_name(profiler)["fib"]
+        self.assertEqual(1, cc)
+        self.assertEqual(177, nc)
+        self.assertGreaterEqual(ct, tt)
+        self.assertGreaterEqual(tt, 0)
+
+    def test_subcalls(self):
+        profiler = cProfile.Profile()
+        profiler.runcall(fib, 5)
+        callers = stats_by_name(profiler)["fib"][4]
+        self.assertEqual(1, len(callers))
+        (caller, (nc, rc, tt, ct)), = callers.items()
+        self.assertEqual("fib", caller[2])
+        self.assertEqual(14, nc)
+
+    def test_builtins(self):
+        profiler = cProfile.Profile()
+        profiler.runcall(call_builtins, 20)
+        stats = stats_by_name(profiler)
+        self.assertEqual(20, stats["<built-in method builtins.abs>"][1])
+        self.assertEqual(20, stats["<method 'append' of 'list' objects>"][1])
+
+    def test_no_builtins(self):
+        profiler = cProfile.Profile(builtins=False)
+        profiler.runcall(call_builtins, 20)
+        stats = stats_by_name(profiler)
+        self.assertNotIn("<built-in method builtins.abs>", stats)
+        self.assertEqual(1, stats["call_builtins"][1])
+
+    def test_clear(self):
+        profiler = cProfile.Profile()
+        profiler.runcall(fib, 5)
+        profiler.clear()
+        profiler.runcall(fib, 3)
+        self.assertEqual(5, stats_by_name(profiler)["fib"][1])
+
+    def test_external_timer(self):
+        ticks = [0]
+
+        def timer():
+            ticks[0] += 1
+            return ticks[0]
+
+        profiler = cProfile.Profile(timer, 0.5)
+        profiler.runcall(fib, 3)
+        tt = stats_by_name(profiler)["fib"][3]
+        self.assertGreater(tt, 0)
+        self.assertEqual(0, tt % 0.5)
+
+    def test_threads(self):
+        def worker():
+            profiler.enable()
+            fib(6)
+            profiler.disable()
+
+        profiler = cProfile.Profile()
+        thread = threading.Thread(target=worker)
+        thread.start()
+        thread.join()
+        self.assertEqual(25, stats_by_name(profiler)["fib"][1])
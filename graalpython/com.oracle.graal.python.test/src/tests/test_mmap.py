@@ -38,6 +38,7 @@
 # SOFTWARE.
 
 import mmap
+import sys
 
 PAGESIZE = mmap.PAGESIZE
 FIND_BUFFER_SIZE = 1024  # keep in sync with FindNode#BUFFER_SIZE
@@ -103,4 +104,58 @@ def test_iter():
     for i in m:
         l.append(i)
 
-    assert l == [b'\x02', b'\x03', b'\x04']
\ No newline at end of file
+    assert l == [b'\x02', b'\x03', b'\x04']
+
+
+def test_mmap_array():
+    if sys.implementation.name != 'graalpy' or __graalpython__.posix_module_backend() == 'java':
+        return
+    import array
+    import tempfile
+    with tempfile.TemporaryFile() as f:
+        f.write(array.array('d', range(512)).tobytes())
+        f.flush()
+        m = mmap.mmap(f.fileno(), 0)
+        a = __graalpython__.mmap_array('d', m)
+        assert len(a) == 512
+        assert a[511] == 511.0
+        a[0] = 42.5
+        assert m[:8] == array.array('d', [42.5]).tobytes()
+        assert memoryview(a).cast('B')[:8] == m[:8]
+        try:
+            a.append(1.0)
+        except BufferError:
+            pass
+        else:
+            assert False
+        try:
+            m.close()
+        except BufferError:
+            pass
+        else:
+            assert False
+        try:
+            __graalpython__.mmap_array('q', mmap.mmap(-1, 12))
+        except ValueError:
+            pass
+        else:
+            assert False
+
+
+def test_mmap_array_close_after_collect():
+    if sys.implementation.name != 'graalpy' or __graalpython__.posix_module_backend() == 'java':
+        return
+    import gc
+    with mmap.mmap(-1, PAGESIZE) as m:
+        a = __graalpython__.mmap_array('b', m)
+        a[0] = 7
+        assert m[0] == 7
+        del a
+        for i in range(100):
+            gc.collect()
+            try:
+                m.close()
+                break
+            except BufferError:
+                pass
+        assert m.closed
@@ -96,3 +96,59 @@ if sys.implementation.name == 'graalpy':
         res = wait([b, x], 3)
         assert res == [x], "res3"
         assert x.recv() == 33, "res4"
+
+
+    class ZeroCopyBytes(bytes):
+        def __reduce_ex__(self, protocol):
+            if protocol >= 5:
+                import pickle
+                return type(self)._reconstruct, (pickle.PickleBuffer(self),), None
+            return type(self)._reconstruct, (bytes(self),)
+
+        reconstructed = 0
+
+        @classmethod
+        def _reconstruct(cls, obj):
+            cls.reconstructed += 1
+            with memoryview(obj) as m:
+                return cls(m)
+
+
+    @graalpy_multiprocessing
+    def test_pipe_out_of_band_buffers():
+        x, y = multiprocessing.connection.Pipe(False)  # Truffle multiprocessing pipe
+        payload = ZeroCopyBytes(b'abc' * 100000)
+        y.send([1, payload, 'x'])
+        res = x.recv()
+        assert res == [1, payload, 'x'], "res1"
+        assert type(res[1]) is ZeroCopyBytes, "res2"
+        # the bytes API still receives a regular pickle, without unpickling it on the way
+        y.send(payload)
+        reconstructed = ZeroCopyBytes.reconstructed
+        data = x.recv_bytes()
+        assert ZeroCopyBytes.reconstructed == reconstructed, "res3"
+        assert multiprocessing.reduction.ForkingPickler.loads(data) == payload, "res4"
+
+
+    @graalpy_multiprocessing
+    def test_pipe_out_of_band_writable_buffers():
+        import pickle
+        x, y = multiprocessing.connection.Pipe(False)  # Truffle multiprocessing pipe
+        y.send([pickle.PickleBuffer(bytearray(b'abc')), pickle.PickleBuffer(b'def')])
+        res = x.recv()
+        assert type(res[0]) is bytearray and res[0] == b'abc', "res1"
+        assert type(res[1]) is bytes and res[1] == b'def', "res2"
+        y.send(pickle.PickleBuffer(bytearray(b'abc')))
+        res = multiprocessing.reduction.ForkingPickler.loads(x.recv_bytes())
+        assert type(res) is bytearray and res == b'abc', "res3"
+
+
+    @graalpy_multiprocessing
+    def test_pipe_send_bytes_buffer():
+        x, y = multiprocessing.connection.Pipe(False)  # Truffle multiprocessing pipe
+        data = bytearray(b'0123456789')
+        y.send_bytes(data, 2, 5)
+        data[3] = ord('x')
+        assert x.recv_bytes() == b'23456', "res1"
+        y.send_bytes(b'abc')
+        assert x.recv_bytes() == b'abc', "res2"
@@ -67,6 +67,78 @@ class TestPickle(unittest.TestCase):
         assert [16, 17, 18, 19] == [next(teeit2) for i in range(1, 5)]
         assert [16, 17, 18, 19] == [next(teeit) for i in range(1, 5)]
 
+    def py_dumps(self, obj, protocol):
+        import io
+        f = io.BytesIO()
+        pickle._Pickler(f, protocol).dump(obj)
+        return f.getvalue()
+
+    def test_primitive_lists(self):
+        lists = [
+            [7],
+            list(range(-300, 70000, 7)),
+            [1, 2 ** 31 - 1, -2 ** 31, 2 ** 31, -2 ** 31 - 1, 2 ** 62],
+            [0.5, -0.0, float('inf'), 1e300],
+            [float(i) for i in range(2500)],
+        ]
+        for proto in range(1, pickle.HIGHEST_PROTOCOL + 1):
+            for lst in lists:
+                data = pickle.dumps(lst, protocol=proto)
+                self.assertEqual(data, self.py_dumps(lst, proto))
+                self.assertEqual(pickle.loads(data), lst)
+
+    def test_primitive_list_persistent_id(self):
+        class MyPickler(pickle.Pickler):
+            def persistent_id(self, obj):
+                return 'seven' if obj == 7 else None
+
+        class MyUnpickler(pickle.Unpickler):
+            def persistent_load(self, pid):
+                return 'seven'
+
+        import io
+        f = io.BytesIO()
+        MyPickler(f, 4).dump([1, 7, 8])
+        f.seek(0)
+        self.assertEqual(MyUnpickler(f).load(), [1, 'seven', 8])
+
+    def test_primitive_list_modified_by_write(self):
+        class File:
+            def __init__(self, lst, modify):
+                self.lst = lst
+                self.modify = modify
+                self.chunks = []
+
+            def write(self, data):
+                self.chunks.append(bytes(data))
+                self.modify(self.lst)
+
+        def generalize(lst):
+            lst[:] = [str(i) for i in range(len(lst))]
+
+        def shrink(lst):
+            del lst[len(lst) // 2:]
+
+        for modify in [list.clear, shrink, generalize, lambda lst: lst.extend(range(10))]:
+            for items in [list(range(100000)), [i * 0.5 for i in range(100000)], [i << 40 for i in range(100000)]]:
+                f = File(items, modify)
+                pickle.Pickler(f, 4).dump(items)
+                res = pickle.loads(b''.join(f.chunks))
+                self.assertIsInstance(res, list)
+                self.assertGreater(len(f.chunks), 1)
+
+    def test_pickler_reuse(self):
+        import io
+        f = io.BytesIO()
+        pickler = pickle.Pickler(f, 4)
+        objects = [list(range(100000)), "x" * 300000, {"a": [1.5] * 50000}, b"y" * 10]
+        for obj in objects:
+            pickler.dump(obj)
+        f.seek(0)
+        unpickler = pickle.Unpickler(f)
+        for obj in objects:
+            self.assertEqual(unpickler.load(), obj)
+
     def test_intrinsified_module(self):
         import _pickle
         assert pickle.Pickler is _pickle.Pickler
@@ -893,5 +893,67 @@ class SysconfTests(unittest.TestCase):
             assert False
 
 
+class FileTransferTests(unittest.TestCase):
+
+    DATA = b'0123456789' * 1000
+
+    def setUp(self):
+        with open(TEST_FULL_PATH1, os.O_WRONLY | os.O_CREAT | os.O_TRUNC) as fd:
+            os.write(fd, self.DATA)
+
+    def tearDown(self):
+        for teardown_file in [TEST_FULL_PATH1, TEST_FULL_PATH2]:
+            try:
+                os.unlink(teardown_file)
+            except FileNotFoundError:
+                pass
+
+    def test_pread_pwrite(self):
+        with open(TEST_FULL_PATH1, os.O_RDWR) as fd:
+            self.assertEqual(b'345', os.pread(fd, 3, 3))
+            self.assertEqual(0, os.lseek(fd, 0, os.SEEK_CUR))
+            self.assertEqual(b'', os.pread(fd, 3, len(self.DATA)))
+            self.assertEqual(2, os.pwrite(fd, b'ab', 1))
+            self.assertEqual(0, os.lseek(fd, 0, os.SEEK_CUR))
+            self.assertEqual(b'0ab3', os.read(fd, 4))
+            self.assertRaises(OSError, os.pread, fd, -1, 0)
+
+    @unittest.skipUnless(hasattr(os, 'sendfile') and sys.platform.startswith('linux'), 'sendfile to a regular file requires Linux')
+    def test_sendfile_to_file(self):
+        with open(TEST_FULL_PATH1, os.O_RDONLY) as src, open(TEST_FULL_PATH2, os.O_WRONLY | os.O_CREAT | os.O_TRUNC) as dst:
+            offset = 0
+            while True:
+                sent = os.sendfile(dst, src, offset, 4096)
+                if sent == 0:
+                    break
+                offset += sent
+            self.assertEqual(len(self.DATA), offset)
+            # an explicit offset does not move the file position of the source
+            self.assertEqual(0, os.lseek(src, 0, os.SEEK_CUR))
+        with open(TEST_FULL_PATH2, os.O_RDONLY) as fd:
+            self.assertEqual(self.DATA, os.read(fd, len(self.DATA) + 1))
+
+    @unittest.skipUnless(hasattr(os, 'sendfile'), 'requires os.sendfile')
+    def test_sendfile_to_socket(self):
+        import socket
+        a, b = socket.socketpair()
+        with a, b, open(TEST_FULL_PATH1, os.O_RDONLY) as src:
+            self.assertEqual(100, os.sendfile(a.fileno(), src, 10, 100))
+            self.assertEqual(self.DATA[10:110], b.recv(200))
+
+    @unittest.skipUnless(hasattr(os, 'copy_file_range'), 'requires os.copy_file_range')
+    def test_copy_file_range(self):
+        with open(TEST_FULL_PATH1, os.O_RDONLY) as src, open(TEST_FULL_PATH2, os.O_RDWR | os.O_CREAT | os.O_TRUNC) as dst:
+            try:
+                copied = os.copy_file_range(src, dst, 10, offset_src=5)
+            except OSError as e:
+                # the syscall is not available on old kernels or some file systems
+                self.skipTest(str(e))
+            self.assertEqual(10, copied)
+            self.assertEqual(0, os.lseek(src, 0, os.SEEK_CUR))
+            self.assertEqual(10, os.lseek(dst, 0, os.SEEK_CUR))
+            self.assertEqual(self.DATA[5:15], os.pread(dst, 20, 0))
+
+
 if __name__ == '__main__':
     unittest.main()
@@ -307,6 +307,25 @@ class ReTests(unittest.TestCase):
         self.assertEqual(re.subn("b*", "x", "xyz", 2), ('xxxyz', 2))
         self.assertEqual(re.subn("b*", "x", "xyz", count=2), ('xxxyz', 2))
 
+    def test_re_sub_template_and_callable(self):
+        self.assertEqual(re.sub(r"(a)|(b)", r"[\1\2]", "abc"), "[a][b]c")
+        self.assertEqual(re.sub(r"(?P<x>\w)(\d)", r"\2\g<x>", "a1 b2"), "1a 2b")
+        self.assertEqual(re.sub(rb"(\w)(\d)", rb"\2\1", bytearray(b"a1 b2")), b"1a 2b")
+        self.assertEqual(re.sub(b"a", bytearray(b"xy"), b"banana"), b"bxynxynxy")
+        self.assertEqual(re.subn(r"\d", lambda m: str(int(m.group()) * 2), "1 2 3", 2), ("2 4 3", 2))
+        self.assertEqual(re.sub(rb"\d", lambda m: None, b"a1b2"), b"ab")
+        self.assertEqual(re.sub(r"x*", "-", "abxd"), "-a-b--d-")
+        self.assertRaises(TypeError, re.sub, "a", lambda m: 1, "a")
+        self.assertRaises(TypeError, re.sub, b"a", lambda m: "x", b"a")
+
+    def test_re_findall_bounds(self):
+        p = re.compile(r"\w")
+        self.assertEqual(p.findall("abcde", 1, 3), ["b", "c"])
+        self.assertEqual(p.findall("abcde", 3, 1), [])
+        self.assertEqual(p.findall("abcde", -5, 100), ["a", "b", "c", "d", "e"])
+        self.assertEqual(re.compile(r"\w$").findall("abc", 0, 2), ["b"])
+        self.assertEqual(re.findall(rb"(a)|(b)", b"ab"), [(b"a", b""), (b"", b"b")])
+
     def test_re_split(self):
         for string in ":a:b::c", S(":a:b::c"):
             self.assertTypedEqual(re.split(":", string),
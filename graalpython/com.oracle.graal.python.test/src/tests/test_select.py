@@ -39,8 +39,11 @@
 
 import os
 import select
+import socket
 import sys
 import tempfile
+import threading
+import time
 import unittest
 
 PREFIX = 'select_graalpython_test'
@@ -95,3 +98,127 @@ class SelectTests(unittest.TestCase):
             fds = [F(f.fileno()), F(stdout_fd), F(f.fileno())]
             res = select.select(fds, [], [], 1)
             assert res == ([fds[0], fds[2]], [], [])
+
+
+class PollTests(unittest.TestCase):
+    def test_poll_register_modify_unregister(self):
+        a, b = socket.socketpair()
+        with a, b:
+            p = select.poll()
+            p.register(a, select.POLLIN)
+            self.assertEqual(p.poll(0), [])
+            b.send(b'x')
+            self.assertEqual(p.poll(1000), [(a.fileno(), select.POLLIN)])
+            p.modify(a, select.POLLOUT)
+            self.assertEqual(p.poll(1000), [(a.fileno(), select.POLLOUT)])
+            p.unregister(a)
+            self.assertEqual(p.poll(0), [])
+            self.assertRaises(KeyError, p.unregister, a)
+            self.assertRaises(OSError, p.modify, a, select.POLLIN)
+
+    def test_poll_repeated(self):
+        a, b = socket.socketpair()
+        with a, b:
+            p = select.poll()
+            p.register(a, select.POLLIN)
+            b.send(b'x')
+            # the registrations are reused across calls
+            for i in range(10):
+                self.assertEqual(p.poll(1000), [(a.fileno(), select.POLLIN)])
+            a.recv(1)
+            self.assertEqual(p.poll(0), [])
+
+
+@unittest.skipUnless(hasattr(select, 'epoll'), 'epoll is only available on Linux')
+class EpollTests(unittest.TestCase):
+    def test_epoll_register_modify_unregister(self):
+        a, b = socket.socketpair()
+        with a, b, select.epoll() as ep:
+            ep.register(a.fileno(), select.EPOLLIN)
+            self.assertEqual(ep.poll(0), [])
+            b.send(b'x')
+            self.assertEqual(ep.poll(1), [(a.fileno(), select.EPOLLIN)])
+            ep.modify(a.fileno(), select.EPOLLOUT)
+            self.assertEqual(ep.poll(1), [(a.fileno(), select.EPOLLOUT)])
+            ep.unregister(a.fileno())
+            self.assertEqual(ep.poll(0), [])
+            self.assertRaises(FileExistsError, self._register_twice, ep, a)
+
+    def _register_twice(self, ep, s):
+        ep.register(s, select.EPOLLIN)
+        ep.register(s, select.EPOLLIN)
+
+    def test_epoll_maxevents(self):
+        socks = [socket.socketpair() for i in range(3)]
+        try:
+            with select.epoll() as ep:
+                for a, b in socks:
+                    ep.register(a, select.EPOLLOUT)
+                self.assertEqual(len(ep.poll(1)), 3)
+                self.assertEqual(len(ep.poll(1, 2)), 2)
+                self.assertRaises(ValueError, ep.poll, 1, 0)
+        finally:
+            for a, b in socks:
+                a.close()
+                b.close()
+
+    def test_epoll_closed(self):
+        ep = select.epoll()
+        self.assertFalse(ep.closed)
+        self.assertGreaterEqual(ep.fileno(), 0)
+        ep.close()
+        self.assertTrue(ep.closed)
+        ep.close()
+        self.assertRaises(ValueError, ep.fileno)
+        self.assertRaises(ValueError, ep.poll, 0)
+        self.assertRaises(ValueError, ep.register, 0)
+
+    def test_epoll_unsigned_constants(self):
+        self.assertGreater(select.EPOLLET, 0)
+        self.assertEqual(select.EPOLLET, 1 << 31)
+
+    def test_epoll_keeps_blocking_mode(self):
+        a, b = socket.socketpair()
+        with a, b, select.epoll() as ep:
+            ep.register(a.fileno(), select.EPOLLIN)
+            self.assertEqual(ep.poll(0), [])
+            self.assertTrue(a.getblocking())
+
+            def send_later():
+                time.sleep(0.1)
+                b.send(b'x')
+
+            t = threading.Thread(target=send_later)
+            t.start()
+            # a blocking recv on a registered socket waits instead of raising BlockingIOError
+            self.assertEqual(a.recv(1), b'x')
+            t.join()
+            a.setblocking(False)
+            self.assertRaises(BlockingIOError, a.recv, 1)
+            a.setblocking(True)
+            b.send(b'y')
+            self.assertEqual(ep.poll(1), [(a.fileno(), select.EPOLLIN)])
+            self.assertEqual(a.recv(1), b'y')
+
+    def test_epoll_unregister_keeps_blocking_mode(self):
+        a, b = socket.socketpair()
+        with a, b, select.epoll() as ep:
+            ep.register(a.fileno(), select.EPOLLIN)
+            for i in range(3):
+                b.send(b'x')
+                # the registration is kept across waits
+                self.assertEqual(ep.poll(1), [(a.fileno(), select.EPOLLIN)])
+                self.assertEqual(a.recv(1), b'x')
+            ep.unregister(a.fileno())
+            self.assertTrue(a.getblocking())
+
+            def send_later():
+                time.sleep(0.1)
+                b.send(b'z')
+
+            t = threading.Thread(target=send_later)
+            t.start()
+            self.assertEqual(a.recv(1), b'z')
+            t.join()
+            ep.register(a.fileno(), select.EPOLLIN)
+            self.assertEqual(ep.poll(0), [])
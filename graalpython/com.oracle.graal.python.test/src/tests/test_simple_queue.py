@@ -0,0 +1,135 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import faulthandler
+import queue
+import tempfile
+import threading
+import time
+import unittest
+
+
+class SimpleQueueTests(unittest.TestCase):
+    def test_fifo(self):
+        q = queue.SimpleQueue()
+        for i in range(100):
+            q.put(i)
+        self.assertEqual(100, q.qsize())
+        self.assertEqual(list(range(100)), [q.get() for _ in range(100)])
+        self.assertTrue(q.empty())
+        self.assertRaises(queue.Empty, q.get_nowait)
+        self.assertRaises(queue.Empty, q.get, False)
+
+    def test_timeout(self):
+        q = queue.SimpleQueue()
+        start = time.monotonic()
+        self.assertRaises(queue.Empty, q.get, timeout=0.05)
+        self.assertGreaterEqual(time.monotonic() - start, 0.04)
+        self.assertRaises(queue.Empty, q.get, timeout=0)
+        self.assertRaises(ValueError, q.get, timeout=-1)
+
+    def test_handoff(self):
+        q = queue.SimpleQueue()
+        results = queue.SimpleQueue()
+        n_consumers = 4
+        n_items = 1000
+
+        def consumer():
+            total = 0
+            while True:
+                item = q.get()
+                if item is None:
+                    break
+                total += item
+            results.put(total)
+
+        threads = [threading.Thread(target=consumer) for _ in range(n_consumers)]
+        for t in threads:
+            t.start()
+        for i in range(n_items):
+            q.put(i)
+        for _ in range(n_consumers):
+            q.put(None)
+        for t in threads:
+            t.join()
+        self.assertEqual(sum(range(n_items)), sum(results.get_nowait() for _ in range(n_consumers)))
+
+    def test_blocked_get_is_woken_up(self):
+        q = queue.SimpleQueue()
+        received = []
+
+        def consumer():
+            received.append(q.get(timeout=10))
+
+        t = threading.Thread(target=consumer)
+        t.start()
+        time.sleep(0.05)
+        q.put("item")
+        t.join()
+        self.assertEqual(["item"], received)
+
+    def test_wakeup_with_safepoint_interrupts(self):
+        # dumping the tracebacks of all threads interrupts the blocked getters, which must not lose
+        # a wakeup that arrives at the same time
+        q = queue.SimpleQueue()
+        done = queue.SimpleQueue()
+        n_consumers = 4
+        n_rounds = 200
+
+        def consumer():
+            while q.get() is not None:
+                done.put(True)
+
+        threads = [threading.Thread(target=consumer, daemon=True) for _ in range(n_consumers)]
+        for t in threads:
+            t.start()
+        try:
+            with tempfile.TemporaryFile() as f:
+                for _ in range(n_rounds):
+                    for _ in range(n_consumers):
+                        q.put(1)
+                    faulthandler.dump_traceback(f, all_threads=True)
+                    for _ in range(n_consumers):
+                        done.get(timeout=30)
+        finally:
+            for _ in range(n_consumers):
+                q.put(None)
+            for t in threads:
+                t.join(timeout=30)
+        self.assertFalse(any(t.is_alive() for t in threads))
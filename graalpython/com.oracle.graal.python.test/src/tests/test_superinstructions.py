@@ -0,0 +1,137 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+# Pairs of LOAD_FAST followed by LOAD_FAST or LOAD_ATTR on the same line are fused into
+# superinstructions by the bytecode compiler, these tests exercise their corner cases.
+
+import sys
+
+
+class Point:
+    def __init__(self, x, y):
+        self.x = x
+        self.y = y
+
+
+def load_attr(p):
+    return p.x
+
+
+def load_two(a, b):
+    return (a, b)
+
+
+def test_load_fast_load_attr():
+    for i in range(100):
+        assert load_attr(Point(i, 0)) == i
+    try:
+        load_attr(object())
+    except AttributeError as e:
+        assert e.__traceback__.tb_next.tb_lineno == load_attr.__code__.co_firstlineno + 1
+    else:
+        assert False
+
+
+def test_load_fast_load_fast():
+    for i in range(100):
+        assert load_two(i, str(i)) == (i, str(i))
+
+
+def test_primitive_locals():
+    def f(n):
+        total = 0
+        for i in range(n):
+            x = i * 2
+            y = float(i)
+            total += len((x, y))
+        return (x, y)
+
+    for _ in range(50):
+        assert f(10) == (18, 9.0)
+
+
+def test_unbound_second_local():
+    def f(flag):
+        if flag:
+            b = 1
+        a = 2
+        return (a, b)
+
+    assert f(True) == (2, 1)
+    try:
+        f(False)
+    except UnboundLocalError as e:
+        assert 'b' in str(e)
+    else:
+        assert False
+
+
+def test_many_locals():
+    ns = {}
+    names = [f"v{i}" for i in range(300)]
+    src = "def f():\n" + "".join(f"    {n} = {i}\n" for i, n in enumerate(names))
+    src += "    return (v0, v1, v299, v2)\n"
+    exec(src, ns)
+    assert ns['f']() == (0, 1, 299, 2)
+
+
+def test_generator():
+    def gen(p, q):
+        for _ in range(3):
+            yield (p, q)
+            yield p.x
+
+    p = Point(1, 2)
+    assert list(gen(p, 3)) == [(p, 3), 1] * 3
+
+
+def test_tracing():
+    lines = []
+
+    def tracer(frame, event, arg):
+        if frame.f_code is load_attr.__code__ and event == 'line':
+            lines.append(frame.f_lineno)
+        return tracer
+
+    sys.settrace(tracer)
+    try:
+        load_attr(Point(1, 2))
+    finally:
+        sys.settrace(None)
+    assert lines == [load_attr.__code__.co_firstlineno + 1]
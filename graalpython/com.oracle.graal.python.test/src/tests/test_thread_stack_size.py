@@ -0,0 +1,86 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import threading
+import unittest
+
+# the smallest size accepted by threading.stack_size(), THREAD_STACK_MIN in CPython
+THREAD_STACK_MIN = 32 * 1024
+
+
+class ThreadStackSizeTests(unittest.TestCase):
+    def tearDown(self):
+        threading.stack_size(0)
+
+    def test_invalid_sizes(self):
+        self.assertRaises(ValueError, threading.stack_size, -1)
+        self.assertRaises(ValueError, threading.stack_size, 4096)
+        self.assertEqual(0, threading.stack_size())
+
+    def test_set_and_get(self):
+        self.assertEqual(0, threading.stack_size(512 * 1024))
+        self.assertEqual(512 * 1024, threading.stack_size())
+
+    def test_many_threads_with_small_stack(self):
+        threading.stack_size(256 * 1024)
+        results = []
+        lock = threading.Lock()
+
+        def work(i):
+            with lock:
+                results.append(i)
+
+        threads = [threading.Thread(target=work, args=(i,)) for i in range(64)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(list(range(64)), sorted(results))
+
+    def test_recursion_with_min_stack_size(self):
+        threading.stack_size(THREAD_STACK_MIN)
+        results = []
+
+        def recurse(n):
+            return 0 if n == 0 else recurse(n - 1) + 1
+
+        t = threading.Thread(target=lambda: results.append(recurse(200)))
+        t.start()
+        t.join()
+        self.assertEqual([200], results)
@@ -0,0 +1,120 @@
+# Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import tracemalloc
+import unittest
+
+
+class Obj:
+    pass
+
+
+def allocate_lists(n):
+    return [[i] * 16 for i in range(n)]
+
+
+class TracemallocTests(unittest.TestCase):
+    def setUp(self):
+        tracemalloc.start(5)
+
+    def tearDown(self):
+        tracemalloc.stop()
+
+    def test_start_stop(self):
+        self.assertTrue(tracemalloc.is_tracing())
+        self.assertEqual(5, tracemalloc.get_traceback_limit())
+        tracemalloc.stop()
+        self.assertFalse(tracemalloc.is_tracing())
+        self.assertEqual((0, 0), tracemalloc.get_traced_memory())
+        self.assertRaises(ValueError, tracemalloc.start, 0)
+        self.assertRaises(RuntimeError, tracemalloc.take_snapshot)
+
+    def test_traced_memory(self):
+        before, _ = tracemalloc.get_traced_memory()
+        data = allocate_lists(1000)
+        current, peak = tracemalloc.get_traced_memory()
+        self.assertGreater(current, before)
+        self.assertGreaterEqual(peak, current)
+        tracemalloc.reset_peak()
+        current2, peak2 = tracemalloc.get_traced_memory()
+        self.assertLess(peak2 - current2, 4096)
+        del data
+        tracemalloc.clear_traces()
+        self.assertLess(tracemalloc.get_traced_memory()[0], current)
+
+    def test_object_traceback(self):
+        obj = bytearray(100)
+        tb = tracemalloc.get_object_traceback(obj)
+        self.assertIsNotNone(tb)
+        self.assertEqual(__file__, tb[-1].filename)
+        self.assertIsNone(tracemalloc.get_object_traceback(Obj))
+        self.assertLessEqual(len(tb), 5)
+
+    def test_get_traces_not_traced(self):
+        data = allocate_lists(100)
+        traces = tracemalloc._get_traces()
+        self.assertTrue(traces)
+        # the result is built while tracing is suspended for this thread
+        self.assertIsNone(tracemalloc.get_object_traceback(traces))
+        self.assertIsNone(tracemalloc.get_object_traceback(traces[0]))
+        del data
+
+    def test_snapshot_statistics(self):
+        data = allocate_lists(1000)
+        snapshot = tracemalloc.take_snapshot()
+        snapshot = snapshot.filter_traces([tracemalloc.Filter(True, __file__)])
+        stats = snapshot.statistics('lineno')
+        self.assertTrue(stats)
+        self.assertIn(allocate_lists.__code__.co_firstlineno + 1, [stat.traceback[0].lineno for stat in stats])
+        del data
+
+    def test_snapshot_compare(self):
+        first = tracemalloc.take_snapshot()
+        data = allocate_lists(1000)
+        second = tracemalloc.take_snapshot()
+        diff = second.compare_to(first, 'filename')
+        stat = [d for d in diff if d.traceback[0].filename == __file__]
+        self.assertTrue(stat)
+        self.assertGreater(stat[0].size_diff, 0)
+        self.assertGreater(stat[0].count_diff, 0)
+        del data
+
+
+if __name__ == '__main__':
+    unittest.main()
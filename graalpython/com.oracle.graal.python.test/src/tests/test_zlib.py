@@ -160,6 +160,46 @@ class CompressTests(BaseCompressTestCase, unittest.TestCase):
         self.assertRaises(zlib.error, d.decompress, b"asdf")
         d.flush()
 
+    def test_large_data(self):
+        data = os.urandom(100000) + HAMLET_SCENE * 2000
+        compressed = zlib.compress(data)
+        self.assertEqual(zlib.decompress(compressed), data)
+        self.assertEqual(zlib.decompress(compressed, 15, 1), data)
+        c = zlib.compressobj()
+        compressed = b''.join(c.compress(data[i:i + 70000]) for i in range(0, len(data), 70000)) + c.flush()
+        self.assertEqual(zlib.decompress(compressed), data)
+
+    def test_decompressobj_max_length(self):
+        data = HAMLET_SCENE * 100
+        d = zlib.decompressobj()
+        chunks = [d.decompress(zlib.compress(data), 1000)]
+        while d.unconsumed_tail:
+            self.assertEqual(1000, len(chunks[-1]))
+            chunks.append(d.decompress(d.unconsumed_tail, 1000))
+        chunks.append(d.flush())
+        self.assertEqual(b''.join(chunks), data)
+        self.assertTrue(d.eof)
+
+    def test_decompress_bytearray_with_spare_capacity(self):
+        buf = bytearray(zlib.compress(HAMLET_SCENE) + b'xy')
+        del buf[-2:]
+        d = zlib.decompressobj()
+        self.assertEqual(d.decompress(buf), HAMLET_SCENE)
+        self.assertEqual(d.unused_data, b'')
+
+    def test_threads(self):
+        import threading
+        data = HAMLET_SCENE * 1000
+        results = []
+        def work():
+            results.append(zlib.decompress(zlib.compress(data)) == data)
+        threads = [threading.Thread(target=work) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual([True] * 4, results)
+
 
 HAMLET_SCENE = b"""
 LAERTES
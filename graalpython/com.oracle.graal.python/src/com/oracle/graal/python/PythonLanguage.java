@@ -80,6 +80,7 @@ import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.slots.TpSlot;
+import com.oracle.graal.python.compiler.BytecodeCache;
 import com.oracle.graal.python.compiler.CodeUnit;
 import com.oracle.graal.python.compiler.CompilationUnit;
 import com.oracle.graal.python.compiler.Compiler;
@@ -315,6 +316,12 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
      */
     public final Assumption noTracingOrProfilingAssumption = Assumption.create("No tracing function was set");
 
+    /**
+     * This assumption will be valid if no context started {@code tracemalloc} at any point. Stopping
+     * it again will not re-validate the assumption.
+     */
+    public final Assumption noTracemallocAssumption = Assumption.create("tracemalloc was never started");
+
     @CompilationFinal private boolean singleContext = true;
 
     @Idempotent
@@ -560,6 +567,9 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
                 throw new IllegalStateException("parse with arguments not allowed for interactive sources");
             }
             InputType inputType = source.isInteractive() ? InputType.SINGLE : InputType.FILE;
+            if (inputType == InputType.FILE && request.getArgumentNames().isEmpty()) {
+                return parseFile(context, source, true, 0, 0);
+            }
             return parse(context, source, inputType, true, 0, source.isInteractive(), request.getArgumentNames(), EnumSet.noneOf(FutureFeature.class));
         }
         if (!request.getArgumentNames().isEmpty()) {
@@ -619,6 +629,27 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         return parse(context, source, type, false, optimize, false, null, FutureFeature.fromFlags(flags));
     }
 
+    /**
+     * Parses a whole module. If the source is backed by a file, the compiled code is looked up in
+     * and stored to the persistent {@link BytecodeCache}, so that unchanged files don't need to go
+     * through the parser and compiler again. Files that produce compile-time warnings are not
+     * cached, so that the warnings are reported every time the file is loaded.
+     */
+    private RootCallTarget parseFile(PythonContext context, Source source, boolean topLevel, int optimize, int flags) {
+        BytecodeCache cache = BytecodeCache.forSource(context, source, optimize, flags);
+        if (cache != null) {
+            CodeUnit code = cache.load();
+            if (code != null) {
+                RootNode rootNode = PBytecodeRootNode.create(this, code, source);
+                if (topLevel) {
+                    rootNode = new TopLevelExceptionHandler(this, rootNode, source);
+                }
+                return PythonUtils.getOrCreateCallTarget(rootNode);
+            }
+        }
+        return parse(context, source, InputType.FILE, topLevel, optimize, false, null, FutureFeature.fromFlags(flags), cache);
+    }
+
     private static Source tryLoadSource(PythonContext context, CodeUnit code, boolean internal, String path) {
         try {
             return Source.newBuilder(PythonLanguage.ID, context.getEnv().getPublicTruffleFile(path)).name(code.name.toJavaStringUncached()).internal(internal).build();
@@ -629,12 +660,17 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
 
     public RootCallTarget parse(PythonContext context, Source source, InputType type, boolean topLevel, int optimize, boolean interactiveTerminal, List<String> argumentNames,
                     EnumSet<FutureFeature> futureFeatures) {
+        return parse(context, source, type, topLevel, optimize, interactiveTerminal, argumentNames, futureFeatures, null);
+    }
+
+    private RootCallTarget parse(PythonContext context, Source source, InputType type, boolean topLevel, int optimize, boolean interactiveTerminal, List<String> argumentNames,
+                    EnumSet<FutureFeature> futureFeatures, BytecodeCache cache) {
         RaisePythonExceptionErrorCallback errorCb = new RaisePythonExceptionErrorCallback(source, PythonOptions.isPExceptionWithJavaStacktrace(this));
         try {
             Parser parser = Compiler.createParser(source.getCharacters().toString(), errorCb, type, interactiveTerminal);
             ModTy mod = (ModTy) parser.parse();
             assert mod != null;
-            return compileForBytecodeInterpreter(context, mod, source, topLevel, optimize, argumentNames, errorCb, futureFeatures);
+            return compileForBytecodeInterpreter(context, mod, source, topLevel, optimize, argumentNames, errorCb, futureFeatures, cache);
         } catch (PException e) {
             if (topLevel) {
                 PythonUtils.getOrCreateCallTarget(new TopLevelExceptionHandler(this, e)).call();
@@ -652,6 +688,11 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @TruffleBoundary
     public RootCallTarget compileForBytecodeInterpreter(PythonContext context, ModTy modIn, Source source, boolean topLevel, int optimize, List<String> argumentNames,
                     RaisePythonExceptionErrorCallback errorCallback, EnumSet<FutureFeature> futureFeatures) {
+        return compileForBytecodeInterpreter(context, modIn, source, topLevel, optimize, argumentNames, errorCallback, futureFeatures, null);
+    }
+
+    private RootCallTarget compileForBytecodeInterpreter(PythonContext context, ModTy modIn, Source source, boolean topLevel, int optimize, List<String> argumentNames,
+                    RaisePythonExceptionErrorCallback errorCallback, EnumSet<FutureFeature> futureFeatures, BytecodeCache cache) {
         RaisePythonExceptionErrorCallback errorCb = errorCallback;
         if (errorCb == null) {
             errorCb = new RaisePythonExceptionErrorCallback(source, PythonOptions.isPExceptionWithJavaStacktrace(this));
@@ -667,6 +708,10 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
             }
             CompilationUnit cu = compiler.compile(mod, EnumSet.noneOf(Compiler.Flags.class), optimize, futureFeatures);
             CodeUnit co = cu.assemble();
+            // the cache does not keep the warnings, which would not be reported on a cache hit
+            if (cache != null && !hasArguments && !errorCb.hasDeprecationWarnings()) {
+                cache.store(co);
+            }
             RootNode rootNode = PBytecodeRootNode.create(this, co, source, errorCb);
             if (topLevel) {
                 GilNode gil = GilNode.getUncached();
@@ -197,6 +197,7 @@ import com.oracle.graal.python.builtins.modules.io.TextIOWrapperBuiltins;
 import com.oracle.graal.python.builtins.modules.json.JSONEncoderBuiltins;
 import com.oracle.graal.python.builtins.modules.json.JSONModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.json.JSONScannerBuiltins;
+import com.oracle.graal.python.builtins.modules.json.JSONStreamScannerBuiltins;
 import com.oracle.graal.python.builtins.modules.lzma.LZMACompressorBuiltins;
 import com.oracle.graal.python.builtins.modules.lzma.LZMADecompressorBuiltins;
 import com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins;
@@ -332,6 +333,8 @@ import com.oracle.graal.python.builtins.objects.random.RandomBuiltins;
 import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.referencetype.ReferenceTypeBuiltins;
 import com.oracle.graal.python.builtins.objects.reversed.ReversedBuiltins;
+import com.oracle.graal.python.builtins.objects.select.EpollBuiltins;
+import com.oracle.graal.python.builtins.objects.select.PollBuiltins;
 import com.oracle.graal.python.builtins.objects.set.BaseSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.FrozenSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
@@ -702,6 +705,8 @@ public abstract class Python3Core {
                         new MMapModuleBuiltins(),
                         new FcntlModuleBuiltins(),
                         new MMapBuiltins(),
+                        new PollBuiltins(),
+                        new EpollBuiltins(),
                         new SimpleQueueBuiltins(),
                         new QueueModuleBuiltins(),
                         new ThreadModuleBuiltins(),
@@ -738,6 +743,7 @@ public abstract class Python3Core {
                         // json
                         new JSONScannerBuiltins(),
                         new JSONEncoderBuiltins(),
+                        new JSONStreamScannerBuiltins(),
 
                         // csv
                         new CSVDialectBuiltins(),
@@ -840,7 +846,11 @@ public abstract class Python3Core {
     public static class SysModuleState {
         private int recursionLimit = ImageInfo.inImageCode() ? NATIVE_REC_LIM : REC_LIM;
         private int checkInterval = 100;
-        private double switchInterval = 0.005;
+        /* in microseconds, like CPython's default of 0.005 seconds */
+        private static final double DEFAULT_SWITCH_INTERVAL = 5000;
+        private double switchInterval = DEFAULT_SWITCH_INTERVAL;
+        /* whether the switch interval was set explicitly through sys.setswitchinterval */
+        private boolean switchIntervalSet;
 
         public int getRecursionLimit() {
             return recursionLimit;
@@ -864,6 +874,20 @@ public abstract class Python3Core {
 
         public void setSwitchInterval(double switchInterval) {
             this.switchInterval = switchInterval;
+            this.switchIntervalSet = true;
+        }
+
+        public boolean isSwitchIntervalSet() {
+            return switchIntervalSet;
+        }
+
+        /**
+         * Restores the default switch interval and lets the GIL release interval adapt to the hold
+         * times again.
+         */
+        public void resetSwitchInterval() {
+            this.switchInterval = DEFAULT_SWITCH_INTERVAL;
+            this.switchIntervalSet = false;
         }
     }
 
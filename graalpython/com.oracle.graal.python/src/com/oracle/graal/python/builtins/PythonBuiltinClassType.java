@@ -252,6 +252,8 @@ public enum PythonBuiltinClassType implements TruffleObject {
     PAsyncGenAWrappedValue("async_generator_wrapped_value", Flags.PRIVATE_DERIVED_WODICT),
     PMethod("method", Flags.PRIVATE_DERIVED_WODICT, MethodBuiltins.SLOTS),
     PMMap("mmap", "mmap", MMAP_M_FLAGS, MMapBuiltins.SLOTS),
+    PPoll("poll", null, "select", Flags.PRIVATE_BASE_WODICT),
+    PEpoll("epoll", null, "select", Flags.PUBLIC_BASE_WODICT),
     PNone("NoneType", Flags.PRIVATE_DERIVED_WODICT, NONE_M_FLAGS, NoneBuiltins.SLOTS),
     PNotImplemented("NotImplementedType", Flags.PRIVATE_DERIVED_WODICT),
     PProperty(J_PROPERTY, J_BUILTINS, Flags.PUBLIC_BASE_WODICT, PropertyBuiltins.SLOTS),
@@ -375,6 +377,7 @@ public enum PythonBuiltinClassType implements TruffleObject {
     // json
     JSONScanner("Scanner", "_json", Flags.PUBLIC_BASE_WODICT),
     JSONEncoder("Encoder", "_json", Flags.PUBLIC_BASE_WODICT),
+    JSONStreamScanner("StreamScanner", "_json", Flags.PRIVATE_BASE_WODICT),
 
     // csv
     CSVDialect("Dialect", "_csv", Flags.PUBLIC_BASE_WODICT),
@@ -76,6 +76,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import com.oracle.graal.python.nodes.util.ToNativePrimitiveStorageNode;
@@ -105,6 +106,7 @@ import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.EmptyStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageLen;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
@@ -116,10 +118,12 @@ import com.oracle.graal.python.builtins.objects.generator.PGenerator;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
 import com.oracle.graal.python.builtins.objects.method.PMethod;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.str.StringUtils;
+import com.oracle.graal.python.builtins.objects.thread.PThread;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.PythonClass;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.CreateTypeNode;
@@ -144,6 +148,7 @@ import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.GilStatistics;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonImageBuildOptions;
@@ -152,8 +157,10 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.NativeByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativeSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -784,6 +791,131 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "get_gil_stats", minNumOfPositionalArgs = 0, doc = "Returns a dict with statistics about the usage of the GIL.")
+    @GenerateNodeFactory
+    public abstract static class GetGilStatsNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doIt() {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            PythonContext context = getContext();
+            GilStatistics stats = context.getGilStatistics();
+            long[] histogram = stats.getHoldTimeHistogram();
+            Object[] buckets = new Object[histogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                buckets[i] = histogram[i];
+            }
+            HashingStorage threads = EmptyStorage.INSTANCE;
+            for (Map.Entry<Thread, GilStatistics.ThreadCounters> entry : context.getGilThreadCounters().entrySet()) {
+                GilStatistics.ThreadCounters counters = entry.getValue();
+                Object[] values = new Object[]{counters.getAcquisitions(), counters.getContendedAcquisitions(), counters.getWaitNanos(), counters.getHoldNanos()};
+                threads = HashingStorageSetItem.executeUncached(threads, PThread.getThreadId(entry.getKey()), factory.createTuple(values));
+            }
+            EconomicMapStorage storage = EconomicMapStorage.create(7);
+            storage.putUncached(toTruffleStringUncached("acquisitions"), stats.getAcquisitions());
+            storage.putUncached(toTruffleStringUncached("contended_acquisitions"), stats.getContendedAcquisitions());
+            storage.putUncached(toTruffleStringUncached("wait_ns"), stats.getWaitNanos());
+            storage.putUncached(toTruffleStringUncached("average_hold_ns"), stats.getAverageHoldNanos());
+            storage.putUncached(toTruffleStringUncached("hold_time_histogram"), factory.createList(buckets));
+            storage.putUncached(toTruffleStringUncached("switch_interval_set"), context.getSysModuleState().isSwitchIntervalSet());
+            storage.putUncached(toTruffleStringUncached("threads"), factory.createDict(threads));
+            return factory.createDict(storage);
+        }
+    }
+
+    @Builtin(name = "reset_switchinterval", minNumOfPositionalArgs = 0, doc = "Undoes sys.setswitchinterval(): restores the default interval and lets the interval at which threads are asked to release the GIL adapt to the GIL hold times again.")
+    @GenerateNodeFactory
+    public abstract static class ResetSwitchIntervalNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doIt() {
+            getContext().getSysModuleState().resetSwitchInterval();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_native_memory_stats", minNumOfPositionalArgs = 0, doc = "Returns a dict with statistics about the native memory allocated through the C API.\n\n" +
+                    "The counters are cumulative, so the allocation rate can be derived from two samples of 'total_allocated_bytes'. " +
+                    "The counters without the 'tracked_' prefix are maintained by the C API library and are process-wide, they include the allocations of all contexts " +
+                    "in the process. The 'tracked_' counters only cover the current context.")
+    @GenerateNodeFactory
+    public abstract static class GetNativeMemoryStatsNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doIt() {
+            PythonContext context = getContext();
+            EconomicMapStorage storage = EconomicMapStorage.create(11);
+            boolean initialized = context.hasCApiContext();
+            putStat(storage, "live_bytes", initialized, CApiContext.NATIVE_MEMORY_STAT_LIVE_BYTES);
+            putStat(storage, "peak_bytes", initialized, CApiContext.NATIVE_MEMORY_STAT_PEAK_BYTES);
+            putStat(storage, "total_allocated_bytes", initialized, CApiContext.NATIVE_MEMORY_STAT_TOTAL_BYTES);
+            putStat(storage, "allocations", initialized, CApiContext.NATIVE_MEMORY_STAT_ALLOCATIONS);
+            putStat(storage, "frees", initialized, CApiContext.NATIVE_MEMORY_STAT_FREES);
+            putStat(storage, "gc_collections", initialized, CApiContext.NATIVE_MEMORY_STAT_COLLECTIONS);
+            putStat(storage, "gc_barrier_bytes", initialized, CApiContext.NATIVE_MEMORY_STAT_GC_BARRIER);
+            storage.putUncached(toTruffleStringUncached("max_native_memory"), context.getOption(PythonOptions.MaxNativeMemory));
+            CApiContext cApiContext = initialized ? context.getCApiContext() : null;
+            storage.putUncached(toTruffleStringUncached("tracked_live_bytes"), cApiContext != null ? cApiContext.getAllocatedMemory() : 0L);
+            storage.putUncached(toTruffleStringUncached("tracked_peak_bytes"), cApiContext != null ? cApiContext.getPeakAllocatedMemory() : 0L);
+            storage.putUncached(toTruffleStringUncached("tracked_gc_collections"), cApiContext != null ? cApiContext.getNativeMemoryCollections() : 0L);
+            return PythonObjectFactory.getUncached().createDict(storage);
+        }
+
+        private static void putStat(EconomicMapStorage storage, String key, boolean initialized, int stat) {
+            storage.putUncached(toTruffleStringUncached(key), initialized ? CApiContext.getNativeMemoryStat(stat) : 0L);
+        }
+    }
+
+    @Builtin(name = "mmap_array", minNumOfPositionalArgs = 2, parameterNames = {"typecode", "mmap"}, doc = "mmap_array(typecode, mmap)\n\n" +
+                    "Returns an array.array that stores its items directly in the memory of a writable mmap object, without copying them to the heap. " +
+                    "The array cannot be resized and the mmap cannot be closed while the array is alive.")
+    @ArgumentClinic(name = "typecode", conversion = ArgumentClinic.ClinicConversion.TString)
+    @GenerateNodeFactory
+    abstract static class MMapArrayNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doIt(TruffleString typeCode, PMMap mmap) {
+            BufferFormat format = null;
+            if (typeCode.codePointLengthUncached(TS_ENCODING) == 1) {
+                format = BufferFormat.forArray(typeCode, TruffleString.CodePointLengthNode.getUncached(), TruffleString.CodePointAtIndexNode.getUncached());
+            }
+            if (format == null) {
+                throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.ValueError, ErrorMessages.BAD_TYPECODE);
+            }
+            if (mmap.isClosed()) {
+                throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.ValueError, ErrorMessages.MMAP_CLOSED_OR_INVALID);
+            }
+            if (!mmap.isWriteable()) {
+                throw PRaiseNode.raiseUncached(this, TypeError, ErrorMessages.MMAP_CANNOT_MODIFY_READONLY_MEMORY);
+            }
+            long length = mmap.getLength();
+            if (length > Integer.MAX_VALUE) {
+                throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.OverflowError, ErrorMessages.MMAP_TOO_LARGE_FOR_ARRAY);
+            }
+            if (length % format.bytesize != 0) {
+                throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.ValueError, ErrorMessages.MMAP_LENGTH_NOT_MULTIPLE_OF_ITEM_SIZE);
+            }
+            PosixSupportLibrary posixLib = PosixSupportLibrary.getUncached();
+            Object posixSupport = getContext().getPosixSupport();
+            long pointer;
+            try {
+                pointer = posixLib.mmapGetPointer(posixSupport, mmap.getPosixSupportHandle());
+            } catch (PosixSupportLibrary.UnsupportedPosixFeatureException e) {
+                throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.NotImplementedError, ErrorMessages.MMAP_POINTER_NOT_AVAILABLE, posixLib.getBackend(posixSupport));
+            }
+            PArray array = PythonObjectFactory.getUncached().createArray(PythonBuiltinClassType.PArray, typeCode, format);
+            // the mapping is released by the mmap object, the storage must not free it
+            array.setForeignMemoryStorage(NativeByteSequenceStorage.create(pointer, (int) length, (int) length, false), mmap);
+            mmap.addExport(array);
+            return array;
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GraalPythonModuleBuiltinsClinicProviders.MMapArrayNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
 // Internal builtin used for testing: changes strategy of newly allocated set or map
     @Builtin(name = "set_storage_strategy", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
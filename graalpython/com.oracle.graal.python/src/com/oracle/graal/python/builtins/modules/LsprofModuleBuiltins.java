@@ -46,25 +46,42 @@ import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.tuple.StructSequence;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.SpecialAttributeNames;
+import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.object.PythonObjectSlowPathFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -76,6 +93,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.source.SourceSection;
+import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 import com.oracle.truffle.tools.profiler.CPUSampler.Payload;
 import com.oracle.truffle.tools.profiler.CPUSamplerData;
@@ -138,13 +156,16 @@ public final class LsprofModuleBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         Profiler doit(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs) {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            if (!getContext().getOption(PythonOptions.CProfileSampling)) {
+                return factory.trace(new Profiler(cls, factory.getShape(cls), null));
+            }
             Env env = getContext().getEnv();
             Map<String, InstrumentInfo> instruments = env.getInstruments();
             InstrumentInfo instrumentInfo = instruments.get(CPUSamplerInstrument.ID);
             if (instrumentInfo != null) {
                 CPUSampler sampler = env.lookup(instrumentInfo, CPUSampler.class);
                 if (sampler != null) {
-                    PythonObjectFactory factory = PythonObjectFactory.getUncached();
                     return factory.trace(new Profiler(cls, factory.getShape(cls), sampler));
                 }
             }
@@ -153,7 +174,15 @@ public final class LsprofModuleBuiltins extends PythonBuiltins {
     }
 }
 
-class Profiler extends PythonBuiltinObject {
+/**
+ * The {@code _lsprof.Profiler} object. By default it counts every call exactly: it installs itself
+ * as the profile function of the thread that enables it and the bytecode interpreter calls
+ * {@link #profileEvent} on function entry and exit, like the C-level profile function of CPython's
+ * {@code _lsprof}. The statistics are kept per thread and merged by {@code getstats}. With
+ * {@link PythonOptions#CProfileSampling}, the profiler uses the {@link CPUSampler} instead and
+ * reports statistical estimates.
+ */
+class Profiler extends PythonBuiltinObject implements PythonContext.ProfilerHook {
     boolean subcalls;
     boolean builtins;
     double timeunit;
@@ -161,11 +190,264 @@ class Profiler extends PythonBuiltinObject {
     double time;
     final CPUSampler sampler;
 
+    /** Call statistics of one function, like {@code ProfilerEntry} in CPython. */
+    static final class ProfilerEntry {
+        final Object key;
+        final Object label;
+        long callCount;
+        long recursiveCallCount;
+        long totalTime;
+        long inlineTime;
+        int recursionLevel;
+        IdentityHashMap<Object, ProfilerEntry> calls;
+
+        ProfilerEntry(Object key, Object label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        ProfilerEntry getSubEntry(ProfilerEntry callee) {
+            if (calls == null) {
+                calls = new IdentityHashMap<>();
+            }
+            ProfilerEntry sub = calls.get(callee.key);
+            if (sub == null) {
+                sub = new ProfilerEntry(callee.key, callee.label);
+                calls.put(callee.key, sub);
+            }
+            return sub;
+        }
+
+        void add(ProfilerEntry other) {
+            callCount += other.callCount;
+            recursiveCallCount += other.recursiveCallCount;
+            totalTime += other.totalTime;
+            inlineTime += other.inlineTime;
+        }
+    }
+
+    /** An active call on the profiler's call stack of a thread. */
+    static final class ProfilerContext {
+        ProfilerEntry entry;
+        ProfilerContext previous;
+        long t0;
+        long subt;
+    }
+
+    /**
+     * The statistics of one thread. They are only written by the owning thread, which holds the GIL
+     * while doing so, so {@code getstats} can read them under the GIL without further locking.
+     */
+    static final class ThreadData {
+        final Thread owner;
+        final IdentityHashMap<Object, ProfilerEntry> entries = new IdentityHashMap<>();
+        ProfilerContext current;
+        ProfilerContext free;
+
+        ThreadData(Thread owner) {
+            this.owner = owner;
+        }
+    }
+
+    private final ConcurrentHashMap<Thread, ThreadData> threadData = new ConcurrentHashMap<>();
+    private ThreadData lastThreadData;
+
     public Profiler(Object cls, Shape instanceShape, CPUSampler sampler) {
         super(cls, instanceShape);
         this.sampler = sampler;
-        this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
-        this.sampler.setPeriod(1);
+        if (sampler != null) {
+            this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
+            this.sampler.setPeriod(1);
+        }
+    }
+
+    @Override
+    @TruffleBoundary
+    public void profileEvent(PythonContext.PythonThreadState threadState, PythonContext.ProfileEvent event, Object code) {
+        switch (event) {
+            case CALL:
+                enter(code, code);
+                break;
+            case RETURN:
+                leave(code);
+                break;
+            case C_CALL:
+                if (builtins) {
+                    enter(builtinKey(code), code);
+                }
+                break;
+            case C_RETURN:
+            case C_EXCEPTION:
+                if (builtins) {
+                    leave(builtinKey(code));
+                }
+                break;
+        }
+    }
+
+    private static Object builtinKey(Object callable) {
+        if (callable instanceof PBuiltinMethod method) {
+            return method.getBuiltinFunction();
+        }
+        return callable;
+    }
+
+    private ThreadData getThreadData() {
+        ThreadData data = lastThreadData;
+        Thread thread = Thread.currentThread();
+        if (data == null || data.owner != thread) {
+            data = threadData.computeIfAbsent(thread, ThreadData::new);
+            lastThreadData = data;
+        }
+        return data;
+    }
+
+    private void enter(Object key, Object callable) {
+        ThreadData data = getThreadData();
+        ProfilerEntry entry = data.entries.get(key);
+        if (entry == null) {
+            entry = new ProfilerEntry(key, key instanceof PBytecodeRootNode ? null : builtinLabel(callable));
+            data.entries.put(key, entry);
+        }
+        ProfilerContext ctx = data.free;
+        if (ctx != null) {
+            data.free = ctx.previous;
+        } else {
+            ctx = new ProfilerContext();
+        }
+        ctx.entry = entry;
+        ctx.subt = 0;
+        ctx.previous = data.current;
+        data.current = ctx;
+        entry.recursionLevel++;
+        if (subcalls && ctx.previous != null) {
+            ctx.previous.entry.getSubEntry(entry).recursionLevel++;
+        }
+        ctx.t0 = timer();
+    }
+
+    private void leave(Object key) {
+        ThreadData data = getThreadData();
+        ProfilerContext ctx = data.current;
+        if (ctx == null) {
+            // the call was entered before profiling was enabled
+            return;
+        }
+        ProfilerEntry entry = data.entries.get(key);
+        if (entry != null) {
+            stop(data, ctx, entry, timer());
+        } else {
+            data.current = ctx.previous;
+        }
+        ctx.entry = null;
+        ctx.previous = data.free;
+        data.free = ctx;
+    }
+
+    private void stop(ThreadData data, ProfilerContext ctx, ProfilerEntry entry, long now) {
+        long tt = now - ctx.t0;
+        long it = tt - ctx.subt;
+        ProfilerContext previous = ctx.previous;
+        if (previous != null) {
+            previous.subt += tt;
+        }
+        data.current = previous;
+        if (--entry.recursionLevel == 0) {
+            entry.totalTime += tt;
+        } else {
+            entry.recursiveCallCount++;
+        }
+        entry.inlineTime += it;
+        entry.callCount++;
+        if (subcalls && previous != null) {
+            ProfilerEntry sub = previous.entry.getSubEntry(entry);
+            if (--sub.recursionLevel == 0) {
+                sub.totalTime += tt;
+            } else {
+                sub.recursiveCallCount++;
+            }
+            sub.inlineTime += it;
+            sub.callCount++;
+        }
+    }
+
+    /** Stops all calls that are still active, like {@code flush_unmatched} in CPython. */
+    @TruffleBoundary
+    void flushUnmatched() {
+        long now = timer();
+        for (ThreadData data : threadData.values()) {
+            while (data.current != null) {
+                ProfilerContext ctx = data.current;
+                stop(data, ctx, ctx.entry, now);
+                ctx.entry = null;
+            }
+            data.free = null;
+        }
+    }
+
+    @TruffleBoundary
+    void clearData() {
+        threadData.clear();
+        lastThreadData = null;
+    }
+
+    /**
+     * Merges the statistics of all threads. The result is keyed like the per-thread tables, by
+     * {@link PBytecodeRootNode} for Python code and by builtin function otherwise.
+     */
+    @TruffleBoundary
+    Collection<ProfilerEntry> mergeThreadData() {
+        IdentityHashMap<Object, ProfilerEntry> merged = new IdentityHashMap<>();
+        for (ThreadData data : threadData.values()) {
+            for (ProfilerEntry entry : data.entries.values()) {
+                ProfilerEntry target = merged.computeIfAbsent(entry.key, k -> new ProfilerEntry(k, entry.label));
+                target.add(entry);
+                if (entry.calls != null) {
+                    for (ProfilerEntry sub : entry.calls.values()) {
+                        target.getSubEntry(sub).add(sub);
+                    }
+                }
+            }
+        }
+        return merged.values();
+    }
+
+    /** Converts a time stamp of {@link #timer()} to the unit reported by {@code getstats}. */
+    double toSeconds(long time) {
+        return time / 1e9;
+    }
+
+    private long timer() {
+        if (externalTimer == null) {
+            return System.nanoTime();
+        }
+        double value = PyFloatAsDoubleNode.executeUncached(CallNode.executeUncached(externalTimer));
+        return (long) (value * (timeunit > 0 ? timeunit : 1.0) * 1e9);
+    }
+
+    private static Object builtinLabel(Object callable) {
+        PBuiltinFunction function;
+        Object self = null;
+        if (callable instanceof PBuiltinMethod method) {
+            function = method.getBuiltinFunction();
+            self = method.getSelf();
+        } else if (callable instanceof PBuiltinFunction f) {
+            function = f;
+        } else {
+            return toTruffleStringUncached("<unknown>");
+        }
+        String name = function.getName().toJavaStringUncached();
+        Object enclosingType = function.getEnclosingType();
+        if (self instanceof PythonModule module) {
+            Object moduleName = module.getAttribute(SpecialAttributeNames.T___NAME__);
+            if (moduleName instanceof TruffleString moduleNameString) {
+                return toTruffleStringUncached("<built-in method " + moduleNameString.toJavaStringUncached() + "." + name + ">");
+            }
+        } else if (enclosingType != null) {
+            TruffleString typeName = TypeNodes.GetNameNode.executeUncached(enclosingType);
+            return toTruffleStringUncached("<method '" + name + "' of '" + typeName.toJavaStringUncached() + "' objects>");
+        }
+        return toTruffleStringUncached("<built-in method " + name + ">");
     }
 }
 
@@ -177,56 +459,54 @@ class ProfilerBuiltins extends PythonBuiltins {
     }
 
     @Builtin(name = J___INIT__, minNumOfPositionalArgs = 1, parameterNames = {"$self", "timer", "timeunit", "subcalls", "builtins"})
+    @ArgumentClinic(name = "timeunit", conversion = ArgumentClinic.ClinicConversion.Double, defaultValue = "0.0")
+    @ArgumentClinic(name = "subcalls", conversion = ArgumentClinic.ClinicConversion.IntToBoolean, defaultValue = "true")
+    @ArgumentClinic(name = "builtins", conversion = ArgumentClinic.ClinicConversion.IntToBoolean, defaultValue = "true")
     @GenerateNodeFactory
-    abstract static class Init extends PythonBuiltinNode {
-        @Specialization
-        PNone doit(Profiler self, Object timer, double timeunit, long subcalls, long builtins) {
-            self.subcalls = subcalls > 0;
-            self.builtins = builtins > 0;
-            self.timeunit = timeunit;
-            self.externalTimer = timer;
-            return PNone.NONE;
+    abstract static class Init extends PythonClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return ProfilerBuiltinsClinicProviders.InitClinicProviderGen.INSTANCE;
         }
 
         @Specialization
-        @SuppressWarnings("unused")
-        PNone doit(Profiler self, Object timer, PNone timeunit, PNone subcalls, PNone builtins) {
-            self.subcalls = true;
-            self.builtins = true;
-            self.timeunit = -1;
-            self.externalTimer = timer;
+        static PNone doit(Profiler self, Object timer, double timeunit, boolean subcalls, boolean builtins) {
+            self.subcalls = subcalls;
+            self.builtins = builtins;
+            self.timeunit = timeunit;
+            self.externalTimer = PGuards.isPNone(timer) ? null : timer;
             return PNone.NONE;
         }
     }
 
     @Builtin(name = "enable", minNumOfPositionalArgs = 1, parameterNames = {"$self", "subcalls", "builtins"})
+    @ArgumentClinic(name = "subcalls", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "-1")
+    @ArgumentClinic(name = "builtins", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "-1")
     @GenerateNodeFactory
-    abstract static class Enable extends PythonBuiltinNode {
+    abstract static class Enable extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return ProfilerBuiltinsClinicProviders.EnableClinicProviderGen.INSTANCE;
+        }
+
         @Specialization
         @TruffleBoundary
-        PNone doit(Profiler self, long subcalls, long builtins) {
-            self.subcalls = subcalls > 0;
-            self.builtins = builtins > 0;
-            // TODO: deal with any arguments
+        PNone doit(Profiler self, int subcalls, int builtins) {
+            if (subcalls >= 0) {
+                self.subcalls = subcalls > 0;
+            }
+            if (builtins >= 0) {
+                self.builtins = builtins > 0;
+            }
             self.time = System.currentTimeMillis();
-            self.sampler.setCollecting(true);
+            if (self.sampler != null) {
+                self.sampler.setCollecting(true);
+            } else {
+                PythonLanguage language = getLanguage();
+                getContext().getThreadState(language).setProfileFun(self, language);
+            }
             return PNone.NONE;
         }
-
-        @Specialization
-        PNone doit(Profiler self, long subcalls, @SuppressWarnings("unused") PNone builtins) {
-            return doit(self, subcalls, self.builtins ? 1 : 0);
-        }
-
-        @Specialization
-        PNone doit(Profiler self, @SuppressWarnings("unused") PNone subcalls, long builtins) {
-            return doit(self, self.subcalls ? 1 : 0, builtins);
-        }
-
-        @Specialization
-        PNone doit(Profiler self, @SuppressWarnings("unused") PNone subcalls, @SuppressWarnings("unused") PNone builtins) {
-            return doit(self, self.subcalls ? 1 : 0, self.builtins ? 1 : 0);
-        }
     }
 
     @Builtin(name = "disable", minNumOfPositionalArgs = 1)
@@ -235,7 +515,16 @@ class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
-            self.sampler.setCollecting(false);
+            if (self.sampler != null) {
+                self.sampler.setCollecting(false);
+            } else {
+                PythonLanguage language = getLanguage();
+                PythonContext.PythonThreadState threadState = getContext().getThreadState(language);
+                if (threadState.getProfileFun() == self) {
+                    threadState.setProfileFun(null, language);
+                }
+                self.flushUnmatched();
+            }
             self.time = (System.currentTimeMillis() - self.time) / 1000D;
             return PNone.NONE;
         }
@@ -247,7 +536,11 @@ class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
-            self.sampler.clearData();
+            if (self.sampler != null) {
+                self.sampler.clearData();
+            } else {
+                self.clearData();
+            }
             return PNone.NONE;
         }
     }
@@ -279,6 +572,9 @@ class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         static PList doit(Profiler self) {
+            if (self.sampler == null) {
+                return getExactStats(self);
+            }
             double avgSampleSeconds = self.sampler.getPeriod() / 1000D;
             List<PTuple> entries = new ArrayList<>();
             for (CPUSamplerData data : self.sampler.getDataList()) {
@@ -294,6 +590,41 @@ class ProfilerBuiltins extends PythonBuiltins {
             return PythonObjectFactory.getUncached().createList(entries.toArray());
         }
 
+        private static PList getExactStats(Profiler self) {
+            PythonObjectSlowPathFactory factory = PythonContext.get(null).factory();
+            IdentityHashMap<Object, Object> codes = new IdentityHashMap<>();
+            List<PTuple> entries = new ArrayList<>();
+            for (Profiler.ProfilerEntry entry : self.mergeThreadData()) {
+                Object calls = PNone.NONE;
+                if (entry.calls != null) {
+                    Object[] subEntries = new Object[entry.calls.size()];
+                    int i = 0;
+                    for (Profiler.ProfilerEntry sub : entry.calls.values()) {
+                        subEntries[i++] = factory.createStructSeq(LsprofModuleBuiltins.PROFILER_SUBENTRY_DESC, getExactEntry(self, codes, factory, sub));
+                    }
+                    calls = factory.createList(subEntries);
+                }
+                Object[] values = Arrays.copyOf(getExactEntry(self, codes, factory, entry), 6);
+                values[5] = calls;
+                entries.add(factory.createStructSeq(LsprofModuleBuiltins.PROFILER_ENTRY_DESC, values));
+            }
+            return factory.createList(entries.toArray());
+        }
+
+        private static Object[] getExactEntry(Profiler self, IdentityHashMap<Object, Object> codes, PythonObjectSlowPathFactory factory, Profiler.ProfilerEntry entry) {
+            Object code = entry.label;
+            if (entry.key instanceof PBytecodeRootNode rootNode) {
+                code = codes.computeIfAbsent(rootNode, k -> factory.createCode(rootNode.getCallTarget()));
+            }
+            return new Object[]{
+                            code,
+                            entry.callCount,
+                            entry.recursiveCallCount,
+                            self.toSeconds(entry.totalTime),
+                            self.toSeconds(entry.inlineTime)
+            };
+        }
+
         private static void countNode(List<PTuple> entries, ProfilerNode<Payload> node, double avgSampleTime) {
             PythonObjectSlowPathFactory factory = PythonContext.get(null).factory();
             Collection<ProfilerNode<Payload>> children = node.getChildren();
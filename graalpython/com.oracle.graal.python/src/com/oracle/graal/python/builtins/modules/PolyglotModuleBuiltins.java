@@ -127,7 +127,11 @@ import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
 import com.oracle.graal.python.runtime.sequence.storage.ArrayBasedSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -1121,19 +1125,32 @@ public final class PolyglotModuleBuiltins extends PythonBuiltins {
     @TypeSystemReference(PythonArithmeticTypes.class)
     public abstract static class StorageNode extends PythonUnaryBuiltinNode {
         @Specialization
-        @TruffleBoundary
         static Object doSequence(PSequence seq,
                         @Bind("this") Node inliningTarget) {
-            SequenceStorage storage = seq.getSequenceStorage();
-            Object arrayObject;
-            if (storage instanceof EmptySequenceStorage) {
-                arrayObject = seq instanceof PBytesLike ? EMPTY_BYTE_ARRAY : EMPTY_OBJECT_ARRAY;
-            } else if (storage instanceof ArrayBasedSequenceStorage basicStorage) {
-                arrayObject = basicStorage.getInternalArrayObject();
-            } else {
-                throw PRaiseNode.raiseUncached(inliningTarget, PythonBuiltinClassType.NotImplementedError, ErrorMessages.GETTING_POLYGLOT_STORAGE_FOR_NATIVE_STORAGE_NOT_IMPLEMENTED);
-            }
-            return PythonContext.get(inliningTarget).getEnv().asGuestValue(arrayObject);
+            return getStorageArray(inliningTarget, seq, false);
+        }
+
+        @Fallback
+        static Object doError(Object object,
+                        @Cached PRaiseNode raiseNode) {
+            throw raiseNode.raise(PythonBuiltinClassType.TypeError, ErrorMessages.UNSUPPORTED_OPERAND_P, object);
+        }
+    }
+
+    /**
+     * Like {@code storage}, but returns a copy of the items as a Java array of the storage's
+     * element type, e.g., a {@code double[]} for a list of floats. The copy is made with a single
+     * array copy, and the host can take the array as it is with {@code Value.as(double[].class)}
+     * instead of converting each element. Unlike the array returned by {@code storage}, the copy
+     * has exactly the length of the sequence and does not change with it.
+     */
+    @Builtin(name = "storage_copy", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class StorageCopyNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object doSequence(PSequence seq,
+                        @Bind("this") Node inliningTarget) {
+            return getStorageArray(inliningTarget, seq, true);
         }
 
         @Fallback
@@ -1143,4 +1160,47 @@ public final class PolyglotModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @TruffleBoundary
+    private static Object getStorageArray(Node inliningTarget, PSequence seq, boolean copy) {
+        SequenceStorage storage = seq.getSequenceStorage();
+        Object arrayObject;
+        if (storage instanceof EmptySequenceStorage) {
+            arrayObject = seq instanceof PBytesLike ? EMPTY_BYTE_ARRAY : EMPTY_OBJECT_ARRAY;
+        } else if (storage instanceof ArrayBasedSequenceStorage basicStorage) {
+            arrayObject = copy ? basicStorage.getCopyOfInternalArrayObject() : basicStorage.getInternalArrayObject();
+        } else {
+            throw PRaiseNode.raiseUncached(inliningTarget, PythonBuiltinClassType.NotImplementedError, ErrorMessages.GETTING_POLYGLOT_STORAGE_FOR_NATIVE_STORAGE_NOT_IMPLEMENTED);
+        }
+        return PythonContext.get(inliningTarget).getEnv().asGuestValue(arrayObject);
+    }
+
+    /**
+     * The opposite direction of {@code storage_copy}: creates a list from a Java {@code int[]},
+     * {@code long[]}, {@code double[]} or {@code boolean[]} array passed from the host. The list's
+     * storage is a copy of the array made with a single array copy, so no element is converted.
+     */
+    @Builtin(name = "list_from_array", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ListFromArrayNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static Object doArray(Object array,
+                        @Bind("this") Node inliningTarget) {
+            Env env = PythonContext.get(inliningTarget).getEnv();
+            Object hostArray = env.isHostObject(array) ? env.asHostObject(array) : null;
+            SequenceStorage storage;
+            if (hostArray instanceof double[] doubles) {
+                storage = new DoubleSequenceStorage(doubles.clone());
+            } else if (hostArray instanceof long[] longs) {
+                storage = new LongSequenceStorage(longs.clone());
+            } else if (hostArray instanceof int[] ints) {
+                storage = new IntSequenceStorage(ints.clone());
+            } else if (hostArray instanceof boolean[] booleans) {
+                storage = new BoolSequenceStorage(booleans.clone());
+            } else {
+                throw PRaiseNode.raiseUncached(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.EXPECTED_JAVA_PRIMITIVE_ARRAY_NOT_P, array);
+            }
+            return PythonObjectFactory.getUncached().createList(storage);
+        }
+    }
 }
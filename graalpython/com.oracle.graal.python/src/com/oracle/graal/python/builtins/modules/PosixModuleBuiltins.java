@@ -102,6 +102,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
@@ -1012,6 +1013,213 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "pread", minNumOfPositionalArgs = 3, parameterNames = {"fd", "length", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "length", conversion = ClinicConversion.Index)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @GenerateNodeFactory
+    public abstract static class PreadNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PreadNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PBytes doPread(VirtualFrame frame, int fd, int length, long offset,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PythonObjectFactory factory) {
+            if (length < 0) {
+                int error = OSErrorEnum.EINVAL.getNumber();
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, error, posixLib.strerror(PosixSupport.get(inliningTarget), error));
+            }
+            try {
+                gil.release(true);
+                try {
+                    while (true) {
+                        try {
+                            Buffer result = posixLib.pread(PosixSupport.get(inliningTarget), fd, length, offset);
+                            return factory.createBytes(result.data, 0, (int) result.length);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                            } else {
+                                throw e;
+                            }
+                        }
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+    }
+
+    @Builtin(name = "pwrite", minNumOfPositionalArgs = 3, parameterNames = {"fd", "data", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer)
+    @ArgumentClinic(name = "offset", conversionClass = OffsetConversionNode.class)
+    @GenerateNodeFactory
+    public abstract static class PwriteNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.PwriteNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        static long doPwrite(VirtualFrame frame, int fd, Object dataBuffer, long offset,
+                        @Bind("this") Node inliningTarget,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary("dataBuffer") PythonBufferAccessLibrary bufferLib,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            try {
+                Buffer data = new Buffer(bufferLib.getInternalOrCopiedByteArray(dataBuffer), bufferLib.getBufferLength(dataBuffer));
+                gil.release(true);
+                try {
+                    while (true) {
+                        try {
+                            return posixLib.pwrite(PosixSupport.get(inliningTarget), fd, data, offset);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                            } else {
+                                throw e;
+                            }
+                        }
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                bufferLib.release(dataBuffer, frame, indirectCallData);
+            }
+        }
+    }
+
+    /**
+     * Converts an optional file offset, {@code None} is represented as {@code -1}, which the
+     * {@link PosixSupportLibrary} transfer messages interpret as "use the current file position".
+     */
+    static long optionalOffset(VirtualFrame frame, Node inliningTarget, Object offsetObj, PyLongAsLongNode asLongNode, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+        if (PGuards.isPNone(offsetObj)) {
+            return -1;
+        }
+        long offset = asLongNode.execute(frame, inliningTarget, offsetObj);
+        if (offset < 0) {
+            throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.EINVAL);
+        }
+        return offset;
+    }
+
+    @Builtin(name = "sendfile", minNumOfPositionalArgs = 4, parameterNames = {"out_fd", "in_fd", "offset", "count"}, os = PythonOS.PLATFORM_LINUX)
+    @Builtin(name = "sendfile", minNumOfPositionalArgs = 4, parameterNames = {"out_fd", "in_fd", "offset", "count"}, os = PythonOS.PLATFORM_DARWIN)
+    @ArgumentClinic(name = "out_fd", conversionClass = FileDescriptorConversionNode.class)
+    @ArgumentClinic(name = "in_fd", conversionClass = FileDescriptorConversionNode.class)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.Index)
+    @GenerateNodeFactory
+    public abstract static class SendfileNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.SendfileNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long sendfile(VirtualFrame frame, int outFd, int inFd, Object offsetObj, int count,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsLongNode asLongNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            long offset = optionalOffset(frame, inliningTarget, offsetObj, asLongNode, constructAndRaiseNode);
+            try {
+                gil.release(true);
+                try {
+                    while (true) {
+                        try {
+                            return posixLib.sendfile(PosixSupport.get(inliningTarget), outFd, inFd, offset, count);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                            } else {
+                                throw e;
+                            }
+                        }
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+    }
+
+    @Builtin(name = "copy_file_range", minNumOfPositionalArgs = 3, parameterNames = {"src", "dst", "count", "offset_src", "offset_dst"}, os = PythonOS.PLATFORM_LINUX)
+    @ArgumentClinic(name = "src", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "dst", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.Index)
+    @GenerateNodeFactory
+    public abstract static class CopyFileRangeNode extends PythonClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.CopyFileRangeNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long copyFileRange(VirtualFrame frame, int src, int dst, int count, Object offsetSrcObj, Object offsetDstObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsLongNode asLongNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            if (count < 0) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.EINVAL);
+            }
+            long offsetSrc = optionalOffset(frame, inliningTarget, offsetSrcObj, asLongNode, constructAndRaiseNode);
+            long offsetDst = optionalOffset(frame, inliningTarget, offsetDstObj, asLongNode, constructAndRaiseNode);
+            try {
+                gil.release(true);
+                try {
+                    while (true) {
+                        try {
+                            return posixLib.copyFileRange(PosixSupport.get(inliningTarget), src, offsetSrc, dst, offsetDst, count);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                            } else {
+                                throw e;
+                            }
+                        }
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+    }
+
     @Builtin(name = "dup", minNumOfPositionalArgs = 1, parameterNames = {"fd"})
     @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
     @GenerateNodeFactory
@@ -60,7 +60,9 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.cext.common.NativePointer;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.exception.PBaseException;
+import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.slice.SliceNodes;
@@ -77,8 +79,11 @@ import com.oracle.graal.python.nodes.HiddenAttr;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.attributes.GetAttributeNode;
+import com.oracle.graal.python.nodes.builtins.ListNodes;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonSenaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
@@ -118,6 +123,7 @@ import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleStringBuilder;
 
 @CoreFunctions(defineModule = "_sre")
 public final class SREModuleBuiltins extends PythonBuiltins {
@@ -887,4 +893,356 @@ public final class SREModuleBuiltins extends PythonBuiltins {
             }
         }
     }
+
+    /**
+     * Converts the input of a regex loop to the string matched by TRegex. Binary input is copied
+     * into a LATIN-1 string, so that replacement callbacks cannot modify it while we are matching.
+     * Returns {@code null} if {@code input} is not of the expected kind.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TRegexLoopInputNode extends Node {
+
+        public abstract TruffleString execute(VirtualFrame frame, Node inliningTarget, Object input, boolean binary);
+
+        @Specialization
+        static TruffleString convert(VirtualFrame frame, Node inliningTarget, Object input, boolean binary,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @Cached CastToTruffleStringNode cast,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile binaryProfile,
+                        @Cached(inline = false) TruffleString.FromByteArrayNode fromByteArrayNode) {
+            if (binaryProfile.profile(inliningTarget, binary)) {
+                if (!bufferAcquireLib.hasBuffer(input)) {
+                    return null;
+                }
+                Object buffer = bufferAcquireLib.acquireReadonly(input, frame, indirectCallData);
+                try {
+                    byte[] bytes = bufferLib.getCopiedByteArray(buffer);
+                    return fromByteArrayNode.execute(bytes, 0, bytes.length, TruffleString.Encoding.ISO_8859_1, false);
+                } finally {
+                    bufferLib.release(buffer, frame, indirectCallData);
+                }
+            }
+            try {
+                return cast.execute(inliningTarget, input);
+            } catch (CannotCastException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Executes TRegex and reads its results. The loops below use this instead of
+     * {@link TRegexCallExec} and {@code Match} objects, so each match costs only the interop calls
+     * to TRegex.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TRegexLoopExecNode extends Node {
+
+        public abstract Object execute(Node inliningTarget, Object compiledRegex, TruffleString input, int fromIndex);
+
+        @Specialization
+        static Object exec(Object compiledRegex, TruffleString input, int fromIndex,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib) {
+            try {
+                return regexLib.invokeMember(compiledRegex, "exec", input, fromIndex);
+            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException | UnknownIdentifierException e) {
+                throw CompilerDirectives.shouldNotReachHere("could not call TRegex exec method", e);
+            }
+        }
+
+        static boolean isMatch(InteropLibrary resultLib, Object result) {
+            try {
+                return (boolean) resultLib.readMember(result, "isMatch");
+            } catch (UnsupportedMessageException | UnknownIdentifierException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+
+        static int getStart(InteropLibrary resultLib, Object result, int group) {
+            try {
+                return (int) resultLib.invokeMember(result, "getStart", group);
+            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException | UnknownIdentifierException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+
+        static int getEnd(InteropLibrary resultLib, Object result, int group) {
+            try {
+                return (int) resultLib.invokeMember(result, "getEnd", group);
+            } catch (ArityException | UnsupportedTypeException | UnsupportedMessageException | UnknownIdentifierException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+
+        static int getGroupCount(InteropLibrary regexLib, Object compiledRegex) {
+            try {
+                return (int) regexLib.readMember(compiledRegex, "groupCount") - 1;
+            } catch (UnsupportedMessageException | UnknownIdentifierException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+    }
+
+    /**
+     * Creates the {@code str} or {@code bytes} object for a part of the input of a regex loop.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TRegexLoopSliceNode extends Node {
+
+        public abstract Object execute(Node inliningTarget, TruffleString input, boolean binary, int start, int end);
+
+        @Specialization
+        static Object slice(Node inliningTarget, TruffleString input, boolean binary, int start, int end,
+                        @Cached InlinedConditionProfile binaryProfile,
+                        @Cached(inline = false) TruffleString.SubstringNode substringNode,
+                        @Cached(inline = false) TruffleString.CopyToByteArrayNode copyToByteArrayNode,
+                        @Cached(inline = false) PythonObjectFactory factory) {
+            if (binaryProfile.profile(inliningTarget, binary)) {
+                byte[] bytes = new byte[end - start];
+                copyToByteArrayNode.execute(input, start, bytes, 0, bytes.length, TruffleString.Encoding.ISO_8859_1);
+                return factory.createBytes(bytes);
+            }
+            return substringNode.execute(input, start, end - start, TS_ENCODING, false);
+        }
+    }
+
+    @Builtin(name = "tregex_findall", minNumOfPositionalArgs = 4)
+    @GenerateNodeFactory
+    abstract static class TRegexFindAllNode extends PythonQuaternaryBuiltinNode {
+
+        @Specialization
+        static Object findall(VirtualFrame frame, PythonObject pattern, Object input, Object posArg, Object endPosArg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached HiddenAttr.ReadNode readCacheNode,
+                        @Cached TRegexCompile tRegexCompileNode,
+                        @Cached TRegexLoopInputNode inputNode,
+                        @Cached TRegexLoopExecNode execNode,
+                        @Cached TRegexLoopSliceNode sliceNode,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "3") InteropLibrary resultLib,
+                        @Cached PyNumberAsSizeNode asSizeNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.SubstringNode substringNode,
+                        @Cached ListNodes.AppendNode appendNode,
+                        @Cached PythonObjectFactory factory) {
+            boolean binary = ((TRegexCache) readCacheNode.execute(inliningTarget, pattern, HiddenAttr.TREGEX_CACHE, null)).isBinary();
+            Object regex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, false);
+            Object mustAdvanceRegex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, true);
+            int groups = TRegexLoopExecNode.getGroupCount(regexLib, regex);
+            TruffleString.Encoding encoding = binary ? TruffleString.Encoding.ISO_8859_1 : TS_ENCODING;
+            TruffleString string = inputNode.execute(frame, inliningTarget, input, binary);
+            int length = codePointLengthNode.execute(string, encoding);
+            int endPos = Math.max(0, Math.min(asSizeNode.executeLossy(frame, inliningTarget, endPosArg), length));
+            int pos = Math.max(0, Math.min(asSizeNode.executeLossy(frame, inliningTarget, posArg), endPos));
+            TruffleString substring = substringNode.execute(string, 0, endPos, encoding, true);
+            PList matchList = factory.createList();
+            boolean mustAdvance = false;
+            while (pos <= endPos) {
+                Object result = execNode.execute(inliningTarget, mustAdvance ? mustAdvanceRegex : regex, substring, pos);
+                if (!TRegexLoopExecNode.isMatch(resultLib, result)) {
+                    break;
+                }
+                Object item;
+                if (groups == 0) {
+                    item = group(inliningTarget, sliceNode, resultLib, result, substring, binary, 0);
+                } else if (groups == 1) {
+                    item = group(inliningTarget, sliceNode, resultLib, result, substring, binary, 1);
+                } else {
+                    Object[] items = new Object[groups];
+                    for (int i = 0; i < groups; i++) {
+                        items[i] = group(inliningTarget, sliceNode, resultLib, result, substring, binary, i + 1);
+                    }
+                    item = factory.createTuple(items);
+                }
+                appendNode.execute(matchList, item);
+                int start = TRegexLoopExecNode.getStart(resultLib, result, 0);
+                pos = TRegexLoopExecNode.getEnd(resultLib, result, 0);
+                mustAdvance = start == pos;
+            }
+            return matchList;
+        }
+
+        private static Object group(Node inliningTarget, TRegexLoopSliceNode sliceNode, InteropLibrary resultLib, Object result, TruffleString input, boolean binary, int group) {
+            int start = TRegexLoopExecNode.getStart(resultLib, result, group);
+            if (start < 0) {
+                return sliceNode.execute(inliningTarget, input, binary, 0, 0);
+            }
+            return sliceNode.execute(inliningTarget, input, binary, start, TRegexLoopExecNode.getEnd(resultLib, result, group));
+        }
+    }
+
+    @Builtin(name = "tregex_subn", minNumOfPositionalArgs = 5)
+    @GenerateNodeFactory
+    abstract static class TRegexSubnNode extends PythonBuiltinNode {
+
+        private static final TruffleString T_EXPECTED_STR_INSTANCE = tsLiteral("expected str instance, %p found");
+
+        /**
+         * {@code template} is the result of {@code re._compile_repl}, i.e., a list of
+         * {@code (index, group)} pairs and a list of literals with {@code None} at each index, or
+         * {@code None} if {@code repl} is a callable that gets called with each match.
+         */
+        @Specialization
+        static Object subn(VirtualFrame frame, PythonObject pattern, Object input, Object repl, Object template, Object countObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached HiddenAttr.ReadNode readCacheNode,
+                        @Cached TRegexCompile tRegexCompileNode,
+                        @Cached TRegexLoopInputNode inputNode,
+                        @Cached TRegexLoopExecNode execNode,
+                        @CachedLibrary(limit = "3") InteropLibrary resultLib,
+                        @Cached PyNumberAsSizeNode asSizeNode,
+                        @Cached SequenceNodes.GetObjectArrayNode getObjectArrayNode,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached InlinedConditionProfile callableProfile,
+                        @Cached CreateMatchFromTRegexResultNode createMatchNode,
+                        @Cached CallNode callNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.SubstringNode substringNode,
+                        @Cached TruffleStringBuilder.AppendStringNode appendStringNode,
+                        @Cached TruffleStringBuilder.ToStringNode toStringNode,
+                        @Cached TruffleString.CopyToByteArrayNode copyToByteArrayNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            boolean binary = ((TRegexCache) readCacheNode.execute(inliningTarget, pattern, HiddenAttr.TREGEX_CACHE, null)).isBinary();
+            TruffleString.Encoding encoding = binary ? TruffleString.Encoding.ISO_8859_1 : TS_ENCODING;
+            Object regex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, false);
+            Object mustAdvanceRegex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, true);
+            int count = asSizeNode.executeLossy(frame, inliningTarget, countObj);
+            TruffleString string = inputNode.execute(frame, inliningTarget, input, binary);
+            int length = codePointLengthNode.execute(string, encoding);
+
+            boolean isCallable = callableProfile.profile(inliningTarget, template == PNone.NONE);
+            TruffleString[] literals = null;
+            int[] literalGroups = null;
+            if (!isCallable) {
+                Object[] parts = getObjectArrayNode.execute(inliningTarget, template);
+                Object[] groupItems = getObjectArrayNode.execute(inliningTarget, parts[0]);
+                Object[] literalItems = getObjectArrayNode.execute(inliningTarget, parts[1]);
+                literals = new TruffleString[literalItems.length];
+                literalGroups = new int[literalItems.length];
+                for (int i = 0; i < literalItems.length; i++) {
+                    if (literalItems[i] != PNone.NONE) {
+                        literals[i] = inputNode.execute(frame, inliningTarget, literalItems[i], binary);
+                    }
+                }
+                for (Object groupItem : groupItems) {
+                    Object[] indexAndGroup = getObjectArrayNode.execute(inliningTarget, groupItem);
+                    literalGroups[asIntNode.execute(frame, inliningTarget, indexAndGroup[0])] = asIntNode.execute(frame, inliningTarget, indexAndGroup[1]);
+                }
+            }
+
+            TruffleStringBuilder sb = TruffleStringBuilder.create(encoding);
+            int n = 0;
+            int pos = 0;
+            boolean mustAdvance = false;
+            while ((count == 0 || n < count) && pos <= length) {
+                Object result = execNode.execute(inliningTarget, mustAdvance ? mustAdvanceRegex : regex, string, pos);
+                if (!TRegexLoopExecNode.isMatch(resultLib, result)) {
+                    break;
+                }
+                n++;
+                int start = TRegexLoopExecNode.getStart(resultLib, result, 0);
+                int end = TRegexLoopExecNode.getEnd(resultLib, result, 0);
+                appendStringNode.execute(sb, substringNode.execute(string, pos, start - pos, encoding, true));
+                if (isCallable) {
+                    Object match = createMatchNode.execute(frame, inliningTarget, pattern, pos, -1, result, input);
+                    Object replacement = callNode.execute(frame, repl, match);
+                    if (replacement != PNone.NONE) {
+                        TruffleString replacementStr = inputNode.execute(frame, inliningTarget, replacement, binary);
+                        if (replacementStr == null) {
+                            throw raiseNode.get(inliningTarget).raise(TypeError, binary ? ErrorMessages.EXPECTED_BYTESLIKE_GOT_P : T_EXPECTED_STR_INSTANCE, replacement);
+                        }
+                        appendStringNode.execute(sb, replacementStr);
+                    }
+                } else {
+                    for (int i = 0; i < literals.length; i++) {
+                        if (literals[i] != null) {
+                            appendStringNode.execute(sb, literals[i]);
+                        } else {
+                            int groupStart = TRegexLoopExecNode.getStart(resultLib, result, literalGroups[i]);
+                            if (groupStart >= 0) {
+                                int groupEnd = TRegexLoopExecNode.getEnd(resultLib, result, literalGroups[i]);
+                                appendStringNode.execute(sb, substringNode.execute(string, groupStart, groupEnd - groupStart, encoding, true));
+                            }
+                        }
+                    }
+                }
+                pos = end;
+                mustAdvance = start == end;
+            }
+            appendStringNode.execute(sb, substringNode.execute(string, pos, length - pos, encoding, true));
+            TruffleString resultStr = toStringNode.execute(sb);
+            Object resultObj;
+            if (binary) {
+                byte[] bytes = new byte[resultStr.byteLength(encoding)];
+                copyToByteArrayNode.execute(resultStr, 0, bytes, 0, bytes.length, encoding);
+                resultObj = factory.createBytes(bytes);
+            } else {
+                resultObj = resultStr;
+            }
+            return factory.createTuple(new Object[]{resultObj, n});
+        }
+    }
+
+    @Builtin(name = "tregex_split", minNumOfPositionalArgs = 3)
+    @GenerateNodeFactory
+    abstract static class TRegexSplitNode extends PythonTernaryBuiltinNode {
+
+        @Specialization
+        static Object split(VirtualFrame frame, PythonObject pattern, Object input, Object maxsplitObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached HiddenAttr.ReadNode readCacheNode,
+                        @Cached TRegexCompile tRegexCompileNode,
+                        @Cached TRegexLoopInputNode inputNode,
+                        @Cached TRegexLoopExecNode execNode,
+                        @Cached TRegexLoopSliceNode sliceNode,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "3") InteropLibrary resultLib,
+                        @Cached PyNumberAsSizeNode asSizeNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached ListNodes.AppendNode appendNode,
+                        @Cached PythonObjectFactory factory) {
+            boolean binary = ((TRegexCache) readCacheNode.execute(inliningTarget, pattern, HiddenAttr.TREGEX_CACHE, null)).isBinary();
+            Object regex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, false);
+            Object mustAdvanceRegex = tRegexCompileNode.execute(frame, pattern, PythonMethod.Search, true);
+            int groups = TRegexLoopExecNode.getGroupCount(regexLib, regex);
+            int maxsplit = asSizeNode.executeLossy(frame, inliningTarget, maxsplitObj);
+            TruffleString string = inputNode.execute(frame, inliningTarget, input, binary);
+            int length = codePointLengthNode.execute(string, binary ? TruffleString.Encoding.ISO_8859_1 : TS_ENCODING);
+            PList result = factory.createList();
+            int n = 0;
+            int collectPos = 0;
+            int searchPos = 0;
+            boolean mustAdvance = false;
+            while ((maxsplit == 0 || n < maxsplit) && searchPos <= length) {
+                Object match = execNode.execute(inliningTarget, mustAdvance ? mustAdvanceRegex : regex, string, searchPos);
+                if (!TRegexLoopExecNode.isMatch(resultLib, match)) {
+                    break;
+                }
+                n++;
+                int start = TRegexLoopExecNode.getStart(resultLib, match, 0);
+                int end = TRegexLoopExecNode.getEnd(resultLib, match, 0);
+                appendNode.execute(result, sliceNode.execute(inliningTarget, string, binary, collectPos, start));
+                // add all group strings
+                for (int i = 1; i <= groups; i++) {
+                    int groupStart = TRegexLoopExecNode.getStart(resultLib, match, i);
+                    if (groupStart >= 0) {
+                        appendNode.execute(result, sliceNode.execute(inliningTarget, string, binary, groupStart, TRegexLoopExecNode.getEnd(resultLib, match, i)));
+                    } else {
+                        appendNode.execute(result, PNone.NONE);
+                    }
+                }
+                collectPos = end;
+                searchPos = end;
+                mustAdvance = start == end;
+            }
+            appendNode.execute(result, sliceNode.execute(inliningTarget, string, binary, collectPos, length));
+            return result;
+        }
+    }
 }
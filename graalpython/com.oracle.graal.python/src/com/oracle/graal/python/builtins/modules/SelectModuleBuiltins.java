@@ -52,6 +52,7 @@ import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.select.PPoll;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
 import com.oracle.graal.python.lib.PyObjectGetItem;
@@ -67,6 +68,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PosixConstants;
+import com.oracle.graal.python.runtime.PosixConstants.IntConstant;
 import com.oracle.graal.python.runtime.PosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableException;
@@ -95,8 +97,9 @@ import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 public final class SelectModuleBuiltins extends PythonBuiltins {
 
     /*
-     * ATTENTION: if we ever add "poll" support, update the code in
-     * MultiprocessingModuleBuilins#SelectNode to use it if available
+     * NOTE: with "poll" available, multiprocessing.connection.wait uses PollSelector for real file
+     * descriptors. MultiprocessingGraalPyModuleBuiltins#SelectNode still uses select for the mixed
+     * case, which handles the same descriptors.
      */
 
     public SelectModuleBuiltins() {
@@ -114,6 +117,31 @@ public final class SelectModuleBuiltins extends PythonBuiltins {
         if (PosixConstants.PIPE_BUF.defined) {
             addBuiltinConstant("PIPE_BUF", PosixConstants.PIPE_BUF.getValueIfDefined());
         }
+        for (IntConstant c : PosixConstants.pollEvents) {
+            if (c.defined) {
+                addBuiltinConstant(c.name, c.getValueIfDefined());
+            }
+        }
+        if (PosixConstants.EPOLLIN.defined) {
+            addBuiltinConstant("epoll", PythonBuiltinClassType.PEpoll);
+            // the event masks are unsigned in CPython, EPOLLET is the sign bit
+            for (IntConstant c : PosixConstants.epollEvents) {
+                if (c.defined) {
+                    addBuiltinConstant(c.name, Integer.toUnsignedLong(c.getValueIfDefined()));
+                }
+            }
+            addBuiltinConstant("EPOLL_CLOEXEC", PosixConstants.EPOLL_CLOEXEC.getValueIfDefined());
+        }
+    }
+
+    @Builtin(name = "poll")
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonBuiltinNode {
+        @Specialization
+        static PPoll poll(
+                        @Cached PythonObjectFactory factory) {
+            return factory.createPoll();
+        }
     }
 
     @Builtin(name = "select", minNumOfPositionalArgs = 3, parameterNames = {"rlist", "wlist", "xlist", "timeout"})
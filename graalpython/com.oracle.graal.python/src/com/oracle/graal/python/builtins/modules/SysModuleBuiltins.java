@@ -274,6 +274,9 @@ public final class SysModuleBuiltins extends PythonBuiltins {
     public static final int INT_MAX_STR_DIGITS_THRESHOLD = 640;
 
     public static final TruffleString T_CACHE_TAG = tsLiteral("cache_tag");
+    /*- 'cache_tag' must match the format of mx.graalpython/mx_graalpython.py:graalpy_ext */
+    public static final String J_CACHE_TAG = J_GRAALPYTHON_ID + PythonLanguage.GRAALVM_MAJOR + PythonLanguage.GRAALVM_MINOR + PythonLanguage.DEV_TAG + "-" + PythonLanguage.MAJOR +
+                    PythonLanguage.MINOR;
     public static final TruffleString T__MULTIARCH = tsLiteral("_multiarch");
 
     static {
@@ -510,10 +513,7 @@ public final class SysModuleBuiltins extends PythonBuiltins {
     protected static PSimpleNamespace makeImplementation(PythonObjectFactory factory, PTuple versionInfo, TruffleString gmultiarch) {
         final PSimpleNamespace ns = factory.createSimpleNamespace();
         ns.setAttribute(tsLiteral("name"), T_GRAALPYTHON_ID);
-        /*- 'cache_tag' must match the format of mx.graalpython/mx_graalpython.py:graalpy_ext */
-        ns.setAttribute(T_CACHE_TAG, toTruffleStringUncached(J_GRAALPYTHON_ID +
-                        PythonLanguage.GRAALVM_MAJOR + PythonLanguage.GRAALVM_MINOR + PythonLanguage.DEV_TAG +
-                        "-" + PythonLanguage.MAJOR + PythonLanguage.MINOR));
+        ns.setAttribute(T_CACHE_TAG, toTruffleStringUncached(J_CACHE_TAG));
         ns.setAttribute(T_VERSION, versionInfo);
         ns.setAttribute(T__MULTIARCH, gmultiarch);
         ns.setAttribute(tsLiteral("hexversion"), PythonLanguage.VERSION_HEX);
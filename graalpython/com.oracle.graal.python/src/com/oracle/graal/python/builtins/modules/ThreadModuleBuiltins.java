@@ -78,6 +78,7 @@ import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObject
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonThreadKillException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
@@ -185,6 +186,8 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     @TypeSystemReference(PythonArithmeticTypes.class)
     abstract static class GetThreadStackSizeNode extends PythonUnaryBuiltinNode {
+        // same as THREAD_STACK_MIN in CPython's thread_pthread.h
+        private static final long THREAD_STACK_MIN = 0x8000;
 
         @Specialization
         long getStackSize(@SuppressWarnings("unused") PNone stackSize) {
@@ -198,6 +201,9 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
             if (stackSize < 0) {
                 throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.SIZE_MUST_BE_D_OR_S, 0, "a positive value");
             }
+            if (stackSize != 0 && stackSize < THREAD_STACK_MIN) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.SIZE_NOT_VALID_D_BYTES, stackSize);
+            }
             return PythonContext.get(inliningTarget).getAndSetPythonsThreadStackSize(stackSize);
         }
     }
@@ -206,6 +212,8 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
     @Builtin(name = "start_new", minNumOfPositionalArgs = 3, maxNumOfPositionalArgs = 4)
     @GenerateNodeFactory
     abstract static class StartNewThreadNode extends PythonBuiltinNode {
+        private static final long PYTHON_STACK_SIZE_FACTOR = 16;
+        private static final long MIN_JAVA_THREAD_STACK_SIZE = 1024 * 1024;
 
         private static final TruffleString IN_THREAD_STARTED_BY = tsLiteral("in thread started by");
 
@@ -225,8 +233,6 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
             Object[] arguments = getArgsNode.executeWith(frame, args);
             PKeyword[] keywords = getKwArgsNode.execute(frame, inliningTarget, kwargs);
 
-            // TODO: python thread stack size != java thread stack size
-            // ignore setting the stack size for the moment
             TruffleThreadBuilder threadBuilder = env.newTruffleThreadBuilder(() -> {
                 try (GilNode.UncachedAcquire gil = GilNode.uncachedAcquire()) {
                     // the increment is protected by the gil
@@ -251,6 +257,21 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
                     }
                 }
             }).context(env.getContext()).threadGroup(context.getThreadGroup());
+            /*
+             * Sizes passed to threading.stack_size() are chosen for CPython's frames, which are much
+             * smaller than the Java frames of a Python call here, so they are scaled up and never go
+             * below MIN_JAVA_THREAD_STACK_SIZE. The ThreadStackSize option gives the exact Java
+             * stack size.
+             */
+            long stackSize = context.getPythonThreadStackSize();
+            if (stackSize != 0) {
+                stackSize = stackSize > Long.MAX_VALUE / PYTHON_STACK_SIZE_FACTOR ? Long.MAX_VALUE : Math.max(stackSize * PYTHON_STACK_SIZE_FACTOR, MIN_JAVA_THREAD_STACK_SIZE);
+            } else {
+                stackSize = context.getOption(PythonOptions.ThreadStackSize);
+            }
+            if (stackSize > 0) {
+                threadBuilder.stackSize(stackSize);
+            }
 
             PThread pThread = factory.createPythonThread(cls, threadBuilder.build());
             pThread.start();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,23 +40,47 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__TRACEMALLOC;
 
+import java.util.HashMap;
 import java.util.List;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
-import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.TracemallocState;
+import com.oracle.graal.python.runtime.TracemallocState.Site;
+import com.oracle.graal.python.runtime.TracemallocState.Trace;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
 
+/**
+ * Allocation tracing for the {@code tracemalloc} module. The traces are recorded by
+ * {@link TracemallocState}; see there for how sizes are estimated and sampled. There is only one
+ * domain ({@code 0}) for objects allocated by the interpreter.
+ */
 @CoreFunctions(defineModule = J__TRACEMALLOC)
 public final class TracemallocModuleBuiltins extends PythonBuiltins {
 
@@ -70,13 +94,124 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
         super.initialize(core);
     }
 
+    @Builtin(name = "start", minNumOfPositionalArgs = 0, parameterNames = {"nframe"})
+    @ArgumentClinic(name = "nframe", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "1")
+    @GenerateNodeFactory
+    abstract static class StartNode extends PythonUnaryClinicBuiltinNode {
+        @Specialization
+        static PNone start(int nframe,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (nframe < 1 || nframe > TracemallocState.MAX_NFRAME) {
+                throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NUMBER_OF_FRAMES_MUST_BE_IN_RANGE, TracemallocState.MAX_NFRAME);
+            }
+            PythonContext context = PythonContext.get(inliningTarget);
+            PythonLanguage.get(inliningTarget).noTracemallocAssumption.invalidate();
+            context.getTracemallocState().start(nframe, context.getOption(PythonOptions.TracemallocSampleInterval));
+            return PNone.NONE;
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return TracemallocModuleBuiltinsClinicProviders.StartNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "stop")
+    @GenerateNodeFactory
+    abstract static class StopNode extends PythonBuiltinNode {
+        @Specialization
+        PNone stop() {
+            getContext().getTracemallocState().stop();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "is_tracing")
+    @GenerateNodeFactory
+    abstract static class IsTracingNode extends PythonBuiltinNode {
+        @Specialization
+        boolean isTracing() {
+            return getContext().getTracemallocState().isTracing();
+        }
+    }
+
+    @Builtin(name = "clear_traces")
+    @GenerateNodeFactory
+    abstract static class ClearTracesNode extends PythonBuiltinNode {
+        @Specialization
+        PNone clear() {
+            getContext().getTracemallocState().clear();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_traceback_limit")
+    @GenerateNodeFactory
+    abstract static class GetTracebackLimitNode extends PythonBuiltinNode {
+        @Specialization
+        int getLimit() {
+            return getContext().getTracemallocState().getTracebackLimit();
+        }
+    }
+
+    @Builtin(name = "get_traced_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracedMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        PTuple get(
+                        @Cached PythonObjectFactory factory) {
+            TracemallocState state = getContext().getTracemallocState();
+            if (!state.isTracing()) {
+                return factory.createTuple(new Object[]{0, 0});
+            }
+            return factory.createTuple(new Object[]{state.getTracedMemory(), state.getPeakTracedMemory()});
+        }
+    }
+
+    @Builtin(name = "reset_peak")
+    @GenerateNodeFactory
+    abstract static class ResetPeakNode extends PythonBuiltinNode {
+        @Specialization
+        PNone reset() {
+            TracemallocState state = getContext().getTracemallocState();
+            if (state.isTracing()) {
+                state.resetPeak();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tracemalloc_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracemallocMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        long get() {
+            return getContext().getTracemallocState().getTracemallocMemory();
+        }
+    }
+
     @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
-    abstract static class GetObjectTracebackNode extends PythonBuiltinNode {
+    abstract static class GetObjectTracebackNode extends PythonUnaryBuiltinNode {
         @Specialization
-        static Object getObjectTraceback(Object obj,
-                        @Cached PRaiseNode raiseNode) {
-            throw raiseNode.raise(PythonBuiltinClassType.NotImplementedError);
+        @TruffleBoundary
+        Object getObjectTraceback(Object obj) {
+            TracemallocState state = getContext().getTracemallocState();
+            if (!state.isTracing()) {
+                return PNone.NONE;
+            }
+            Site site = state.getObjectSite(obj);
+            if (site == null) {
+                return PNone.NONE;
+            }
+            PythonThreadState threadState = getContext().getThreadState(getLanguage());
+            boolean wasSuspended = threadState.setTracemallocSuspended(true);
+            try {
+                return createTraceback(PythonObjectFactory.getUncached(), site);
+            } finally {
+                threadState.setTracemallocSuspended(wasSuspended);
+            }
         }
     }
 
@@ -84,9 +219,37 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetTracesNode extends PythonBuiltinNode {
         @Specialization
-        static Object getTraces(
-                        @Cached PRaiseNode raiseNode) {
-            throw raiseNode.raise(PythonBuiltinClassType.NotImplementedError);
+        @TruffleBoundary
+        Object getTraces() {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            TracemallocState state = getContext().getTracemallocState();
+            if (!state.isTracing()) {
+                return factory.createList();
+            }
+            Trace[] traces = state.getTraces();
+            // like tracemalloc_get_traces, do not trace the objects of the result
+            PythonThreadState threadState = getContext().getThreadState(getLanguage());
+            boolean wasSuspended = threadState.setTracemallocSuspended(true);
+            try {
+                HashMap<Site, PTuple> tracebacks = new HashMap<>();
+                Object[] result = new Object[traces.length];
+                for (int i = 0; i < traces.length; i++) {
+                    Site site = traces[i].getSite();
+                    PTuple traceback = tracebacks.computeIfAbsent(site, s -> createTraceback(factory, s));
+                    result[i] = factory.createTuple(new Object[]{0, traces[i].getSize(), traceback, site.getTotalFrames()});
+                }
+                return factory.createList(result);
+            } finally {
+                threadState.setTracemallocSuspended(wasSuspended);
+            }
+        }
+    }
+
+    private static PTuple createTraceback(PythonObjectFactory factory, Site site) {
+        Object[] frames = new Object[site.getFrameCount()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = factory.createTuple(new Object[]{site.getFilename(i), site.getLineno(i)});
         }
+        return factory.createTuple(frames);
     }
 }
@@ -43,7 +43,10 @@ package com.oracle.graal.python.builtins.modules.csv;
 import static com.oracle.graal.python.builtins.modules.csv.CSVModuleBuiltins.NOT_SET_CODEPOINT;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
+import java.util.Arrays;
+
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
 
@@ -62,6 +65,9 @@ public final class CSVDialect extends PythonBuiltinObject {
     final int escapeCharCodePoint; /* code point representation for handling utf-32 escape chars */
     final int quoteCharCodePoint; /* code point representation for handling utf-32 quote chars */
 
+    /* code points that may change the reader state, everything else is copied to fields in bulk */
+    final TruffleString.CodePointSet readerSpecialCodePoints;
+
     public CSVDialect(Object cls, Shape instanceShape, TruffleString delimiter, int delimiterCodePoint, boolean doubleQuote, TruffleString escapeChar, int escapeCharCodePoint,
                     TruffleString lineTerminator, TruffleString quoteChar, int quoteCharCodePoint, QuoteStyle quoting, boolean skipInitialSpace, boolean strict) {
         super(cls, instanceShape);
@@ -81,5 +87,29 @@ public final class CSVDialect extends PythonBuiltinObject {
         this.delimiterCodePoint = delimiterCodePoint;
         this.escapeCharCodePoint = escapeCharCodePoint;
         this.quoteCharCodePoint = quoteCharCodePoint;
+        this.readerSpecialCodePoints = createReaderSpecialCodePoints(delimiterCodePoint, escapeCharCodePoint, quoteCharCodePoint);
+    }
+
+    @TruffleBoundary
+    private static TruffleString.CodePointSet createReaderSpecialCodePoints(int... dialectCodePoints) {
+        int[] codePoints = Arrays.copyOf(dialectCodePoints, dialectCodePoints.length + 2);
+        codePoints[dialectCodePoints.length] = '\n';
+        codePoints[dialectCodePoints.length + 1] = '\r';
+        Arrays.sort(codePoints);
+        // ranges must be sorted and must not overlap or touch each other
+        int[] ranges = new int[codePoints.length * 2];
+        int n = 0;
+        for (int cp : codePoints) {
+            if (cp == NOT_SET_CODEPOINT) {
+                continue;
+            }
+            if (n > 0 && cp <= ranges[n - 1] + 1) {
+                ranges[n - 1] = Math.max(ranges[n - 1], cp);
+            } else {
+                ranges[n++] = cp;
+                ranges[n++] = cp;
+            }
+        }
+        return TruffleString.CodePointSet.fromRanges(Arrays.copyOf(ranges, n), TS_ENCODING);
     }
 }
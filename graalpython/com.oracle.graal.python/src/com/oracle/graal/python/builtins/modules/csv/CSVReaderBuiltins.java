@@ -89,7 +89,6 @@ import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
 import com.oracle.truffle.api.strings.TruffleStringBuilder.AppendCodePointNode;
 import com.oracle.truffle.api.strings.TruffleStringBuilder.ToStringNode;
-import com.oracle.truffle.api.strings.TruffleStringIterator;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.CSVReader)
 public final class CSVReaderBuiltins extends PythonBuiltins {
@@ -120,10 +119,10 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
         @Specialization
         static Object nextPos(VirtualFrame frame, CSVReader self,
                         @Bind("this") Node inliningTarget,
-                        @Cached TruffleString.ByteIndexOfCodePointNode byteIndexOfCodePointNode,
-                        @Cached TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
-                        @Cached TruffleStringIterator.NextNode nextNode,
+                        @Cached TruffleString.ByteIndexOfCodePointSetNode byteIndexOfCodePointSetNode,
+                        @Cached TruffleString.CodePointAtByteIndexNode codePointAtByteIndexNode,
                         @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        @Cached TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringNode,
                         @Cached TruffleStringBuilder.ToStringNode toStringNode,
                         @Cached PyNumberFloatNode pyNumberFloatNode,
                         @Cached AppendNode appendNode,
@@ -167,10 +166,22 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                 }
 
                 self.lineNum++;
-                TruffleStringIterator tsi = createCodePointIteratorNode.execute(line, TS_ENCODING);
-                while (tsi.hasNext()) {
-                    final int codepoint = nextNode.execute(tsi);
+                int lineByteLength = line.byteLength(TS_ENCODING);
+                int byteIndex = 0;
+                while (byteIndex < lineByteLength) {
+                    if (self.state == IN_FIELD || self.state == IN_QUOTED_FIELD) {
+                        /* copy everything up to the next code point that may change the state */
+                        int special = byteIndexOfCodePointSetNode.execute(line, byteIndex, lineByteLength, self.dialect.readerSpecialCodePoints);
+                        int end = special < 0 ? lineByteLength : special;
+                        if (end > byteIndex) {
+                            parseAddSubstring(inliningTarget, self, line, byteIndex, end - byteIndex, appendSubstringNode, raiseNode);
+                            byteIndex = end;
+                            continue;
+                        }
+                    }
+                    final int codepoint = codePointAtByteIndexNode.execute(line, byteIndex, TS_ENCODING);
                     parseProcessCodePoint(inliningTarget, self, fields, codepoint, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode, raiseNode);
+                    byteIndex += 4;     // assumes UTF-32
                 }
                 parseProcessCodePoint(inliningTarget, self, fields, EOL, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode, raiseNode);
 
@@ -342,6 +353,16 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
             }
         }
 
+        private static void parseAddSubstring(Node inliningTarget, CSVReader self, TruffleString line, int fromByteIndex, int byteLength,
+                        TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringNode, PRaiseNode.Lazy raise) {
+            assert TS_ENCODING == TruffleString.Encoding.UTF_32;
+            int cpLen = self.field.byteLength() / 4;        // assumes UTF-32
+            if (cpLen + byteLength / 4 > self.fieldLimit) {
+                throw raise.get(inliningTarget).raise(PythonBuiltinClassType.CSVError, ErrorMessages.LARGER_THAN_FIELD_SIZE_LIMIT, self.fieldLimit);
+            }
+            appendSubstringNode.execute(self.field, line, fromByteIndex, byteLength);
+        }
+
         private static void parseAddCodePoint(Node inliningTarget, CSVReader self, int codePoint, TruffleStringBuilder.AppendCodePointNode appendCodePointNode, PRaiseNode.Lazy raise) {
             assert TS_ENCODING == TruffleString.Encoding.UTF_32;
             int cpLen = self.field.byteLength() / 4;        // assumes UTF-32
@@ -195,7 +195,8 @@ public abstract class DigestObject extends PythonBuiltinObject {
     abstract boolean wasReset();
 
     /**
-     * Must not be called if {@link #wasReset()} returns true.
+     * Must not be called if {@link #wasReset()} returns true. May be called without holding the
+     * GIL, the underlying digest is only accessed while holding the monitor of this object.
      */
     abstract void update(byte[] data, int length);
 
@@ -263,25 +264,25 @@ public abstract class DigestObject extends PythonBuiltinObject {
 
         @Override
         @TruffleBoundary
-        DigestObject copy(PythonObjectFactory factory) throws CloneNotSupportedException {
+        synchronized DigestObject copy(PythonObjectFactory factory) throws CloneNotSupportedException {
             return factory.createDigestObject(getType(), getAlgorithm(), digest.clone());
         }
 
         @Override
         @TruffleBoundary
-        byte[] calculateDigestOnClone() throws CloneNotSupportedException {
+        synchronized byte[] calculateDigestOnClone() throws CloneNotSupportedException {
             return ((MessageDigest) digest.clone()).digest();
         }
 
         @Override
         @TruffleBoundary
-        byte[] calculateDigest() {
+        synchronized byte[] calculateDigest() {
             return digest.digest();
         }
 
         @Override
         @TruffleBoundary
-        void doUpdate(byte[] data, int length) {
+        synchronized void doUpdate(byte[] data, int length) {
             digest.update(data, 0, length);
         }
 
@@ -302,25 +303,25 @@ public abstract class DigestObject extends PythonBuiltinObject {
 
         @Override
         @TruffleBoundary
-        DigestObject copy(PythonObjectFactory factory) throws CloneNotSupportedException {
+        synchronized DigestObject copy(PythonObjectFactory factory) throws CloneNotSupportedException {
             return factory.createDigestObject(getType(), getAlgorithm(), mac.clone());
         }
 
         @Override
         @TruffleBoundary
-        byte[] calculateDigestOnClone() throws CloneNotSupportedException {
+        synchronized byte[] calculateDigestOnClone() throws CloneNotSupportedException {
             return ((Mac) mac.clone()).doFinal();
         }
 
         @Override
         @TruffleBoundary
-        byte[] calculateDigest() {
+        synchronized byte[] calculateDigest() {
             return mac.doFinal();
         }
 
         @Override
         @TruffleBoundary
-        void doUpdate(byte[] data, int length) {
+        synchronized void doUpdate(byte[] data, int length) {
             mac.update(data, 0, length);
         }
 
@@ -58,6 +58,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.PythonUtils;
@@ -70,6 +71,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(extendClasses = {PythonBuiltinClassType.MD5Type, PythonBuiltinClassType.SHA1Type, PythonBuiltinClassType.SHA224Type, PythonBuiltinClassType.SHA256Type,
@@ -78,6 +80,10 @@ import com.oracle.truffle.api.strings.TruffleString;
                 PythonBuiltinClassType.Sha3SHA512Type, PythonBuiltinClassType.Sha3Shake128Type, PythonBuiltinClassType.Sha3Shake256Type,
                 PythonBuiltinClassType.Blake2bType, PythonBuiltinClassType.Blake2sType})
 public final class DigestObjectBuiltins extends PythonBuiltins {
+    // Same as HASHLIB_GIL_MINSIZE in CPython
+    static final int GIL_MINSIZE = 2048;
+    static final int UPDATE_CHUNK_SIZE = 64 * 1024;
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return DigestObjectBuiltinsFactory.getFactories();
@@ -135,17 +141,46 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile internalArrayProfile,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             if (self.wasReset()) {
                 throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
             }
             try {
-                self.update(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
+                int length = bufferLib.getBufferLength(buffer);
+                if (internalArrayProfile.profile(inliningTarget, bufferLib.hasInternalByteArray(buffer))) {
+                    update(self, bufferLib.getInternalByteArray(buffer), length, gil);
+                } else {
+                    // Native and mmap-backed buffers are hashed through a bounded scratch array
+                    // instead of copying them to the heap as a whole
+                    byte[] chunk = new byte[Math.min(length, UPDATE_CHUNK_SIZE)];
+                    for (int offset = 0; offset < length; offset += chunk.length) {
+                        int chunkLength = Math.min(chunk.length, length - offset);
+                        bufferLib.readIntoByteArray(buffer, offset, chunk, 0, chunkLength);
+                        update(self, chunk, chunkLength, gil);
+                    }
+                }
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
             return PNone.NONE;
         }
+
+        private static void update(DigestObject self, byte[] data, int length, GilNode gil) {
+            // Like CPython, only release the GIL when hashing takes long enough to pay off. The
+            // buffer stays exported meanwhile, so it cannot be resized under our hands.
+            if (length >= GIL_MINSIZE) {
+                gil.release(true);
+                try {
+                    self.update(data, length);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                self.update(data, length);
+            }
+        }
     }
 
     @Builtin(name = "block_size", minNumOfPositionalArgs = 1, isGetter = true)
@@ -66,15 +66,18 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.HashlibModuleBuiltinsClinicProviders.FileDigestFdNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.modules.hashlib.HashlibModuleBuiltinsClinicProviders.NewNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes;
+import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.ssl.CertUtils;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromPythonObjectNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
@@ -82,17 +85,25 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
 import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -102,6 +113,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleString.CodeRange;
 
@@ -114,6 +126,8 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
         return HashlibModuleBuiltinsFactory.getFactories();
     }
 
+    // Same as the default _bufsize of hashlib.file_digest
+    private static final int FILE_DIGEST_CHUNK_SIZE = 256 * 1024;
     private static final String OPENSSL_PREFIX = "openssl_";
     private static final Map<String, String> NAME_MAPPINGS = Map.of(
                     "sha3_224", "sha3-sha224",
@@ -443,6 +457,70 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Hashes the file behind {@code fd} from {@code offset} to its end with {@code pread}, so the
+     * position of the file descriptor is left untouched. Used by {@code hashlib.file_digest}, which
+     * takes care of the position of the Python file object. Returns the number of bytes hashed, or
+     * {@code None} if {@code digestobj} is not one of our digest objects.
+     */
+    @Builtin(name = "file_digest_fd", minNumOfPositionalArgs = 3, parameterNames = {"digestobj", "fd", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "offset", conversion = ArgumentClinic.ClinicConversion.Long)
+    @GenerateNodeFactory
+    abstract static class FileDigestFdNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return FileDigestFdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long fileDigest(VirtualFrame frame, DigestObject digestobj, int fd, long offset,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (digestobj.wasReset()) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
+            }
+            long total = 0;
+            try {
+                gil.release(true);
+                try {
+                    while (true) {
+                        Buffer chunk;
+                        try {
+                            chunk = posixLib.pread(PosixSupport.get(inliningTarget), fd, FILE_DIGEST_CHUNK_SIZE, offset + total);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                                continue;
+                            }
+                            throw e;
+                        }
+                        if (chunk.length == 0) {
+                            return total;
+                        }
+                        digestobj.update(chunk.data, (int) chunk.length);
+                        total += chunk.length;
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static Object other(Object digestobj, Object fd, Object offset) {
+            return PNone.NONE;
+        }
+    }
+
     @Builtin(name = "get_fips_mode")
     @GenerateNodeFactory
     abstract static class GetFipsNode extends PythonBuiltinNode {
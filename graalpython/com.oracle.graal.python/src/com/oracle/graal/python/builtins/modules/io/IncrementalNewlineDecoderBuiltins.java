@@ -88,6 +88,8 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -151,23 +153,40 @@ public final class IncrementalNewlineDecoderBuiltins extends PythonBuiltins {
         static TruffleString noDecoder(VirtualFrame frame, PNLDecoder self, Object inputIn, boolean isFinal,
                         @Bind("this") Node inliningTarget,
                         @Cached InlinedBranchProfile hasDecoderProfile,
-                        @Cached InlinedConditionProfile len0Profile,
                         @Cached CastToTruffleStringNode toString,
-                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
-                        @Cached TruffleString.CodePointAtIndexNode codePointAtIndexNode,
-                        @Cached TruffleString.IndexOfCodePointNode indexOfCodePointNode,
-                        @Cached TruffleString.SubstringNode substringNode,
-                        @Cached TruffleString.ConcatNode concatNode,
-                        @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
-                        @Cached TruffleStringBuilder.ToStringNode toStringNode,
+                        @Cached TranslateNewlinesNode translateNewlinesNode,
                         @Cached PyObjectCallMethodObjArgs callMethod) {
             Object input = inputIn;
             if (self.hasDecoder()) {
                 hasDecoderProfile.enter(inliningTarget);
                 input = callMethod.execute(frame, inliningTarget, self.getDecoder(), T_DECODE, input, isFinal);
             }
+            return translateNewlinesNode.execute(inliningTarget, self, toString.execute(inliningTarget, input), isFinal);
+        }
+    }
+
+    /**
+     * The newline handling part of {@code _PyIncrementalNewlineDecoder_decode}, applied to text
+     * that has already been decoded by the wrapped decoder. Used directly by
+     * {@link TextIOWrapperNodes.DecodeNode} when the wrapped decoder is bypassed.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class TranslateNewlinesNode extends Node {
 
-            TruffleString output = toString.execute(inliningTarget, input);
+        public abstract TruffleString execute(Node inliningTarget, PNLDecoder self, TruffleString output, boolean isFinal);
+
+        @Specialization
+        static TruffleString translate(Node inliningTarget, PNLDecoder self, TruffleString outputIn, boolean isFinal,
+                        @Cached InlinedConditionProfile len0Profile,
+                        @Cached(inline = false) TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached(inline = false) TruffleString.CodePointAtIndexNode codePointAtIndexNode,
+                        @Cached(inline = false) TruffleString.IndexOfCodePointNode indexOfCodePointNode,
+                        @Cached(inline = false) TruffleString.SubstringNode substringNode,
+                        @Cached(inline = false) TruffleString.ConcatNode concatNode,
+                        @Cached(inline = false) TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        @Cached(inline = false) TruffleStringBuilder.ToStringNode toStringNode) {
+            TruffleString output = outputIn;
             int outputLen = codePointLengthNode.execute(output, TS_ENCODING);
             if (self.isPendingCR() && (isFinal || outputLen > 0)) {
                 /* Prefix output with CR */
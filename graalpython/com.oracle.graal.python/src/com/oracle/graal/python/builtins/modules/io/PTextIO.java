@@ -79,6 +79,11 @@ public final class PTextIO extends PTextIOBase {
     private Object encodefunc;
     /* Whether or not it's the start of the stream */
     private boolean encodingStartOfStream;
+    /*
+     * Encoding of the codec behind the decoder if its bytes can be decoded directly by
+     * TextIOWrapperNodes.DecodeNode (utf-8, latin-1 or ascii with strict errors), or null.
+     */
+    private TruffleString.Encoding fastDecodeEncoding;
 
     /*
      * Reads and writes are internally buffered in order to speed things up. However, any read will
@@ -128,6 +133,7 @@ public final class PTextIO extends PTextIOBase {
         clearPendingBytes();
         clearSnapshot();
         encodefunc = null;
+        fastDecodeEncoding = null;
         b2cratio = 0.0;
     }
 
@@ -252,6 +258,14 @@ public final class PTextIO extends PTextIOBase {
         this.encodefunc = encodefunc;
     }
 
+    public TruffleString.Encoding getFastDecodeEncoding() {
+        return fastDecodeEncoding;
+    }
+
+    public void setFastDecodeEncoding(TruffleString.Encoding fastDecodeEncoding) {
+        this.fastDecodeEncoding = fastDecodeEncoding;
+    }
+
     public boolean isEncodingStartOfStream() {
         return encodingStartOfStream;
     }
@@ -472,7 +472,7 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
 
             /* Read everything */
             Object bytes = callMethod.execute(frame, inliningTarget, self.getBuffer(), T_READ);
-            TruffleString decoded = decodeNode.execute(frame, self.getDecoder(), bytes, true);
+            TruffleString decoded = decodeNode.execute(frame, self, bytes, true);
             TruffleString result = self.consumeAllDecodedChars(substringNode, !decoded.isEmpty());
             result = concatNode.execute(result, decoded, TS_ENCODING, false);
             self.clearDecodedChars();
@@ -772,7 +772,7 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
                 // TODO avoid copy?
                 self.setSnapshotNextInput(bufferLib.getCopiedByteArray(inputChunk));
 
-                TruffleString decoded = decodeNode.execute(frame, self.getDecoder(), inputChunk, cookie.needEOF != 0);
+                TruffleString decoded = decodeNode.execute(frame, self, inputChunk, cookie.needEOF != 0);
                 int decodedLen = self.setDecodedChars(decoded, codePointLengthNode);
 
                 /* Skip chars_to_skip of the decoded characters. */
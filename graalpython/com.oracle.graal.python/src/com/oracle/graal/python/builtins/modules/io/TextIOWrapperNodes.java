@@ -45,8 +45,10 @@ import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IOUnsuppor
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.PIncrementalNewlineDecoder;
 import static com.oracle.graal.python.builtins.modules.CodecsTruffleModuleBuiltins.T_INCREMENTALDECODER;
 import static com.oracle.graal.python.builtins.modules.CodecsTruffleModuleBuiltins.T_INCREMENTALENCODER;
+import static com.oracle.graal.python.builtins.modules.io.IONodes.T_BUFFER;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_CLOSED;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_GETSTATE;
+import static com.oracle.graal.python.builtins.modules.io.IONodes.T_NAME;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_READ;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_READ1;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_READABLE;
@@ -71,6 +73,7 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.T_DECODE;
 import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
 import static com.oracle.graal.python.nodes.StringLiterals.T_NEWLINE;
 import static com.oracle.graal.python.nodes.StringLiterals.T_STRICT;
+import static com.oracle.graal.python.nodes.StringLiterals.T_UTF8;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.OSError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
@@ -93,6 +96,7 @@ import com.oracle.graal.python.lib.PyObjectGetAttr;
 import com.oracle.graal.python.lib.PyObjectIsTrueNode;
 import com.oracle.graal.python.lib.PyObjectLookupAttr;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.lib.PyObjectSetAttr;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
@@ -101,10 +105,12 @@ import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
 import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateUncached;
@@ -113,6 +119,7 @@ import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
@@ -120,6 +127,7 @@ import com.oracle.truffle.api.strings.TruffleStringBuilder;
 public abstract class TextIOWrapperNodes {
 
     public static final TruffleString T_CODECS_OPEN = tsLiteral("codecs.open()");
+    private static final TruffleString T_ISO8859_1 = tsLiteral("iso8859-1");
 
     protected static void validateNewline(TruffleString str, Node inliningTarget, PRaiseNode.Lazy raise, TruffleString.CodePointLengthNode codePointLengthNode,
                     TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
@@ -563,7 +571,7 @@ public abstract class TextIOWrapperNodes {
                 int nbytes = bufferLib.getBufferLength(inputChunkBuf);
                 boolean eof = nbytes == 0;
 
-                TruffleString decodedChars = decodeNode.execute(frame, self.getDecoder(), inputChunk, eof);
+                TruffleString decodedChars = decodeNode.execute(frame, self, inputChunk, eof);
 
                 self.clearDecodedChars();
                 int nchars = self.setDecodedChars(decodedChars, codePointLengthNode);
@@ -608,23 +616,97 @@ public abstract class TextIOWrapperNodes {
      */
     @SuppressWarnings("truffle-inlining")       // footprint reduction 80 -> 62
     protected abstract static class DecodeNode extends Node {
-        public abstract TruffleString execute(VirtualFrame frame, Object decoder, Object bytes, boolean eof);
+        public abstract TruffleString execute(VirtualFrame frame, PTextIO self, Object bytes, boolean eof);
 
         /*
-         * @Specialization(limit = "2") String decodeIncDec(VirtualFrame frame, Object decoder,
-         * Object o, boolean eof, // TODO: chars = _PyIncrementalNewlineDecoder_decode(decoder,
-         * bytes, eof); }
-         *
+         * Decodes utf-8, latin-1 and ascii directly instead of calling the incremental decoder and
+         * the newline decoder wrapping it. The only state of these decoders is an incomplete utf-8
+         * sequence at the end of the input, which is kept in the 'buffer' attribute of the codec's
+         * decoder as usual, so getstate() and setstate() (and thus tell() and seek()) are not
+         * affected. If the input cannot be decoded here, the decoder is called so that it raises
+         * the proper error.
          */
+        @Specialization(guards = "self.getFastDecodeEncoding() != null")
+        static TruffleString decodeFast(VirtualFrame frame, PTextIO self, PBytes bytes, boolean eof,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile nlDecoderProfile,
+                        @Cached InlinedBranchProfile slowPathProfile,
+                        @Cached PyObjectLookupAttr lookupPending,
+                        @Cached PyObjectSetAttr setPending,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
+                        @Cached TruffleString.IsValidNode isValidNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached IncrementalNewlineDecoderBuiltins.TranslateNewlinesNode translateNewlinesNode,
+                        @Exclusive @Cached CastToTruffleStringCheckedNode castNode,
+                        @Exclusive @Cached PyObjectCallMethodObjArgs callMethodDecode,
+                        @Cached PythonObjectFactory factory) {
+            Object decoder = self.getDecoder();
+            PNLDecoder nlDecoder = null;
+            Object codecDecoder = decoder;
+            if (nlDecoderProfile.profile(inliningTarget, decoder instanceof PNLDecoder)) {
+                nlDecoder = (PNLDecoder) decoder;
+                codecDecoder = nlDecoder.getDecoder();
+            }
+            TruffleString.Encoding encoding = self.getFastDecodeEncoding();
+            byte[] data = bufferLib.getInternalOrCopiedByteArray(bytes);
+            int len = bufferLib.getBufferLength(bytes);
+            int complete = len;
+            if (encoding == TruffleString.Encoding.UTF_8) {
+                Object pending = lookupPending.execute(frame, inliningTarget, codecDecoder, T_BUFFER);
+                if (!(pending instanceof PBytes) || bufferLib.getBufferLength(pending) != 0) {
+                    slowPathProfile.enter(inliningTarget);
+                    return callDecode(frame, inliningTarget, decoder, bytes, eof, castNode, callMethodDecode);
+                }
+                if (!eof) {
+                    complete = utf8CompleteLength(data, len);
+                }
+            }
+            TruffleString decoded = fromByteArrayNode.execute(data, 0, complete, encoding, true);
+            if (!isValidNode.execute(decoded, encoding)) {
+                slowPathProfile.enter(inliningTarget);
+                return callDecode(frame, inliningTarget, decoder, bytes, eof, castNode, callMethodDecode);
+            }
+            if (complete < len) {
+                setPending.execute(frame, inliningTarget, codecDecoder, T_BUFFER, factory.createBytes(PythonUtils.arrayCopyOfRange(data, complete, len)));
+            }
+            decoded = switchEncodingNode.execute(decoded, TS_ENCODING);
+            if (nlDecoder != null) {
+                return translateNewlinesNode.execute(inliningTarget, nlDecoder, decoded, eof);
+            }
+            return decoded;
+        }
 
-        @Specialization
-        static TruffleString decodeGeneric(VirtualFrame frame, Object decoder, Object o, boolean eof,
+        @Fallback
+        static TruffleString decodeGeneric(VirtualFrame frame, PTextIO self, Object o, boolean eof,
                         @Bind("this") Node inliningTarget,
-                        @Cached CastToTruffleStringCheckedNode castNode,
-                        @Cached PyObjectCallMethodObjArgs callMethodDecode) {
+                        @Exclusive @Cached CastToTruffleStringCheckedNode castNode,
+                        @Exclusive @Cached PyObjectCallMethodObjArgs callMethodDecode) {
+            return callDecode(frame, inliningTarget, self.getDecoder(), o, eof, castNode, callMethodDecode);
+        }
+
+        private static TruffleString callDecode(VirtualFrame frame, Node inliningTarget, Object decoder, Object o, boolean eof,
+                        CastToTruffleStringCheckedNode castNode, PyObjectCallMethodObjArgs callMethodDecode) {
             Object decoded = callMethodDecode.execute(frame, inliningTarget, decoder, T_DECODE, o, eof);
             return castNode.cast(inliningTarget, decoded, DECODER_SHOULD_RETURN_A_STRING_RESULT_NOT_P, decoded);
         }
+
+        /**
+         * Returns the length of the longest prefix of {@code data} that does not end with an
+         * incomplete utf-8 sequence.
+         */
+        private static int utf8CompleteLength(byte[] data, int len) {
+            for (int i = len - 1; i >= 0 && i >= len - 3; i--) {
+                int b = data[i] & 0xff;
+                if ((b & 0xc0) == 0x80) {
+                    // continuation byte
+                    continue;
+                }
+                int needed = b >= 0xf0 ? 4 : b >= 0xe0 ? 3 : b >= 0xc0 ? 2 : 1;
+                return len - i < needed ? i : len;
+            }
+            return len;
+        }
     }
 
     @GenerateInline
@@ -748,12 +830,21 @@ public abstract class TextIOWrapperNodes {
                         @Cached InlinedConditionProfile isTrueProfile,
                         @Cached PyObjectCallMethodObjArgs callMethodReadable,
                         @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyObjectLookupAttr lookupName,
+                        @Cached(inline = false) TruffleString.EqualNode equalNode,
                         @Cached(inline = false) PythonObjectFactory factory) {
             Object res = callMethodReadable.execute(frame, inliningTarget, self.getBuffer(), T_READABLE);
             if (isTrueProfile.profile(inliningTarget, !isTrueNode.execute(frame, inliningTarget, res))) {
                 return;
             }
             Object decoder = makeIncrementalcodecNode.execute(frame, codecInfo, errors, T_INCREMENTALDECODER);
+            self.setFastDecodeEncoding(null);
+            if (equalNode.execute(errors, T_STRICT, TS_ENCODING)) {
+                Object name = lookupName.execute(frame, inliningTarget, codecInfo, T_NAME);
+                if (name instanceof TruffleString) {
+                    self.setFastDecodeEncoding(getFastDecodeEncoding((TruffleString) name, equalNode));
+                }
+            }
             if (self.isReadUniversal()) {
                 PNLDecoder incDecoder = factory.createNLDecoder(PIncrementalNewlineDecoder);
                 IncrementalNewlineDecoderBuiltins.InitNode.internalInit(incDecoder, decoder, self.isReadTranslate());
@@ -762,6 +853,20 @@ public abstract class TextIOWrapperNodes {
                 self.setDecoder(decoder);
             }
         }
+
+        /*
+         * Like CPython's encodefuncs table, this trusts the name of the codec.
+         */
+        private static TruffleString.Encoding getFastDecodeEncoding(TruffleString name, TruffleString.EqualNode equalNode) {
+            if (equalNode.execute(name, T_UTF8, TS_ENCODING)) {
+                return TruffleString.Encoding.UTF_8;
+            } else if (equalNode.execute(name, T_ISO8859_1, TS_ENCODING)) {
+                return TruffleString.Encoding.ISO_8859_1;
+            } else if (equalNode.execute(name, T_ASCII, TS_ENCODING)) {
+                return TruffleString.Encoding.US_ASCII;
+            }
+            return null;
+        }
     }
 
     /*
@@ -6,6 +6,7 @@
 package com.oracle.graal.python.builtins.modules.json;
 
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.nodes.StringLiterals.T_READ;
 import static com.oracle.graal.python.nodes.StringLiterals.T_STRICT;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
@@ -25,6 +26,7 @@ import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
 import com.oracle.graal.python.builtins.objects.str.StringNodes.CastToJavaStringCheckedNode;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.SpecialAttributeNames;
@@ -33,6 +35,7 @@ import com.oracle.graal.python.nodes.expression.CoerceToBooleanNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
@@ -174,6 +177,39 @@ public final class JSONModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "iterscan", minNumOfPositionalArgs = 2, parameterNames = {"scan_once", "fp", "array", "chunk_size"}, //
+                    doc = "iterscan(scan_once, fp, array=True, chunk_size=65536) -> iterator\n" +
+                                    "\n" +
+                                    "Incrementally decode JSON text read from the text stream fp in chunks of\n" +
+                                    "chunk_size characters, using scan_once (e.g. JSONDecoder().scan_once) to\n" +
+                                    "decode the individual items. If array is true, fp must contain a single\n" +
+                                    "JSON array and its elements are yielded one by one. Otherwise fp contains\n" +
+                                    "whitespace-separated JSON values (e.g. newline-delimited JSON) and each\n" +
+                                    "value is yielded. Only the text of the current item is held in memory.")
+    @GenerateNodeFactory
+    @ArgumentClinic(name = "array", conversion = ArgumentClinic.ClinicConversion.Boolean, defaultValue = "true")
+    @ArgumentClinic(name = "chunk_size", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "65536")
+    abstract static class IterScan extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return JSONModuleBuiltinsClinicProviders.IterScanClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PJSONStreamScanner iterscan(VirtualFrame frame, Object scanOnce, Object fp, boolean array, int chunkSize,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (chunkSize <= 0) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.CHUNK_SIZE_MUST_BE_POSITIVE);
+            }
+            Object read = getAttr.execute(frame, inliningTarget, fp, T_READ);
+            return factory.createJSONStreamScanner(scanOnce, read, array, chunkSize);
+        }
+    }
+
     @Builtin(name = "make_scanner", parameterNames = {"$cls", "context"}, constructsClass = PythonBuiltinClassType.JSONScanner, //
                     doc = "_iterencode(obj, _current_indent_level) -> iterable")
     @GenerateNodeFactory
@@ -534,7 +534,7 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
         throw decodeError(raisingNode, string, start - 1, ErrorMessages.UNTERMINATED_STR_STARTING_AT);
     }
 
-    private static RuntimeException decodeError(Node raisingNode, String jsonString, int pos, TruffleString format) {
+    static RuntimeException decodeError(Node raisingNode, String jsonString, int pos, TruffleString format) {
         CompilerAsserts.neverPartOfCompilation();
         Object module = AbstractImportNode.importModule(toTruffleStringUncached("json.decoder"));
         Object errorClass = PyObjectLookupAttr.executeUncached(module, T_JSON_DECODE_ERROR);
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.json;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ITER__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___NEXT__;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.json.PJSONStreamScanner.State;
+import com.oracle.graal.python.lib.PyObjectGetItem;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.nodes.util.CannotCastException;
+import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
+import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.JSONStreamScanner)
+public final class JSONStreamScannerBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return JSONStreamScannerBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = J___ITER__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class IterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object iter(PJSONStreamScanner self) {
+            return self;
+        }
+    }
+
+    @Builtin(name = J___NEXT__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class NextNode extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        Object next(PJSONStreamScanner self) {
+            return nextItem(this, self);
+        }
+
+        @TruffleBoundary
+        private static Object nextItem(Node node, PJSONStreamScanner self) {
+            self.compact();
+            if (self.array) {
+                if (self.state == State.START) {
+                    if (!skipWhitespace(node, self) || self.buffer.charAt(self.pos) != '[') {
+                        throw decodeError(node, self, ErrorMessages.EXPECTING_VALUE);
+                    }
+                    self.pos++;
+                    self.state = State.FIRST_ITEM;
+                }
+                if (self.state == State.AFTER_ITEM) {
+                    if (!skipWhitespace(node, self)) {
+                        throw decodeError(node, self, ErrorMessages.EXPECTING_COMMA_DELIMITER);
+                    }
+                    char c = self.buffer.charAt(self.pos);
+                    if (c == ',') {
+                        self.state = State.NEXT_ITEM;
+                    } else if (c == ']') {
+                        self.state = State.END;
+                    } else {
+                        throw decodeError(node, self, ErrorMessages.EXPECTING_COMMA_DELIMITER);
+                    }
+                    self.pos++;
+                }
+                if (self.state == State.FIRST_ITEM) {
+                    if (!skipWhitespace(node, self)) {
+                        throw decodeError(node, self, ErrorMessages.EXPECTING_VALUE);
+                    }
+                    if (self.buffer.charAt(self.pos) == ']') {
+                        self.pos++;
+                        self.state = State.END;
+                    } else {
+                        self.state = State.NEXT_ITEM;
+                    }
+                }
+                if (self.state == State.END) {
+                    if (skipWhitespace(node, self)) {
+                        throw decodeError(node, self, ErrorMessages.EXTRA_DATA);
+                    }
+                    throw PRaiseNode.raiseUncached(node, PythonBuiltinClassType.StopIteration);
+                }
+                if (!skipWhitespace(node, self)) {
+                    throw decodeError(node, self, ErrorMessages.EXPECTING_VALUE);
+                }
+            } else if (!skipWhitespace(node, self)) {
+                throw PRaiseNode.raiseUncached(node, PythonBuiltinClassType.StopIteration);
+            }
+
+            int end = findItemEnd(node, self);
+            String text = self.buffer.substring(self.pos, end);
+            Object result;
+            try {
+                result = CallNode.executeUncached(self.scanOnce, toTruffleStringUncached(text), 0);
+            } catch (PException e) {
+                e.expectStopIteration(null, IsBuiltinObjectProfile.getUncached());
+                throw JSONScannerBuiltins.decodeError(node, text, 0, ErrorMessages.EXPECTING_VALUE);
+            } finally {
+                if (self.scanOnce instanceof PJSONScanner scanner) {
+                    // keys are only shared within one item, do not let the memo grow with the
+                    // input
+                    scanner.memo.clear();
+                }
+            }
+            int scanEnd = CastToJavaIntExactNode.executeUncached(PyObjectGetItem.executeUncached(result, 1));
+            if (scanEnd != text.length()) {
+                throw JSONScannerBuiltins.decodeError(node, text, scanEnd, self.array ? ErrorMessages.EXPECTING_COMMA_DELIMITER : ErrorMessages.EXTRA_DATA);
+            }
+            self.pos = end;
+            if (self.array) {
+                self.state = State.AFTER_ITEM;
+            }
+            return PyObjectGetItem.executeUncached(result, 0);
+        }
+
+        /**
+         * Finds the end of the item starting at {@code self.pos}, reading more input as needed.
+         * Strings, objects and arrays end with their closing character, everything else at the
+         * next delimiter. Only the structure is tracked here; validating and decoding the item is
+         * left to the scanner. If the input ends first, the end of the buffer is returned so that
+         * the scanner reports the error.
+         */
+        private static int findItemEnd(Node node, PJSONStreamScanner self) {
+            StringBuilder buffer = self.buffer;
+            int idx = self.pos;
+            char first = buffer.charAt(idx);
+            if (first != '[' && first != '{' && first != '"') {
+                while (true) {
+                    while (idx < buffer.length() && !isDelimiter(buffer.charAt(idx))) {
+                        idx++;
+                    }
+                    if (idx < buffer.length() || !readChunk(node, self)) {
+                        return idx;
+                    }
+                }
+            }
+            int depth = 0;
+            boolean inString = false;
+            boolean escape = false;
+            while (true) {
+                while (idx < buffer.length()) {
+                    char c = buffer.charAt(idx++);
+                    if (inString) {
+                        if (escape) {
+                            escape = false;
+                        } else if (c == '\\') {
+                            escape = true;
+                        } else if (c == '"') {
+                            inString = false;
+                            if (depth == 0) {
+                                return idx;
+                            }
+                        }
+                    } else if (c == '"') {
+                        inString = true;
+                    } else if (c == '[' || c == '{') {
+                        depth++;
+                    } else if (c == ']' || c == '}') {
+                        if (--depth == 0) {
+                            return idx;
+                        }
+                    }
+                }
+                if (!readChunk(node, self)) {
+                    return idx;
+                }
+            }
+        }
+
+        private static boolean isDelimiter(char c) {
+            return JSONModuleBuiltins.isWhitespace(c) || c == ',' || c == ':' || c == '[' || c == ']' || c == '{' || c == '}' || c == '"';
+        }
+
+        /**
+         * Advances {@code self.pos} to the next non-whitespace character, reading more input as
+         * needed. Returns {@code false} if the input ends first.
+         */
+        private static boolean skipWhitespace(Node node, PJSONStreamScanner self) {
+            while (true) {
+                while (self.pos < self.buffer.length() && JSONModuleBuiltins.isWhitespace(self.buffer.charAt(self.pos))) {
+                    self.pos++;
+                }
+                if (self.pos < self.buffer.length()) {
+                    return true;
+                }
+                if (!readChunk(node, self)) {
+                    return false;
+                }
+            }
+        }
+
+        private static boolean readChunk(Node node, PJSONStreamScanner self) {
+            if (self.eof) {
+                return false;
+            }
+            Object chunk = CallNode.executeUncached(self.read, self.chunkSize);
+            String text;
+            try {
+                text = CastToJavaStringNode.getUncached().execute(chunk);
+            } catch (CannotCastException e) {
+                throw PRaiseNode.raiseUncached(node, PythonBuiltinClassType.TypeError, ErrorMessages.READ_RETURNED_NOT_STR, chunk);
+            }
+            if (text.isEmpty()) {
+                self.eof = true;
+                return false;
+            }
+            self.buffer.append(text);
+            return true;
+        }
+
+        private static RuntimeException decodeError(Node node, PJSONStreamScanner self, TruffleString message) {
+            return JSONScannerBuiltins.decodeError(node, self.buffer.toString(), self.pos, message);
+        }
+    }
+}
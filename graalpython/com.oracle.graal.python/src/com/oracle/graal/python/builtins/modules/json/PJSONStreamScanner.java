@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.json;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Incremental JSON decoder reading its input in chunks from a text stream. Only the text of the
+ * item currently being decoded and at most one unconsumed chunk are kept in {@link #buffer}, so
+ * huge top-level arrays or newline-delimited JSON can be processed in bounded memory.
+ */
+public final class PJSONStreamScanner extends PythonBuiltinObject {
+
+    enum State {
+        /* array mode: before the opening bracket */
+        START,
+        /* array mode: after the opening bracket, an item or the closing bracket may follow */
+        FIRST_ITEM,
+        /* an item must follow */
+        NEXT_ITEM,
+        /* array mode: after an item, a comma or the closing bracket must follow */
+        AFTER_ITEM,
+        /* array mode: after the closing bracket */
+        END
+    }
+
+    final Object scanOnce;
+    final Object read;
+    final boolean array;
+    final int chunkSize;
+
+    final StringBuilder buffer = new StringBuilder();
+    /* index of the first unconsumed character in buffer */
+    int pos;
+    boolean eof;
+    State state;
+
+    public PJSONStreamScanner(Object cls, Shape instanceShape, Object scanOnce, Object read, boolean array, int chunkSize) {
+        super(cls, instanceShape);
+        CompilerAsserts.neverPartOfCompilation();
+        this.scanOnce = scanOnce;
+        this.read = read;
+        this.array = array;
+        this.chunkSize = chunkSize;
+        this.state = array ? State.START : State.NEXT_ITEM;
+    }
+
+    /**
+     * Drops the consumed prefix of the buffer once it makes up at least half of it, which keeps
+     * the copying amortized linear in the input size.
+     */
+    void compact() {
+        if (pos > 0 && pos >= buffer.length() / 2) {
+            buffer.delete(0, pos);
+            pos = 0;
+        }
+    }
+}
@@ -56,12 +56,14 @@ import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.modules.PosixModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.thread.PThread;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyObjectGetItem;
@@ -74,6 +76,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.util.CannotCastException;
@@ -81,6 +84,7 @@ import com.oracle.graal.python.nodes.util.CastToJavaDoubleNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntLossyNode;
 import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -290,58 +294,140 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
         }
     }
 
-    @Builtin(name = "_write", minNumOfPositionalArgs = 2, parameterNames = {"fd", "data"})
+    @Builtin(name = "_write", minNumOfPositionalArgs = 2, parameterNames = {"fd", "data", "buffers"})
+    @ArgumentClinic(name = "fd", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "data", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
     @GenerateNodeFactory
-    public abstract static class WriteNode extends PythonBinaryBuiltinNode {
-        @Specialization(limit = "1")
-        Object doWrite(int fd, PBytes data,
+    public abstract static class WriteNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MultiprocessingGraalPyModuleBuiltinsClinicProviders.WriteNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        Object doWrite(VirtualFrame frame, int fd, Object data, Object buffers,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("data") PythonBufferAccessLibrary bufferLib,
-                        @Shared @Cached GilNode gil) {
+                        @Cached GilNode gil) {
             SharedMultiprocessingData sharedData = getContext().getSharedMultiprocessingData();
+            Object message;
+            int length;
+            try {
+                byte[] bytes = getMessageBytes(data, bufferLib);
+                length = bytes.length;
+                message = buffers == PNone.NO_VALUE || buffers == PNone.NONE ? bytes : createMessageWithBuffers(bytes, buffers);
+            } finally {
+                bufferLib.release(data, frame, indirectCallData);
+            }
             gil.release(true);
             try {
-                byte[] bytes = bufferLib.getCopiedByteArray(data);
-                sharedData.addPipeData(fd, bytes,
+                sharedData.addPipeData(fd, message,
                                 () -> {
                                     throw PRaiseNode.raiseUncached(this, OSError, ErrorMessages.BAD_FILE_DESCRIPTOR);
                                 },
                                 () -> {
                                     throw PConstructAndRaiseNode.getUncached().raiseOSError(null, OSErrorEnum.EPIPE);
                                 });
-                return bytes.length;
+                return length;
             } finally {
                 gil.acquire();
             }
         }
 
-        @Specialization(limit = "1")
-        Object doWrite(long fd, PBytes data,
-                        @CachedLibrary("data") PythonBufferAccessLibrary bufferLib,
-                        @Shared @Cached GilNode gil) {
-            return doWrite((int) fd, data, bufferLib, gil);
+        /**
+         * All contexts share the same heap, so the bytes are handed over to the reading context as
+         * they are. The backing array of a {@code bytes} object (or of a memoryview covering all of
+         * it) is immutable and can be passed on without copying. Anything else is copied exactly
+         * once.
+         */
+        private static byte[] getMessageBytes(Object buffer, PythonBufferAccessLibrary bufferLib) {
+            int len = bufferLib.getBufferLength(buffer);
+            Object owner = buffer instanceof PMemoryView memoryView ? memoryView.getBuffer() : buffer;
+            if (owner instanceof PBytes && bufferLib.hasInternalByteArray(buffer)) {
+                byte[] bytes = bufferLib.getInternalByteArray(buffer);
+                if (bytes.length == len) {
+                    return bytes;
+                }
+            }
+            return bufferLib.getCopiedByteArray(buffer);
+        }
+
+        /**
+         * Creates a message that carries the out-of-band buffers produced by a pickle protocol 5
+         * {@code buffer_callback} next to the pickled data, so that they are not serialized into
+         * the pickle stream. Buffers that were writable on the sending side are received as
+         * {@code bytearray}, all others as {@code bytes}.
+         */
+        @TruffleBoundary
+        private static MessageWithBuffers createMessageWithBuffers(byte[] data, Object buffers) {
+            if (!(buffers instanceof PList || buffers instanceof PTuple)) {
+                throw PRaiseNode.getUncached().raise(PythonBuiltinClassType.TypeError, ErrorMessages.ARG_S_MUST_BE_A_LIST_OR_TUPLE, "buffers");
+            }
+            SequenceStorage storage = ((PSequence) buffers).getSequenceStorage();
+            byte[][] contents = new byte[storage.length()][];
+            boolean[] writable = new boolean[storage.length()];
+            for (int i = 0; i < storage.length(); i++) {
+                Object item = SequenceStorageNodes.GetItemScalarNode.executeUncached(storage, i);
+                Object buffer = PythonBufferAcquireLibrary.getUncached().acquireReadonly(item);
+                PythonBufferAccessLibrary bufferLib = PythonBufferAccessLibrary.getUncached();
+                try {
+                    // a writable buffer is never backed by a bytes object, so it is always copied
+                    contents[i] = getMessageBytes(buffer, bufferLib);
+                    writable[i] = !bufferLib.isReadonly(buffer);
+                } finally {
+                    bufferLib.release(buffer);
+                }
+            }
+            return new MessageWithBuffers(data, contents, writable);
         }
     }
 
+    /**
+     * A pipe message written with out-of-band buffers. {@code writable} tells for each buffer
+     * whether it was writable on the sending side.
+     */
+    record MessageWithBuffers(byte[] data, byte[][] buffers, boolean[] writable) {
+    }
+
     @Builtin(name = "_read", minNumOfPositionalArgs = 2, parameterNames = {"fd", "length"})
     @GenerateNodeFactory
     public abstract static class ReadNode extends PythonBinaryBuiltinNode {
+        /**
+         * Returns the bytes of the next message, or a tuple of the bytes and a list of the
+         * out-of-band buffers if the message was written with buffers. The byte arrays are owned by
+         * the message, so they are wrapped without copying.
+         */
         @Specialization
         Object doReadInt(int fd, @SuppressWarnings("unused") Object length,
                         @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             SharedMultiprocessingData sharedData = getContext().getSharedMultiprocessingData();
+            Object data;
             gil.release(true);
             try {
-                Object data = sharedData.takePipeData(this, fd, () -> {
+                data = sharedData.takePipeData(this, fd, () -> {
                     throw PRaiseNode.raiseUncached(this, OSError, ErrorMessages.BAD_FILE_DESCRIPTOR);
                 });
-                if (data == PNone.NONE) {
-                    return factory.createBytes(PythonUtils.EMPTY_BYTE_ARRAY, 0, 0);
-                }
-                return factory.createBytes((byte[]) data);
             } finally {
                 gil.acquire();
             }
+            if (data == PNone.NONE) {
+                return factory.createBytes(PythonUtils.EMPTY_BYTE_ARRAY, 0, 0);
+            }
+            if (data instanceof MessageWithBuffers message) {
+                return createMessageWithBuffers(message, factory);
+            }
+            return factory.createBytes((byte[]) data);
+        }
+
+        @TruffleBoundary
+        private static Object createMessageWithBuffers(MessageWithBuffers message, PythonObjectFactory factory) {
+            Object[] buffers = new Object[message.buffers().length];
+            for (int i = 0; i < buffers.length; i++) {
+                byte[] bytes = message.buffers()[i];
+                buffers[i] = message.writable()[i] ? factory.createByteArray(bytes) : factory.createBytes(bytes);
+            }
+            return factory.createTuple(new Object[]{factory.createBytes(message.data()), factory.createList(buffers)});
         }
 
         @Specialization
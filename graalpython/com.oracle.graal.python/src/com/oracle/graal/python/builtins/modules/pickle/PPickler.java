@@ -108,6 +108,9 @@ import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.Consumer;
 import com.oracle.graal.python.util.NumericSupport;
@@ -330,7 +333,11 @@ public class PPickler extends PythonBuiltinObject {
     }
 
     public void clearBuffer() {
-        this.outputBuffer = new byte[this.maxOutputLen];
+        // Reuse the buffer unless it was handed out by getString or grew too large to keep around.
+        if (this.outputBuffer == null || this.maxOutputLen > PickleUtils.WRITE_BUF_MAX_RETAINED_SIZE) {
+            this.maxOutputLen = PickleUtils.WRITE_BUF_SIZE;
+            this.outputBuffer = new byte[this.maxOutputLen];
+        }
         this.outputLen = 0;
         this.frameStart = -1;
     }
@@ -353,9 +360,24 @@ public class PPickler extends PythonBuiltinObject {
         frameStart = -1;
     }
 
+    /**
+     * Returns the pickled data without copying it. The output buffer is handed over to the result
+     * and {@link #clearBuffer()} must be called before writing again.
+     */
     public PBytes getString(PythonObjectFactory factory) {
         commitFrame();
-        return factory.createBytes(outputBuffer, outputLen);
+        PBytes result = factory.createBytes(outputBuffer, outputLen);
+        outputBuffer = null;
+        return result;
+    }
+
+    /**
+     * Returns a copy of the pickled data, so that the output buffer can be reused after it was
+     * flushed to the file.
+     */
+    public PBytes getStringCopy(PythonObjectFactory factory) {
+        commitFrame();
+        return factory.createBytes(PythonUtils.arrayCopyOf(outputBuffer, outputLen));
     }
 
     // inner nodes
@@ -472,7 +494,8 @@ public class PPickler extends PythonBuiltinObject {
         }
 
         protected void write(PPickler pickler, byte oneByte) {
-            write(pickler, new byte[]{oneByte}, 1);
+            ensureWriteSpace(pickler, 1);
+            pickler.outputBuffer[pickler.outputLen++] = oneByte;
         }
 
         protected void write(PPickler pickler, byte[] bytes) {
@@ -480,6 +503,17 @@ public class PPickler extends PythonBuiltinObject {
         }
 
         protected void write(PPickler pickler, byte[] bytes, int dataLen) {
+            ensureWriteSpace(pickler, dataLen);
+            PythonUtils.arraycopy(bytes, 0, pickler.outputBuffer, pickler.outputLen, dataLen);
+            pickler.outputLen += dataLen;
+        }
+
+        /**
+         * Makes room for {@code dataLen} bytes at {@code pickler.outputLen}, opening a new frame
+         * first if needed.
+         */
+        private void ensureWriteSpace(PPickler pickler, int dataLen) {
+            assert pickler.outputBuffer != null;
             boolean needNewFrame = pickler.isFraming() && pickler.frameStart == -1;
             int n = (needNewFrame) ? dataLen + PickleUtils.FRAME_HEADER_SIZE : dataLen;
             int required = pickler.outputLen + n;
@@ -502,8 +536,6 @@ public class PPickler extends PythonBuiltinObject {
                 }
                 pickler.outputLen += PickleUtils.FRAME_HEADER_SIZE;
             }
-            PythonUtils.arraycopy(bytes, 0, pickler.outputBuffer, pickler.outputLen, dataLen);
-            pickler.outputLen += dataLen;
         }
 
         protected void writeBytes(VirtualFrame frame, PPickler pickler, byte[] header, int headerSize, byte[] data, int dataSize, Object payload) {
@@ -573,7 +605,7 @@ public class PPickler extends PythonBuiltinObject {
         public void flush(VirtualFrame frame, PPickler pickler) {
             assert pickler.write != null;
             // This will commit the frame first
-            PBytes output = pickler.getString(factory());
+            PBytes output = pickler.getStringCopy(factory());
             call(frame, pickler.write, output);
         }
     }
@@ -1194,32 +1226,14 @@ public class PPickler extends PythonBuiltinObject {
                     // what we want, so MSVC happily warns us about it. However, that result would
                     // have been fine because we guard for sizeof(long) <= 4 which turns the
                     // condition true in that particular case.
-                    byte[] pdata;
-                    int len;
-
                     if (pickler.isBin()) {
-                        pdata = new byte[5];
-                        pdata[1] = (byte) (value & 0xff);
-                        pdata[2] = (byte) ((value >> 8) & 0xff);
-                        pdata[3] = (byte) ((value >> 16) & 0xff);
-                        pdata[4] = (byte) ((value >> 24) & 0xff);
-
-                        if ((pdata[4] != 0) || (pdata[3] != 0)) {
-                            pdata[0] = PickleUtils.OPCODE_BININT;
-                            len = 5;
-                        } else if (pdata[2] != 0) {
-                            pdata[0] = PickleUtils.OPCODE_BININT2;
-                            len = 3;
-                        } else {
-                            pdata[0] = PickleUtils.OPCODE_BININT1;
-                            len = 2;
-                        }
+                        writeBinInt(pickler, (int) value);
                     } else {
-                        pdata = new byte[32];
+                        byte[] pdata = new byte[32];
                         pdata[0] = PickleUtils.OPCODE_INT;
-                        len = PickleUtils.toAsciiBytesWithNewLine(pdata, 1, value, ensureTsFromLongNode(), ensureTsCopyToByteArrayNode());
+                        int len = PickleUtils.toAsciiBytesWithNewLine(pdata, 1, value, ensureTsFromLongNode(), ensureTsCopyToByteArrayNode());
+                        write(pickler, pdata, len);
                     }
-                    write(pickler, pdata, len);
                     return;
                 }
             } catch (PException e) {
@@ -1282,13 +1296,38 @@ public class PPickler extends PythonBuiltinObject {
             }
         }
 
+        private void writeBinInt(PPickler pickler, int value) {
+            byte[] pdata = new byte[5];
+            pdata[1] = (byte) (value & 0xff);
+            pdata[2] = (byte) ((value >> 8) & 0xff);
+            pdata[3] = (byte) ((value >> 16) & 0xff);
+            pdata[4] = (byte) ((value >> 24) & 0xff);
+
+            int len;
+            if ((pdata[4] != 0) || (pdata[3] != 0)) {
+                pdata[0] = PickleUtils.OPCODE_BININT;
+                len = 5;
+            } else if (pdata[2] != 0) {
+                pdata[0] = PickleUtils.OPCODE_BININT2;
+                len = 3;
+            } else {
+                pdata[0] = PickleUtils.OPCODE_BININT1;
+                len = 2;
+            }
+            write(pickler, pdata, len);
+        }
+
+        private void writeBinFloat(PPickler pickler, double value) {
+            byte[] pdata = new byte[9];
+            pdata[0] = PickleUtils.OPCODE_BINFLOAT;
+            NumericSupport.bigEndian().putDouble(pdata, 1, value);
+            write(pickler, pdata, 9);
+        }
+
         private void saveFloat(VirtualFrame frame, PPickler pickler, Object obj, Node inliningTarget, PyFloatAsDoubleNode asDoubleNode) {
             final double value = asDoubleNode.execute(frame, inliningTarget, obj);
             if (pickler.isBin()) {
-                byte[] pdata = new byte[9];
-                pdata[0] = PickleUtils.OPCODE_BINFLOAT;
-                NumericSupport.bigEndian().putDouble(pdata, 1, value);
-                write(pickler, pdata, 9);
+                writeBinFloat(pickler, value);
             } else {
                 write(pickler, PickleUtils.OPCODE_FLOAT);
                 TruffleString repr = PickleUtils.doubleToAsciiString(value);
@@ -1569,11 +1608,8 @@ public class PPickler extends PythonBuiltinObject {
         }
 
         private void batchListExact(VirtualFrame frame, PPickler pickler, Object obj) {
-            final SequenceStorage storage = getSequenceStorage(obj);
-            Object item;
             if (length(frame, obj) == 1) {
-                item = getItem(frame, storage, 0);
-                save(frame, pickler, item, 0);
+                saveListItem(frame, pickler, obj, 0);
                 write(pickler, PickleUtils.OPCODE_APPEND);
                 return;
             }
@@ -1585,8 +1621,7 @@ public class PPickler extends PythonBuiltinObject {
                 thisBatch = 0;
                 write(pickler, PickleUtils.OPCODE_MARK);
                 while (total < length(frame, obj)) {
-                    item = getItem(frame, storage, total);
-                    save(frame, pickler, item, 0);
+                    saveListItem(frame, pickler, obj, total);
                     total++;
                     if (++thisBatch == PickleUtils.BATCHSIZE) {
                         break;
@@ -1596,6 +1631,41 @@ public class PPickler extends PythonBuiltinObject {
             } while (total < length(frame, obj));
         }
 
+        /**
+         * Saves the item at the given index of a list. Items of an int, long or double storage are
+         * written straight from the primitive array, with the same output as {@link #save}: ints
+         * and floats are atoms, neither the memo nor reducer_override is consulted for them. The
+         * storage is looked up again for every item, because flushing a frame calls the file's
+         * {@code write} method, which may modify the list. Like for any other item, the value is
+         * read before that can happen.
+         */
+        private void saveListItem(VirtualFrame frame, PPickler pickler, Object obj, int index) {
+            final SequenceStorage storage = getSequenceStorage(obj);
+            if (pickler.persFunc == null) {
+                if (storage instanceof IntSequenceStorage intStorage) {
+                    int value = intStorage.getInternalIntArray()[index];
+                    opcodeBoundary(frame, pickler);
+                    writeBinInt(pickler, value);
+                    return;
+                } else if (storage instanceof LongSequenceStorage longStorage) {
+                    long value = longStorage.getInternalLongArray()[index];
+                    opcodeBoundary(frame, pickler);
+                    if (value == (int) value) {
+                        writeBinInt(pickler, (int) value);
+                    } else {
+                        saveLong(frame, pickler, value);
+                    }
+                    return;
+                } else if (storage instanceof DoubleSequenceStorage doubleStorage) {
+                    double value = doubleStorage.getInternalDoubleArray()[index];
+                    opcodeBoundary(frame, pickler);
+                    writeBinFloat(pickler, value);
+                    return;
+                }
+            }
+            save(frame, pickler, getItem(frame, storage, index), 0);
+        }
+
         private void batchList(VirtualFrame frame, PPickler pickler, Object iterator) {
             assert iterator != null;
             if (pickler.proto == 0) {
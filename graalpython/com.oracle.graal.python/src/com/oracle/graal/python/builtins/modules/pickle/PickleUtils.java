@@ -133,6 +133,8 @@ public final class PickleUtils {
     public static final int FRAME_SIZE_MIN = 4;
     public static final int FRAME_SIZE_TARGET = 64 * 1024;
     public static final int FRAME_HEADER_SIZE = 9;
+    // Largest write buffer a Pickler keeps for reuse after flushing it to the file.
+    public static final int WRITE_BUF_MAX_RETAINED_SIZE = 2 * FRAME_SIZE_TARGET;
 
     public static final byte NO_OPCODE = 0;
 
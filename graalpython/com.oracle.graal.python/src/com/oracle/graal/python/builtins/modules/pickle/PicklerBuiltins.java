@@ -143,6 +143,7 @@ public class PicklerBuiltins extends PythonBuiltins {
             self.clearBuffer();
             dumpNode.execute(frame, self, obj);
             flushToFileNode.execute(frame, self);
+            self.clearBuffer();
             return PNone.NONE;
         }
     }
@@ -172,7 +172,7 @@ public abstract class ZLibCompObject extends PythonBuiltinObject {
             canCopy = inputData == null;
             inputData = bytes;
             inputLen = length;
-            ((Inflater) stream).setInput(bytes);
+            ((Inflater) stream).setInput(bytes, 0, length);
         }
 
         @TruffleBoundary
@@ -205,7 +205,7 @@ public abstract class ZLibCompObject extends PythonBuiltinObject {
             if (inputData != null) {
                 try {
                     ((JavaZlibCompObject) obj).setInflaterInput(inputData, inputLen, node);
-                    inflater.setInput(inputData);
+                    inflater.setInput(inputData, 0, inputLen);
                     int n = inflater.inflate(new byte[ZLibModuleBuiltins.DEF_BUF_SIZE]);
                     if (!isRAW && n == 0 && inflater.needsDictionary() && zdict.length > 0) {
                         inflater.setDictionary(zdict);
@@ -51,7 +51,6 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.crc32;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.zip.Adler32;
 import java.util.zip.CRC32;
@@ -88,6 +87,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuilti
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentCastNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
@@ -544,16 +544,24 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
             @TruffleBoundary
             static byte[] doJava(byte[] bytes, int length, int level, int wbits) {
                 Deflater compresser = new Deflater(level, wbits < 0 || wbits > (MAX_WBITS + 9));
-                compresser.setInput(bytes, 0, length);
-                compresser.finish();
-                byte[] resultArray = new byte[DEF_BUF_SIZE];
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                while (!compresser.finished()) {
-                    int howmany = compresser.deflate(resultArray);
-                    baos.write(resultArray, 0, howmany);
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    compresser.setInput(bytes, 0, length);
+                    compresser.finish();
+                    // start with zlib's deflateBound plus room for a gzip wrapper, so that inputs
+                    // up to a megabyte usually need no resizing
+                    long bound = (long) length + (length >> 12) + (length >> 14) + (length >> 25) + 13 + 18;
+                    byte[] result = new byte[(int) Math.min(bound, 1 << 20)];
+                    int resultLen = 0;
+                    while (!compresser.finished()) {
+                        if (resultLen == result.length) {
+                            result = ZlibNodes.growOutputBuffer(result);
+                        }
+                        resultLen += compresser.deflate(result, resultLen, result.length - resultLen);
+                    }
+                    return ZlibNodes.trimOutputBuffer(result, resultLen);
+                } finally {
+                    compresser.end();
                 }
-                compresser.end();
-                return baos.toByteArray();
             }
         }
     }
@@ -611,28 +619,36 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
             @Specialization(guards = "!useNative()")
             @TruffleBoundary
             static byte[] doJava(Node inliningTarget, byte[] bytes, int length, int wbits, int bufsize) {
-                try {
-                    int bufsize1 = bufsize == 0 ? 1 : bufsize;
-                    // zlib can decompress all those formats:
-                    // to (de-)compress deflate format, use wbits = -zlib.MAX_WBITS
-                    // to (de-)compress zlib format, use wbits = zlib.MAX_WBITS
-                    // to (de-)compress gzip format, use wbits = zlib.MAX_WBITS | 16
-                    Inflater decompresser = new Inflater(wbits < 0 || (wbits & 16) == 16);
+                // zlib can decompress all those formats:
+                // to (de-)compress deflate format, use wbits = -zlib.MAX_WBITS
+                // to (de-)compress zlib format, use wbits = zlib.MAX_WBITS
+                // to (de-)compress gzip format, use wbits = zlib.MAX_WBITS | 16
+                Inflater decompresser = new Inflater(wbits < 0 || (wbits & 16) == 16);
+                byte[] result = new byte[bufsize == 0 ? 1 : bufsize];
+                int resultLen = 0;
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
                     decompresser.setInput(bytes, 0, length);
-                    byte[] resultArray = new byte[bufsize1];
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
                     while (!decompresser.finished()) {
-                        int howmany = decompresser.inflate(resultArray);
+                        if (resultLen == result.length) {
+                            result = ZlibNodes.growOutputBuffer(result);
+                        }
+                        int howmany = decompresser.inflate(result, resultLen, result.length - resultLen);
                         if (howmany == 0 && decompresser.needsInput()) {
-                            throw PRaiseNode.raiseUncached(inliningTarget, ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
+                            // truncated input, raised below once we hold the GIL again
+                            resultLen = -1;
+                            break;
                         }
-                        baos.write(resultArray, 0, howmany);
+                        resultLen += howmany;
                     }
-                    decompresser.end();
-                    return baos.toByteArray();
                 } catch (DataFormatException e) {
                     throw PRaiseNode.raiseUncached(inliningTarget, ZLibError, ErrorMessages.WHILE_PREPARING_TO_S_DATA, "decompress");
+                } finally {
+                    decompresser.end();
+                }
+                if (resultLen < 0) {
+                    throw PRaiseNode.raiseUncached(inliningTarget, ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
                 }
+                return ZlibNodes.trimOutputBuffer(result, resultLen);
             }
         }
     }
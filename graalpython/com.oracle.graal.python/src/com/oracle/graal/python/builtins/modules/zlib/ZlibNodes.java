@@ -42,6 +42,7 @@ package com.oracle.graal.python.builtins.modules.zlib;
 
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_FINISH;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_NO_FLUSH;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_SYNC_FLUSH;
 import static com.oracle.graal.python.nodes.ErrorMessages.CANT_ALLOCATE_MEMORY_FOR_S_OBJECT;
 import static com.oracle.graal.python.nodes.ErrorMessages.ERROR_D_S;
@@ -68,7 +69,6 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.SystemEr
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ZLibError;
 
-import java.io.ByteArrayOutputStream;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
@@ -79,6 +79,7 @@ import com.oracle.graal.python.builtins.objects.str.StringUtils.SimpleTruffleStr
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -531,13 +532,55 @@ public class ZlibNodes {
         }
     }
 
+    /**
+     * Grows a Java (de)compression output buffer. Unlike going through a
+     * {@link java.io.ByteArrayOutputStream}, the output is written straight into the buffer and
+     * only copied once more to trim it to its final size.
+     */
+    static byte[] growOutputBuffer(byte[] buffer) {
+        int newLength = buffer.length + Math.max(buffer.length >> 1, DEF_BUF_SIZE);
+        if (newLength < 0) {
+            throw new OutOfMemoryError();
+        }
+        return PythonUtils.arrayCopyOf(buffer, newLength);
+    }
+
+    static byte[] trimOutputBuffer(byte[] buffer, int length) {
+        return length == buffer.length ? buffer : PythonUtils.arrayCopyOf(buffer, length);
+    }
+
+    /**
+     * The Java (de)compressors run without the GIL. The monitor of the compression object is only
+     * taken after the GIL was released, so that no thread can wait for the GIL while holding it.
+     */
     abstract static class JavaCompressNode {
         private JavaCompressNode() {
         }
 
+        @TruffleBoundary
+        public static byte[] compress(ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length) {
+            try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                synchronized (self) {
+                    self.setDeflaterInput(bytes, length);
+                    return deflate(self, Z_NO_FLUSH);
+                }
+            }
+        }
+
         @TruffleBoundary
         public static byte[] execute(ZLibCompObject.JavaZlibCompObject self, int mode) {
-            byte[] result = new byte[DEF_BUF_SIZE];
+            try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                synchronized (self) {
+                    if (!self.isInitialized()) {
+                        // another thread finished the stream meanwhile
+                        return PythonUtils.EMPTY_BYTE_ARRAY;
+                    }
+                    return deflate(self, mode);
+                }
+            }
+        }
+
+        private static byte[] deflate(ZLibCompObject.JavaZlibCompObject self, int mode) {
             Deflater deflater = (Deflater) self.stream;
             int deflateMode = mode;
             if (mode == Z_FINISH) {
@@ -545,18 +588,21 @@ public class ZlibNodes {
                 deflater.finish();
             }
 
-            int bytesWritten = result.length;
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            while (bytesWritten == result.length) {
-                bytesWritten = deflater.deflate(result, 0, result.length, deflateMode);
-                baos.write(result, 0, bytesWritten);
+            byte[] result = new byte[DEF_BUF_SIZE];
+            int resultLen = 0;
+            while (true) {
+                resultLen += deflater.deflate(result, resultLen, result.length - resultLen, deflateMode);
+                if (resultLen < result.length) {
+                    break;
+                }
+                result = growOutputBuffer(result);
             }
 
             if (mode == Z_FINISH) {
                 deflater.end();
                 self.setUninitialized();
             }
-            return baos.toByteArray();
+            return trimOutputBuffer(result, resultLen);
         }
     }
 
@@ -564,33 +610,45 @@ public class ZlibNodes {
         @TruffleBoundary
         private static byte[] createByteArray(ZLibCompObject.JavaZlibCompObject self, Inflater inflater, byte[] bytes, int length, int maxLength, int bufSize, Node nodeForRaise) {
             int maxLen = maxLength == 0 ? Integer.MAX_VALUE : maxLength;
-            byte[] result = new byte[Math.min(maxLen, bufSize)];
-            boolean zdictIsSet = false;
-
             self.setInflaterInput(bytes, length, nodeForRaise);
 
-            int bytesWritten = result.length;
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            while (baos.size() < maxLen && bytesWritten == result.length) {
-                try {
-                    int len = Math.min(maxLen - baos.size(), result.length);
-                    bytesWritten = inflater.inflate(result, 0, len);
-                    if (bytesWritten == 0 && !zdictIsSet && inflater.needsDictionary()) {
-                        if (self.getZdict().length > 0) {
-                            inflater.setDictionary(self.getZdict());
-                            zdictIsSet = true;
-                            // we inflate again with a dictionary
-                            bytesWritten = inflater.inflate(result, 0, len);
-                        } else {
-                            throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
+            byte[] result = new byte[Math.min(maxLen, bufSize)];
+            int resultLen = 0;
+            boolean missingZdict = false;
+            try {
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    synchronized (self) {
+                        boolean zdictIsSet = false;
+                        while (resultLen < maxLen) {
+                            if (resultLen == result.length) {
+                                result = growOutputBuffer(result);
+                            }
+                            int len = Math.min(maxLen - resultLen, result.length - resultLen);
+                            int bytesWritten = inflater.inflate(result, resultLen, len);
+                            if (bytesWritten == 0 && !zdictIsSet && inflater.needsDictionary()) {
+                                if (self.getZdict().length == 0) {
+                                    missingZdict = true;
+                                    break;
+                                }
+                                inflater.setDictionary(self.getZdict());
+                                zdictIsSet = true;
+                                // we inflate again with a dictionary
+                                bytesWritten = inflater.inflate(result, resultLen, len);
+                            }
+                            resultLen += bytesWritten;
+                            if (bytesWritten < len) {
+                                break;
+                            }
                         }
                     }
-                } catch (DataFormatException e) {
-                    throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, e);
                 }
-                baos.write(result, 0, bytesWritten);
+            } catch (DataFormatException e) {
+                throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, e);
+            }
+            if (missingZdict) {
+                throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
             }
-            return baos.toByteArray();
+            return trimOutputBuffer(result, resultLen);
         }
 
         public static byte[] execute(VirtualFrame frame, ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length, int maxLength, int bufSize,
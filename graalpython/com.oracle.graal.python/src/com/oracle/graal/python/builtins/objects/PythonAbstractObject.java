@@ -2741,13 +2741,15 @@ public abstract class PythonAbstractObject extends DynamicObject implements Truf
                     @Exclusive @Cached PRaiseNode.Lazy raiseNode,
                     @Shared("bufferLib") @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib) throws UnsupportedMessageException, InvalidBufferOffsetException {
         if (bufferLib.isBuffer(this)) {
-            if (length < 0 || (destination.length - destinationOffset > length)) {
+            if (length < 0 || destinationOffset < 0 || destination.length - destinationOffset < length) {
                 throw InvalidBufferOffsetException.create(byteOffset, length);
             }
             int offset = toIntNode.executeWithThrow(inliningTarget, byteOffset, raiseNode, PythonBuiltinClassType.OverflowError);
-            for (int i = 0; i < length; i++) {
-                destination[destinationOffset + i] = bufferLib.readByte(this, offset + i);
+            if (offset < 0 || bufferLib.getBufferLength(this) - offset < length) {
+                throw InvalidBufferOffsetException.create(byteOffset, length);
             }
+            // a single copy for buffers backed by a byte array, e.g., bytes or array.array
+            bufferLib.readIntoByteArray(this, offset, destination, destinationOffset, length);
         } else {
             throw UnsupportedMessageException.create();
         }
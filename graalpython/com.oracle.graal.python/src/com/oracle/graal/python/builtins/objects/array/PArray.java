@@ -79,6 +79,9 @@ public final class PArray extends PythonBuiltinObject {
     // Count of exports via native buffer interface
     private final AtomicLong exports = new AtomicLong();
 
+    // The object that owns the memory of a native storage that this array doesn't own
+    private Object memoryOwner;
+
     public PArray(Object clazz, Shape instanceShape, TruffleString formatString, BufferFormat format) {
         super(clazz, instanceShape);
         this.formatString = formatString;
@@ -140,6 +143,22 @@ public final class PArray extends PythonBuiltinObject {
         return exports;
     }
 
+    /**
+     * Makes the array use memory owned by another object, for example an mmap, without copying it.
+     * The array keeps the owner alive and counts as exporting a buffer for the rest of its lifetime,
+     * so it can never be resized and the memory is never reallocated or freed by the array.
+     */
+    public void setForeignMemoryStorage(NativeByteSequenceStorage storage, Object owner) {
+        assert memoryOwner == null;
+        setSequenceStorage(storage);
+        exports.incrementAndGet();
+        memoryOwner = owner;
+    }
+
+    public Object getMemoryOwner() {
+        return memoryOwner;
+    }
+
     public void checkCanResize(Node inliningTarget, PRaiseNode.Lazy raiseNode) {
         if (exports.get() != 0) {
             throw raiseNode.get(inliningTarget).raise(BufferError, ErrorMessages.EXPORTS_CANNOT_RESIZE);
@@ -62,6 +62,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 
 import org.graalvm.collections.EconomicMap;
 import org.graalvm.collections.Pair;
@@ -76,6 +77,7 @@ import com.oracle.graal.python.builtins.modules.cext.PythonCextBuiltins.CApiCall
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.capsule.PyCapsule;
+import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.PCallCapiFunction;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodesFactory.CreateModuleNodeGen;
 import com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWrapper.PythonAbstractObjectNativeWrapper;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions;
@@ -172,6 +174,24 @@ public final class CApiContext extends CExtContext {
     /** Total amount of allocated native memory (in bytes). */
     private long allocatedMemory = 0;
 
+    /** Highest value {@link #allocatedMemory} has reached so far (in bytes). */
+    private long peakAllocatedMemory = 0;
+
+    /** Number of full GCs triggered because of native memory pressure. */
+    private long nativeMemoryCollections = 0;
+
+    /**
+     * Indices of the native memory statistics maintained by {@code obmalloc.c}; see
+     * {@link #getNativeMemoryStat(int)}.
+     */
+    public static final int NATIVE_MEMORY_STAT_LIVE_BYTES = 0;
+    public static final int NATIVE_MEMORY_STAT_PEAK_BYTES = 1;
+    public static final int NATIVE_MEMORY_STAT_TOTAL_BYTES = 2;
+    public static final int NATIVE_MEMORY_STAT_ALLOCATIONS = 3;
+    public static final int NATIVE_MEMORY_STAT_FREES = 4;
+    public static final int NATIVE_MEMORY_STAT_COLLECTIONS = 5;
+    public static final int NATIVE_MEMORY_STAT_GC_BARRIER = 6;
+
     private Map<Object, AllocInfo> allocatedNativeMemory;
     private TraceMallocDomain[] traceMallocDomains;
 
@@ -646,7 +666,7 @@ public final class CApiContext extends CExtContext {
     public void increaseMemoryPressure(VirtualFrame frame, Node inliningTarget, GetThreadStateNode getThreadStateNode, IndirectCallData indirectCallData, long size) {
         PythonContext context = getContext();
         if (allocatedMemory + size <= context.getOption(PythonOptions.MaxNativeMemory)) {
-            allocatedMemory += size;
+            addAllocatedMemory(size);
             return;
         }
 
@@ -664,21 +684,64 @@ public final class CApiContext extends CExtContext {
         long delay = 0;
         for (int retries = 0; retries < MAX_COLLECTION_RETRIES; retries++) {
             delay += 50;
+            nativeMemoryCollections++;
             doGc(delay);
             CApiTransitions.pollReferenceQueue();
             PythonContext.triggerAsyncActions(caller);
             if (allocatedMemory + size <= context.getOption(PythonOptions.MaxNativeMemory)) {
-                allocatedMemory += size;
+                addAllocatedMemory(size);
                 return;
             }
         }
         throw new OutOfMemoryError("native memory");
     }
 
+    private void addAllocatedMemory(long size) {
+        allocatedMemory += size;
+        if (allocatedMemory > peakAllocatedMemory) {
+            peakAllocatedMemory = allocatedMemory;
+        }
+    }
+
     public void reduceMemoryPressure(long size) {
         allocatedMemory -= size;
     }
 
+    public long getAllocatedMemory() {
+        return allocatedMemory;
+    }
+
+    public long getPeakAllocatedMemory() {
+        return peakAllocatedMemory;
+    }
+
+    public long getNativeMemoryCollections() {
+        return nativeMemoryCollections;
+    }
+
+    /**
+     * Reads one of the counters that {@code obmalloc.c} maintains for the memory allocated through
+     * {@code PyMem_*} and {@code PyObject_*} functions. Those allocations never call into Java, so
+     * the numbers are only available from the native side. The counters are process-wide since the
+     * C API library is loaded only once.
+     */
+    @TruffleBoundary
+    public static long getNativeMemoryStat(int stat) {
+        return (long) PCallCapiFunction.callUncached(NativeCAPISymbol.FUN_GET_NATIVE_MEMORY_STAT, stat);
+    }
+
+    @TruffleBoundary
+    private void logNativeMemoryStats() {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(PythonUtils.formatJString("native memory: live %d bytes, peak %d bytes, total %d bytes, %d allocations, %d frees, %d collections; " +
+                            "tracked by Java: live %d bytes, peak %d bytes, %d collections",
+                            getNativeMemoryStat(NATIVE_MEMORY_STAT_LIVE_BYTES), getNativeMemoryStat(NATIVE_MEMORY_STAT_PEAK_BYTES),
+                            getNativeMemoryStat(NATIVE_MEMORY_STAT_TOTAL_BYTES), getNativeMemoryStat(NATIVE_MEMORY_STAT_ALLOCATIONS),
+                            getNativeMemoryStat(NATIVE_MEMORY_STAT_FREES), getNativeMemoryStat(NATIVE_MEMORY_STAT_COLLECTIONS),
+                            allocatedMemory, peakAllocatedMemory, nativeMemoryCollections));
+        }
+    }
+
     @TruffleBoundary
     private static void doGc(long millis) {
         LOGGER.fine("full GC due to native memory");
@@ -905,6 +968,7 @@ public final class CApiContext extends CExtContext {
          */
         try (GilNode.UncachedAcquire ignored = GilNode.uncachedAcquire()) {
             CApiTransitions.deallocateNativeWeakRefs(getContext());
+            logNativeMemoryStats();
         }
     }
 
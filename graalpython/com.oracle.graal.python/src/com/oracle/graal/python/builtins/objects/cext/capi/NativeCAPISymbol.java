@@ -134,6 +134,7 @@ public enum NativeCAPISymbol implements NativeCExtSymbol {
     FUN_PY_UNICODE_GET_LENGTH("PyUnicode_GetLength", Py_ssize_t, PyObject),
     FUN_PY_TRUFFLE_FREE("PyTruffle_Free", ArgDescriptor.Void, Pointer),
     FUN_PYMEM_ALLOC("PyMem_Calloc", Pointer, SIZE_T, SIZE_T),
+    FUN_GET_NATIVE_MEMORY_STAT("PyTruffle_GetNativeMemoryStat", INT64_T, Int),
     FUN_PY_DEALLOC("_Py_Dealloc", Void, Pointer),
     FUN_BULK_DEALLOC("PyTruffle_bulk_DEALLOC", Py_ssize_t, Pointer, INT64_T),
     FUN_SHUTDOWN_BULK_DEALLOC("PyTruffle_shutdown_bulk_DEALLOC", Py_ssize_t, Pointer, INT64_T),
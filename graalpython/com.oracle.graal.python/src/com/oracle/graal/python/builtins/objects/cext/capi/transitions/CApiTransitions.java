@@ -79,6 +79,7 @@ import com.oracle.graal.python.builtins.objects.cext.common.CExtCommonNodes.Coer
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToJavaNode;
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToNativeNode;
 import com.oracle.graal.python.builtins.objects.cext.common.HandleStack;
+import com.oracle.graal.python.builtins.objects.cext.common.NativePointerMap;
 import com.oracle.graal.python.builtins.objects.cext.common.NativePointer;
 import com.oracle.graal.python.builtins.objects.cext.structs.CFields;
 import com.oracle.graal.python.builtins.objects.cext.structs.CStructAccess;
@@ -158,7 +159,7 @@ public abstract class CApiTransitions {
         }
 
         public final NativeObjectReferenceArrayWrapper referencesToBeFreed = new NativeObjectReferenceArrayWrapper();
-        public final HashMap<Long, IdReference<?>> nativeLookup = new HashMap<>();
+        public final NativePointerMap<IdReference<?>> nativeLookup = new NativePointerMap<>();
         public final ConcurrentHashMap<Long, Long> nativeWeakRef = new ConcurrentHashMap<>();
         public final WeakHashMap<Object, WeakReference<Object>> managedNativeLookup = new WeakHashMap<>();
 
@@ -548,7 +549,7 @@ public abstract class CApiTransitions {
 
     public static void freeClassReplacements(HandleContext handleContext) {
         assert PythonContext.get(null).ownsGil();
-        handleContext.nativeLookup.forEach((l, ref) -> {
+        handleContext.nativeLookup.forEach((ref, pointer) -> {
             if (ref instanceof PythonObjectReference reference) {
                 // We don't expect references to wrappers that would have a native object stub.
                 assert reference.handleTableIndex == -1;
@@ -661,7 +662,7 @@ public abstract class CApiTransitions {
         context.nativeWeakRef.clear();
         long[] ptrArray = new long[list.length];
         for (Object ptr : list) {
-            if (context.nativeLookup.containsKey(ptr)) {
+            if (context.nativeLookup.containsKey((Long) ptr)) {
                 ptrArray[++idx] = (Long) ptr;
             }
         }
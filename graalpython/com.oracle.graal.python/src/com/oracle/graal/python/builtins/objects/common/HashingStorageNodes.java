@@ -59,6 +59,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodesFactor
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodesFactory.HashingStorageSetItemNodeGen;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodesFactory.HashingStorageSetItemWithHashNodeGen;
 import com.oracle.graal.python.builtins.objects.common.KeywordsStorage.GetKeywordsStorageItemNode;
+import com.oracle.graal.python.builtins.objects.common.LongHashingStorage.FindIndexNode;
 import com.oracle.graal.python.builtins.objects.common.ObjectHashMap.PutNode;
 import com.oracle.graal.python.lib.PyObjectHashNode;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
@@ -146,6 +147,13 @@ public class HashingStorageNodes {
                         @Cached GetKeywordsStorageItemNode getNode) {
             return getNode.execute(frame, inliningTarget, self, key, keyHash);
         }
+
+        @Specialization
+        static Object longs(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, long keyHash,
+                        @Cached FindIndexNode findIndexNode) {
+            int index = findIndexNode.execute(frame, inliningTarget, self, key, keyHash);
+            return index != -1 ? self.getValueObject(index) : null;
+        }
     }
 
     @GenerateUncached
@@ -204,6 +212,13 @@ public class HashingStorageNodes {
                         @Cached GetKeywordsStorageItemNode getNode) {
             return getNode.execute(frame, inliningTarget, self, key, -1);
         }
+
+        @Specialization
+        static Object longs(Frame frame, Node inliningTarget, LongHashingStorage self, Object key,
+                        @Cached FindIndexNode findIndexNode) {
+            int index = findIndexNode.execute(frame, inliningTarget, self, key, -1);
+            return index != -1 ? self.getValueObject(index) : null;
+        }
     }
 
     @GenerateInline(false)
@@ -272,8 +287,12 @@ public class HashingStorageNodes {
 
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, long keyHash, Object value,
+                        @Exclusive @Cached InlinedConditionProfile isLongEntryProfile,
                         @Exclusive @Cached PyUnicodeCheckExactNode isBuiltinString,
                         @Exclusive @Cached ObjectHashMap.PutNode putNode) {
+            if (isLongEntryProfile.profile(inliningTarget, LongHashingStorage.isLongEntry(key, value))) {
+                return LongHashingStorage.create(LongHashingStorage.asLong(key), LongHashingStorage.asLong(value));
+            }
             EconomicMapStorage storage = EconomicMapStorage.create(1);
             putNode.execute(frame, inliningTarget, storage.map, key, keyHash, value);
             if (!isBuiltinString.execute(inliningTarget, key)) {
@@ -318,6 +337,18 @@ public class HashingStorageNodes {
             return economicMap(frame, inliningTarget, result, key, keyHash, value, isBuiltinString, putNode);
         }
 
+        @Specialization
+        static HashingStorage longs(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, long keyHash, Object value,
+                        @Exclusive @Cached InlinedConditionProfile isLongEntryProfile,
+                        @Exclusive @Cached PyUnicodeCheckExactNode isBuiltinString,
+                        @Exclusive @Cached ObjectHashMap.PutNode putNode) {
+            if (isLongEntryProfile.profile(inliningTarget, LongHashingStorage.isLongEntry(key, value))) {
+                self.put(LongHashingStorage.asLong(key), LongHashingStorage.asLong(value));
+                return self;
+            }
+            return economicMap(frame, inliningTarget, self.toEconomicMap(inliningTarget, putNode), key, keyHash, value, isBuiltinString, putNode);
+        }
+
         @GenerateUncached
         @GenerateInline
         @GenerateCached(false)
@@ -394,9 +425,14 @@ public class HashingStorageNodes {
 
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, Object value,
+                        @Exclusive @Cached InlinedConditionProfile isLongEntryProfile,
                         @Exclusive @Cached PyUnicodeCheckExactNode isBuiltinString,
                         @Exclusive @Cached PyObjectHashNode hashNode,
                         @Exclusive @Cached ObjectHashMap.PutNode putNode) {
+            if (isLongEntryProfile.profile(inliningTarget, LongHashingStorage.isLongEntry(key, value))) {
+                // ints do not have side-effecting __hash__, so it is fine to not compute it here
+                return LongHashingStorage.create(LongHashingStorage.asLong(key), LongHashingStorage.asLong(value));
+            }
             // The ObjectHashMap.PutNode is @Exclusive because profiles for a put into a freshly new
             // allocated map can be quite different to profiles in the other situations when we are
             // putting into a map that already has or will have some more items in it
@@ -442,6 +478,19 @@ public class HashingStorageNodes {
             return economicMap(frame, inliningTarget, result, key, value, isBuiltinString, hashNode, putNode);
         }
 
+        @Specialization
+        static HashingStorage longs(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, Object value,
+                        @Exclusive @Cached InlinedConditionProfile isLongEntryProfile,
+                        @Exclusive @Cached PyUnicodeCheckExactNode isBuiltinString,
+                        @Exclusive @Cached PyObjectHashNode hashNode,
+                        @Exclusive @Cached ObjectHashMap.PutNode putNode) {
+            if (isLongEntryProfile.profile(inliningTarget, LongHashingStorage.isLongEntry(key, value))) {
+                self.put(LongHashingStorage.asLong(key), LongHashingStorage.asLong(value));
+                return self;
+            }
+            return economicMap(frame, inliningTarget, self.toEconomicMap(inliningTarget, putNode), key, value, isBuiltinString, hashNode, putNode);
+        }
+
         @GenerateUncached
         @GenerateInline
         @GenerateCached(false)
@@ -571,6 +620,26 @@ public class HashingStorageNodes {
             Object result = removeNode.execute(frame, inliningTarget, newStorage.map, key, hashNode.execute(frame, inliningTarget, key));
             return isPop ? result : null;
         }
+
+        @Specialization
+        @InliningCutoff
+        static Object longs(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, boolean isPop, PHashingCollection toUpdate,
+                        @Exclusive @Cached PyObjectHashNode hashNode,
+                        @Cached FindIndexNode findIndexNode,
+                        @Exclusive @Cached ObjectHashMap.PutNode putNode,
+                        @Exclusive @Cached ObjectHashMap.RemoveNode removeNode) {
+            // We must not omit the potentially side-effecting call to __hash__
+            long hash = hashNode.execute(frame, inliningTarget, key);
+            int index = findIndexNode.execute(frame, inliningTarget, self, key, hash);
+            if (index == -1) {
+                return null;
+            }
+            // deletion is not supported by the primitive storage
+            EconomicMapStorage newStorage = self.toEconomicMap(inliningTarget, putNode);
+            toUpdate.setDictStorage(newStorage);
+            Object result = removeNode.execute(frame, inliningTarget, newStorage.map, self.getKeyObject(index), self.getKeyHash(index));
+            return isPop ? result : null;
+        }
     }
 
     @GenerateUncached
@@ -613,6 +682,11 @@ public class HashingStorageNodes {
         static int keywords(KeywordsStorage self) {
             return self.length();
         }
+
+        @Specialization
+        static int longs(LongHashingStorage self) {
+            return self.length();
+        }
     }
 
     @GenerateUncached
@@ -681,6 +755,11 @@ public class HashingStorageNodes {
         static HashingStorage keywords(KeywordsStorage self) {
             return self.copy();
         }
+
+        @Specialization
+        static HashingStorage longs(LongHashingStorage self) {
+            return self.copy();
+        }
     }
 
     @ValueType
@@ -767,6 +846,11 @@ public class HashingStorageNodes {
         static HashingStorageIterator keywords(@SuppressWarnings("unused") KeywordsStorage self) {
             return new HashingStorageIterator();
         }
+
+        @Specialization
+        static HashingStorageIterator longs(@SuppressWarnings("unused") LongHashingStorage self) {
+            return new HashingStorageIterator();
+        }
     }
 
     @GenerateUncached
@@ -812,6 +896,13 @@ public class HashingStorageNodes {
             it.index = self.length();
             return it;
         }
+
+        @Specialization
+        static HashingStorageIterator longs(LongHashingStorage self) {
+            HashingStorageIterator it = new HashingStorageIterator(true);
+            it.index = self.length();
+            return it;
+        }
     }
 
     @GenerateUncached
@@ -918,6 +1009,16 @@ public class HashingStorageNodes {
         static boolean keywordsReverse(@SuppressWarnings("unused") KeywordsStorage self, HashingStorageIterator it) {
             return --it.index >= 0;
         }
+
+        @Specialization(guards = "!it.isReverse")
+        static boolean longs(LongHashingStorage self, HashingStorageIterator it) {
+            return ++it.index < self.length();
+        }
+
+        @Specialization(guards = "it.isReverse")
+        static boolean longsReverse(@SuppressWarnings("unused") LongHashingStorage self, HashingStorageIterator it) {
+            return --it.index >= 0;
+        }
     }
 
     @GenerateUncached
@@ -959,6 +1060,11 @@ public class HashingStorageNodes {
         static Object keywords(KeywordsStorage self, HashingStorageIterator it) {
             return self.keywords[it.index].getValue();
         }
+
+        @Specialization
+        static Object longs(LongHashingStorage self, HashingStorageIterator it) {
+            return self.getValueObject(it.index);
+        }
     }
 
     @GenerateUncached
@@ -1000,6 +1106,11 @@ public class HashingStorageNodes {
         static Object keywords(KeywordsStorage self, HashingStorageIterator it) {
             return self.keywords[it.index].getName();
         }
+
+        @Specialization
+        static Object longs(LongHashingStorage self, HashingStorageIterator it) {
+            return self.getKeyObject(it.index);
+        }
     }
 
     @GenerateUncached
@@ -1036,6 +1147,11 @@ public class HashingStorageNodes {
                         @Shared("hash") @Cached(inline = false) TruffleString.HashCodeNode hashNode) {
             return PyObjectHashNode.hash(self.keywords[it.index].getName(), hashNode);
         }
+
+        @Specialization
+        static long longs(LongHashingStorage self, HashingStorageIterator it) {
+            return self.getKeyHash(it.index);
+        }
     }
 
     @GenerateInline
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap.PutNode;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Storage for dictionaries whose keys and values are all Python ints that fit into a Java
+ * {@code long}. Such dictionaries are frequent (counters, index maps, memoization tables), and for
+ * them {@link EconomicMapStorage} keeps boxed keys and values, the Python hash of every key, and
+ * has to go through the generic {@code __eq__} machinery on lookup.
+ *
+ * This storage keeps keys and values unboxed in two compact arrays in insertion order and uses a
+ * sparse open addressing table of indices into those arrays. The slot in the index table is
+ * derived from the Python hash of the key, so lookups with arbitrary objects that may compare
+ * equal to an int (e.g., {@code 1.0} or instances of int subclasses) can still be answered
+ * without generalizing the storage.
+ *
+ * The storage supports only insertion and in-place update. Any other modification (deletion, a
+ * key or value that is not a {@code long}) generalizes it to {@link EconomicMapStorage} via
+ * {@link #toEconomicMap(Node, PutNode)}.
+ */
+public final class LongHashingStorage extends HashingStorage {
+    private static final int INITIAL_INDICES_SIZE = 8;
+    private static final int INITIAL_ENTRIES_SIZE = 5;
+    private static final int EMPTY_INDEX = -1;
+    // 2^64 / golden ratio, used to spread the hashes over the index table
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /** Sparse table of indices into {@link #keys} and {@link #values}. */
+    int[] indices;
+    /** {@code 64 - log2(indices.length)}. */
+    int indicesShift;
+    long[] keys;
+    long[] values;
+    int size;
+
+    private LongHashingStorage(int[] indices, int indicesShift, long[] keys, long[] values, int size) {
+        this.indices = indices;
+        this.indicesShift = indicesShift;
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    public static LongHashingStorage create(long key, long value) {
+        int[] indices = new int[INITIAL_INDICES_SIZE];
+        Arrays.fill(indices, EMPTY_INDEX);
+        LongHashingStorage result = new LongHashingStorage(indices, Long.numberOfLeadingZeros(INITIAL_INDICES_SIZE) + 1,
+                        new long[INITIAL_ENTRIES_SIZE], new long[INITIAL_ENTRIES_SIZE], 0);
+        result.put(key, value);
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if the key and value can be stored in this storage. Booleans are
+     * deliberately not accepted: they are ints in Python, but the storage would not preserve their
+     * identity.
+     */
+    public static boolean isLongEntry(Object key, Object value) {
+        return (key instanceof Integer || key instanceof Long) && (value instanceof Integer || value instanceof Long);
+    }
+
+    static long asLong(Object intOrLong) {
+        if (intOrLong instanceof Integer i) {
+            return i;
+        }
+        return (long) intOrLong;
+    }
+
+    static Object box(long value) {
+        if (PInt.isIntRange(value)) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    public int length() {
+        return size;
+    }
+
+    long getKey(int index) {
+        return keys[index];
+    }
+
+    Object getKeyObject(int index) {
+        return box(keys[index]);
+    }
+
+    Object getValueObject(int index) {
+        return box(values[index]);
+    }
+
+    long getKeyHash(int index) {
+        return PyObjectHashNode.hash(keys[index]);
+    }
+
+    int getSlot(long hash) {
+        return (int) ((hash * HASH_MULTIPLIER) >>> indicesShift);
+    }
+
+    int nextSlot(int slot) {
+        return (slot + 1) & (indices.length - 1);
+    }
+
+    /**
+     * Returns the index of the entry with given key or {@code -1} if there is no such key.
+     */
+    int findIndex(long key) {
+        int[] idx = indices;
+        int slot = getSlot(PyObjectHashNode.hash(key));
+        while (true) {
+            int index = idx[slot];
+            if (index == EMPTY_INDEX || keys[index] == key) {
+                return index;
+            }
+            slot = nextSlot(slot);
+        }
+    }
+
+    public void put(long key, long value) {
+        int index = findIndex(key);
+        if (index != EMPTY_INDEX) {
+            values[index] = value;
+            return;
+        }
+        if (size == keys.length) {
+            int newLength = size * 2;
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+        keys[size] = key;
+        values[size] = value;
+        // keep the load factor of the index table below 2/3
+        if ((size + 1) * 3 > indices.length * 2) {
+            rehash(indices.length * 2);
+        } else {
+            insertIndex(indices, size, PyObjectHashNode.hash(key));
+        }
+        size++;
+    }
+
+    private void insertIndex(int[] idx, int index, long hash) {
+        int slot = getSlot(hash);
+        while (idx[slot] != EMPTY_INDEX) {
+            slot = (slot + 1) & (idx.length - 1);
+        }
+        idx[slot] = index;
+    }
+
+    private void rehash(int newIndicesLength) {
+        int[] newIndices = new int[newIndicesLength];
+        Arrays.fill(newIndices, EMPTY_INDEX);
+        indices = newIndices;
+        indicesShift = Long.numberOfLeadingZeros(newIndicesLength) + 1;
+        for (int i = 0; i <= size; i++) {
+            insertIndex(newIndices, i, PyObjectHashNode.hash(keys[i]));
+        }
+    }
+
+    public HashingStorage copy() {
+        return new LongHashingStorage(indices.clone(), indicesShift, keys.clone(), values.clone(), size);
+    }
+
+    /**
+     * Creates an {@link EconomicMapStorage} with the same entries in the same order. The keys are
+     * Python ints, so their hash and {@code __eq__} cannot have side effects.
+     */
+    EconomicMapStorage toEconomicMap(Node inliningTarget, PutNode putNode) {
+        EconomicMapStorage result = EconomicMapStorage.create(size);
+        for (int i = 0; i < size; i++) {
+            putNode.put(null, inliningTarget, result.map, getKeyObject(i), getKeyHash(i), getValueObject(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        CompilerAsserts.neverPartOfCompilation();
+        StringBuilder builder = new StringBuilder();
+        builder.append("longs(size=").append(size).append(", {");
+        for (int i = 0; i < size; i++) {
+            if (i >= 100) {
+                builder.append("...");
+                break;
+            }
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('(').append(keys[i]).append(',').append(values[i]).append(')');
+        }
+        builder.append("})");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the index of the entry whose key is equal to the given key, or {@code -1}. Keys of
+     * primitive types are looked up without computing their Python hash. For other objects the
+     * {@code keyHash} is used if it is not {@code -1}, otherwise it is computed.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FindIndexNode extends Node {
+        public abstract int execute(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, long keyHash);
+
+        @Specialization
+        static int doInt(LongHashingStorage self, int key, @SuppressWarnings("unused") long keyHash) {
+            return self.findIndex(key);
+        }
+
+        @Specialization
+        static int doLong(LongHashingStorage self, long key, @SuppressWarnings("unused") long keyHash) {
+            return self.findIndex(key);
+        }
+
+        @Specialization
+        static int doBoolean(LongHashingStorage self, boolean key, @SuppressWarnings("unused") long keyHash) {
+            return self.findIndex(key ? 1 : 0);
+        }
+
+        @Specialization
+        static int doDouble(LongHashingStorage self, double key, @SuppressWarnings("unused") long keyHash) {
+            // only integral doubles in the long range can be equal to a key
+            if (key == Math.rint(key) && key >= -0x1p63 && key < 0x1p63) {
+                return self.findIndex((long) key);
+            }
+            return EMPTY_INDEX;
+        }
+
+        @Specialization
+        @SuppressWarnings("unused")
+        static int doString(LongHashingStorage self, TruffleString key, long keyHash) {
+            return EMPTY_INDEX;
+        }
+
+        @Fallback
+        static int doGeneric(Frame frame, Node inliningTarget, LongHashingStorage self, Object key, long keyHashIn,
+                        @Cached PyObjectHashNode hashNode,
+                        @Cached PyObjectRichCompareBool.EqNode eqNode) {
+            long keyHash = keyHashIn == -1 ? hashNode.execute(frame, inliningTarget, key) : keyHashIn;
+            int slot = self.getSlot(keyHash);
+            while (true) {
+                int index = self.indices[slot];
+                if (index == EMPTY_INDEX) {
+                    return EMPTY_INDEX;
+                }
+                if (self.getKeyHash(index) == keyHash && eqNode.compare(frame, inliningTarget, key, self.getKeyObject(index))) {
+                    return index;
+                }
+                slot = self.nextSlot(slot);
+            }
+        }
+    }
+}
@@ -121,9 +121,6 @@ import com.oracle.truffle.api.strings.TruffleString;
  * reused when inserting new items. This will help with the insert/remove of the same key
  * scenario.</li>
  * <li>Inline {@link ObjectHashMap} into {@code EconomicMapStorage} to save an indirection.</li>
- * <li>New strategy for long keys where the hashes array is used to store the keys, and the
- * keysAndValues array will store just values. Can be implemented by extending this class and
- * overriding few methods.</li>
  * <li>Flag that indicates that the hash-map is used as a storage for a set, so all values are
  * {@code None} and there is no need to allocate space for values in the keysAndValues array.</li>
  * </ul>
@@ -58,8 +58,10 @@ import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.CallContext;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
@@ -206,7 +208,13 @@ public abstract class SortNodes {
         void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
             int[] array = storage.getInternalIntArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            if (isParallelSort(len)) {
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    Arrays.parallelSort(array, 0, len);
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
@@ -217,7 +225,13 @@ public abstract class SortNodes {
         void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
             long[] array = storage.getInternalLongArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            if (isParallelSort(len)) {
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    Arrays.parallelSort(array, 0, len);
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
@@ -228,14 +242,32 @@ public abstract class SortNodes {
         void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
             int len = storage.length();
             double[] array = storage.getInternalDoubleArray();
-            Arrays.sort(array, 0, len);
+            if (isParallelSort(len)) {
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    Arrays.parallelSort(array, 0, len);
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
+        /**
+         * Returns {@code true} if a sort of {@code len} elements should use the parallel sorting
+         * algorithms of {@link Arrays}, see {@link PythonOptions#ParallelSortThreshold}. Parallel
+         * sorts are only used when the comparison is implemented in Java, so they release the GIL
+         * while sorting. This is safe, because {@code list.sort} detaches the storage from the list
+         * while sorting.
+         */
+        private boolean isParallelSort(int len) {
+            int threshold = PythonContext.get(this).getOption(PythonOptions.ParallelSortThreshold);
+            return threshold > 0 && len >= threshold;
+        }
+
         @TruffleBoundary
-        private static void sortStrings(ObjectSequenceStorage storage, boolean reverse) {
+        private static void sortStrings(ObjectSequenceStorage storage, boolean reverse, boolean parallel) {
             Object[] array = storage.getInternalObjectArray();
             int len = storage.length();
             Comparator<Object> comparator;
@@ -244,7 +276,40 @@ public abstract class SortNodes {
             } else {
                 comparator = (a, b) -> StringUtils.compareStringsUncached((TruffleString) a, (TruffleString) b);
             }
-            Arrays.sort(array, 0, len, comparator);
+            sortArray(array, len, comparator, parallel);
+        }
+
+        /**
+         * Sorts with a comparator implemented in Java. Both {@link Arrays#sort(Object[], int, int,
+         * Comparator)} and {@link Arrays#parallelSort(Object[], int, int, Comparator)} are stable,
+         * as required by {@code list.sort}.
+         */
+        @TruffleBoundary
+        private static <T> void sortArray(T[] array, int len, Comparator<? super T> comparator, boolean parallel) {
+            if (parallel) {
+                try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                    Arrays.parallelSort(array, 0, len, comparator);
+                }
+            } else {
+                Arrays.sort(array, 0, len, comparator);
+            }
+        }
+
+        /**
+         * Returns the comparator for the elements if they are all of the same builtin type with a
+         * Java comparator, or {@code null} otherwise.
+         */
+        @TruffleBoundary
+        private static KeySortComparator getHomogeneousComparator(Object[] array, int len) {
+            KeySortComparator comparator = KeySortComparator.forClass(array[0].getClass());
+            if (comparator != null) {
+                for (int i = 1; i < len; i++) {
+                    if (array[i].getClass() != comparator.clazz) {
+                        return null;
+                    }
+                }
+            }
+            return comparator;
         }
 
         protected boolean isStringOnly(Node inliningTarget, ObjectSequenceStorage storage, InlinedLoopConditionProfile isStringOnlyLoopProfile,
@@ -270,14 +335,22 @@ public abstract class SortNodes {
                         @Cached InlinedLoopConditionProfile isStringOnlyLoopProfile,
                         @Cached InlinedCountingConditionProfile isStringOnlyBreakProfile,
                         @Shared @Cached CallContext callContext) {
+            int len = storage.length();
             if (isStringOnlyProfile.profile(inliningTarget, isStringOnly(inliningTarget, storage, isStringOnlyLoopProfile, isStringOnlyBreakProfile))) {
                 // Sorting of strings seems to be so much faster (especially on SVM) that it is
                 // worth always checking for string only sequences and not replacing the strings
                 // specialized code with generic object storage code
-                sortStrings(storage, reverse);
-            } else {
-                sortWithoutKey(frame, storage.getInternalObjectArray(), storage.length(), reverse, callContext);
+                sortStrings(storage, reverse, isParallelSort(len));
+                return;
+            }
+            if (isParallelSort(len)) {
+                KeySortComparator comparator = getHomogeneousComparator(storage.getInternalObjectArray(), len);
+                if (comparator != null) {
+                    sortHomogeneous(storage.getInternalObjectArray(), len, comparator, reverse);
+                    return;
+                }
             }
+            sortWithoutKey(frame, storage.getInternalObjectArray(), len, reverse, callContext);
         }
 
         @Specialization(guards = "!isPNone(keyfunc)")
@@ -337,6 +410,18 @@ public abstract class SortNodes {
             }
         }
 
+        @TruffleBoundary
+        private static void sortHomogeneous(Object[] array, int len, KeySortComparator comparator, boolean reverse) {
+            // reverse before and after sorting to keep equal elements in their original order
+            if (reverse) {
+                reverseArray(array, len);
+            }
+            sortArray(array, len, comparator.valueComparator, true);
+            if (reverse) {
+                reverseArray(array, len);
+            }
+        }
+
         @TruffleBoundary
         private static void callSortWithoutKey(Object[] array, int len, RootCallTarget callTarget, Object[] arguments) {
             try {
@@ -357,18 +442,20 @@ public abstract class SortNodes {
         }
 
         private enum KeySortComparator {
-            INT(Integer.class, Comparator.comparing(a -> ((Integer) a.key))),
-            LONG(Long.class, Comparator.comparing(a -> ((Long) a.key))),
-            DOUBLE(Double.class, Comparator.comparing(a -> ((Double) a.key))),
-            BOOLEAN(Boolean.class, Comparator.comparing(a -> ((Boolean) a.key))),
-            STRING(TruffleString.class, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a.key, (TruffleString) b.key));
+            INT(Integer.class, Comparator.comparing(a -> ((Integer) a))),
+            LONG(Long.class, Comparator.comparing(a -> ((Long) a))),
+            DOUBLE(Double.class, Comparator.comparing(a -> ((Double) a))),
+            BOOLEAN(Boolean.class, Comparator.comparing(a -> ((Boolean) a))),
+            STRING(TruffleString.class, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a, (TruffleString) b));
 
             final Class<?> clazz;
+            final Comparator<Object> valueComparator;
             final Comparator<SortingPair> comparator;
 
-            KeySortComparator(Class<?> clazz, Comparator<SortingPair> comparator) {
+            KeySortComparator(Class<?> clazz, Comparator<Object> valueComparator) {
                 this.clazz = clazz;
-                this.comparator = comparator;
+                this.valueComparator = valueComparator;
+                this.comparator = (a, b) -> valueComparator.compare(a.key, b.key);
             }
 
             @ExplodeLoop
@@ -416,7 +503,7 @@ public abstract class SortNodes {
                 pairArray[reverse ? len - i - 1 : i] = new SortingPair(key, array[i]);
             }
             if (keySortComparator != null) {
-                callSortWithKey(pairArray, len, keySortComparator);
+                sortArray(pairArray, len, keySortComparator.comparator, isParallelSort(len));
             } else {
                 PythonLanguage language = PythonLanguage.get(this);
                 final Object[] arguments = PArguments.create(2);
@@ -439,11 +526,6 @@ public abstract class SortNodes {
             }
         }
 
-        @TruffleBoundary
-        private static void callSortWithKey(SortingPair[] array, int len, KeySortComparator comparator) {
-            Arrays.sort(array, 0, len, comparator.comparator);
-        }
-
         @TruffleBoundary
         private static void callSortWithKey(SortingPair[] array, int len, RootCallTarget callTarget, Object[] arguments) {
             try {
@@ -333,6 +333,9 @@ public final class MMapBuiltins extends PythonBuiltins {
         @Specialization
         PNone close(PMMap self,
                         @CachedLibrary("getPosixSupport()") PosixSupportLibrary posixSupportLib) {
+            if (self.hasExports()) {
+                throw raise(PythonBuiltinClassType.BufferError, ErrorMessages.MMAP_CANNOT_CLOSE_EXPORTED_POINTERS_EXIST);
+            }
             self.close(posixSupportLib, getPosixSupport());
             return PNone.NONE;
         }
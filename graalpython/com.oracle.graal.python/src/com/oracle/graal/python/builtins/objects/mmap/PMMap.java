@@ -42,6 +42,10 @@ package com.oracle.graal.python.builtins.objects.mmap;
 
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
@@ -52,6 +56,7 @@ import com.oracle.graal.python.runtime.NFIPosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -75,6 +80,10 @@ public final class PMMap extends PythonObject {
     private long pos;
     private final int access;
 
+    // Objects that use the mapped memory directly, see __graalpython__.mmap_array. They are only
+    // weakly referenced, so the mmap can be closed again once they are collected.
+    private List<WeakReference<Object>> exports;
+
     public PMMap(Object pythonClass, Shape instanceShape, PythonContext context, Object handle, int fd, long length, int access) {
         super(pythonClass, instanceShape);
         assert handle != null;
@@ -107,6 +116,23 @@ public final class PMMap extends PythonObject {
         return access;
     }
 
+    @TruffleBoundary
+    public synchronized void addExport(Object exporter) {
+        if (exports == null) {
+            exports = new ArrayList<>();
+        }
+        exports.add(new WeakReference<>(exporter));
+    }
+
+    @TruffleBoundary
+    public synchronized boolean hasExports() {
+        if (exports == null) {
+            return false;
+        }
+        exports.removeIf(ref -> ref.get() == null);
+        return !exports.isEmpty();
+    }
+
     public long getLength() {
         return ref.length;
     }
@@ -40,49 +40,110 @@
  */
 package com.oracle.graal.python.builtins.objects.queue;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.LockSupport;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.object.Shape;
 
+/**
+ * The {@code _queue.SimpleQueue} object. Like in CPython, the items and the waiting threads are
+ * only accessed while holding the GIL, so they are kept in plain array deques without any further
+ * locking. A thread that has to wait in {@code get} registers itself as waiter, releases the GIL
+ * and parks; {@code put} unparks the longest waiting thread. The woken thread re-acquires the GIL
+ * and takes the next item, or waits again if another thread took it first.
+ */
 public final class PSimpleQueue extends PythonBuiltinObject {
 
-    private final LinkedBlockingQueue<Object> data = createQueue();
+    private final ArrayDeque<Object> items = createDeque();
+    private final ArrayDeque<Thread> waiters = createDeque();
 
     public PSimpleQueue(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
     }
 
     @TruffleBoundary
-    private static LinkedBlockingQueue<Object> createQueue() {
-        return new LinkedBlockingQueue<>();
+    private static <T> ArrayDeque<T> createDeque() {
+        return new ArrayDeque<>();
     }
 
     @TruffleBoundary
     int getQueueSize() {
-        return data.size();
+        return items.size();
     }
 
+    /**
+     * Returns {@code null} if empty.
+     */
     @TruffleBoundary
-    Object get() throws InterruptedException {
-        return data.take();
+    Object poll() {
+        return items.pollFirst();
     }
 
     @TruffleBoundary
-    Object get(long microSeconds) throws InterruptedException {
-        return data.poll(microSeconds, TimeUnit.MICROSECONDS);
+    boolean put(Object value) {
+        if (items.size() == Integer.MAX_VALUE - 8) {
+            return false;
+        }
+        items.addLast(value);
+        Thread waiter = waiters.pollFirst();
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+        return true;
     }
 
+    /**
+     * Removes and returns the first item, waiting without holding the GIL until an item is
+     * available. A negative timeout waits forever. Returns {@code null} if the timeout expired.
+     */
     @TruffleBoundary
-    Object poll() {
-        return data.poll();
+    Object get(Node node, long timeoutNanos) {
+        Thread currentThread = Thread.currentThread();
+        boolean timed = timeoutNanos >= 0;
+        long deadline = timed ? System.nanoTime() + timeoutNanos : 0;
+        while (true) {
+            Object result = items.pollFirst();
+            if (result != null) {
+                return result;
+            }
+            if (timed && deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+            waiters.addLast(currentThread);
+            try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                park(node, timed, deadline);
+            } finally {
+                // 'put' removes the waiter it wakes up, but not after a timeout or spurious wakeup
+                waiters.removeFirstOccurrence(currentThread);
+            }
+        }
     }
 
-    @TruffleBoundary
-    boolean put(Object value) {
-        return data.offer(value);
+    private void park(Node node, boolean timed, long deadline) {
+        /*
+         * The action is re-run after a safepoint interrupt. By then 'put' may already have removed
+         * this thread from the waiters and unparked it, so parking again could miss the item.
+         * Instead, return after any wakeup and let 'get' check the items again under the GIL.
+         */
+        boolean[] parked = new boolean[1];
+        TruffleSafepoint.setBlockedThreadInterruptible(node, (p) -> {
+            if (p[0]) {
+                return;
+            }
+            p[0] = true;
+            if (!timed) {
+                LockSupport.park(this);
+            } else {
+                LockSupport.parkNanos(this, deadline - System.nanoTime());
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }, parked);
     }
-
 }
@@ -66,15 +66,12 @@ import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaDoubleNode;
-import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
-import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
-import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -163,7 +160,6 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
         @Specialization(guards = "!withTimeout(block, timeout)")
         static Object doNoTimeout(PSimpleQueue self, boolean block, @SuppressWarnings("unused") Object timeout,
                         @Bind("this") Node inliningTarget,
-                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy raiseNode) {
             // CPython first tries a non-blocking get without releasing the GIL
             Object result = self.poll();
@@ -171,16 +167,7 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
                 return result;
             }
             if (block) {
-                try {
-                    gil.release(true);
-                    return self.get();
-                } catch (InterruptedException e) {
-                    CompilerDirectives.transferToInterpreter();
-                    Thread.currentThread().interrupt();
-                    return PNone.NONE;
-                } finally {
-                    gil.acquire();
-                }
+                return self.get(inliningTarget, -1);
             }
             throw raiseNode.get(inliningTarget).raise(Empty);
         }
@@ -190,7 +177,6 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached PyLongAsLongAndOverflowNode asLongNode,
                         @Cached CastToJavaDoubleNode castToDouble,
-                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy raiseNode) {
             assert block;
 
@@ -216,17 +202,10 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
                 return result;
             }
 
-            try {
-                gil.release(true);
-                result = self.get(ltimeout);
-                if (result != null) {
-                    return result;
-                }
-            } catch (InterruptedException e) {
-                CompilerDirectives.transferToInterpreter();
-                Thread.currentThread().interrupt();
-            } finally {
-                gil.acquire();
+            long timeoutNanos = ltimeout > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : ltimeout * 1000;
+            result = self.get(inliningTarget, timeoutNanos);
+            if (result != null) {
+                return result;
             }
             throw raiseNode.get(inliningTarget).raise(Empty);
         }
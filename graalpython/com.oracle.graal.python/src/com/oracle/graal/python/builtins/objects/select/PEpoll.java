@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.AsyncHandler.SharedFinalizer.FinalizableReference;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * The object returned by {@code select.epoll()}. The registrations live in the kernel (or in the
+ * emulated selector), so unlike {@link PPoll} nothing needs to be passed on each wait.
+ */
+public final class PEpoll extends PythonObject {
+    private final EpollFD ref;
+
+    public PEpoll(Object pythonClass, Shape instanceShape, PythonContext context, int epfd) {
+        super(pythonClass, instanceShape);
+        this.ref = new EpollFD(this, epfd, context);
+    }
+
+    /**
+     * Returns the file descriptor of the epoll instance, or {@code -1} if it has been closed.
+     */
+    int getEpfd() {
+        return ref.isReleased() ? -1 : (int) ref.getReference();
+    }
+
+    boolean isClosed() {
+        return ref.isReleased();
+    }
+
+    void close(PosixSupportLibrary posixLib, Object posixSupport) throws PosixException {
+        if (!ref.isReleased()) {
+            ref.markReleased();
+            posixLib.close(posixSupport, (int) ref.getReference());
+        }
+    }
+
+    static final class EpollFD extends FinalizableReference {
+        private final PythonContext context;
+
+        EpollFD(PEpoll referent, int epfd, PythonContext context) {
+            super(referent, epfd, context.getSharedFinalizer());
+            this.context = context;
+        }
+
+        @SuppressWarnings("try")
+        void doRelease() {
+            markReleased();
+            try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+                PosixSupportLibrary.getUncached().close(context.getPosixSupport(), (int) getReference());
+            } catch (PosixException e) {
+                // ignore
+            }
+        }
+
+        @Override
+        public AsyncHandler.AsyncAction release() {
+            if (isReleased()) {
+                return null;
+            }
+            return (ctx) -> {
+                if (!isReleased()) {
+                    doRelease();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import java.util.LinkedHashMap;
+
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * The object returned by {@code select.poll()}. The registrations are kept in insertion order and
+ * the arrays passed to {@code poll(2)} are only rebuilt after the registrations change, so that
+ * repeated polling of a stable set of descriptors does not need to re-convert the whole set.
+ */
+public final class PPoll extends PythonObject {
+    private final LinkedHashMap<Integer, Integer> registrations = new LinkedHashMap<>();
+    private int[] fds;
+    private int[] events;
+    private boolean polling;
+
+    public PPoll(Object pythonClass, Shape instanceShape) {
+        super(pythonClass, instanceShape);
+    }
+
+    @TruffleBoundary
+    void register(int fd, int eventMask) {
+        if (!Integer.valueOf(eventMask).equals(registrations.put(fd, eventMask))) {
+            fds = null;
+        }
+    }
+
+    /**
+     * Returns {@code false} if {@code fd} is not registered.
+     */
+    @TruffleBoundary
+    boolean modify(int fd, int eventMask) {
+        if (!registrations.containsKey(fd)) {
+            return false;
+        }
+        register(fd, eventMask);
+        return true;
+    }
+
+    /**
+     * Returns {@code false} if {@code fd} is not registered.
+     */
+    @TruffleBoundary
+    boolean unregister(int fd) {
+        if (registrations.remove(fd) == null) {
+            return false;
+        }
+        fds = null;
+        return true;
+    }
+
+    @TruffleBoundary
+    private void updateArrays() {
+        int n = registrations.size();
+        int[] newFds = new int[n];
+        int[] newEvents = new int[n];
+        int i = 0;
+        for (var entry : registrations.entrySet()) {
+            newFds[i] = entry.getKey();
+            newEvents[i] = entry.getValue();
+            i++;
+        }
+        fds = newFds;
+        events = newEvents;
+    }
+
+    int[] getFds() {
+        if (fds == null) {
+            updateArrays();
+        }
+        return fds;
+    }
+
+    int[] getEvents() {
+        if (fds == null) {
+            updateArrays();
+        }
+        return events;
+    }
+
+    boolean isPolling() {
+        return polling;
+    }
+
+    void setPolling(boolean polling) {
+        this.polling = polling;
+    }
+}
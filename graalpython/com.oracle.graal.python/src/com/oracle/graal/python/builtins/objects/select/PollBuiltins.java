@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLPRI;
+import static com.oracle.graal.python.util.TimeUtils.MS_TO_NS;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.select.PollBuiltinsClinicProviders.ModifyNodeClinicProviderGen;
+import com.oracle.graal.python.builtins.objects.select.PollBuiltinsClinicProviders.RegisterNodeClinicProviderGen;
+import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode.RoundType;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PPoll)
+public final class PollBuiltins extends PythonBuiltins {
+
+    static final int DEFAULT_EVENTS = POLLIN.defined ? POLLIN.getValueIfDefined() | POLLPRI.getValueIfDefined() | POLLOUT.getValueIfDefined() : 0;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return PollBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Converts a timeout that has already been rounded up to nanoseconds to the milliseconds
+     * expected by {@code poll(2)} and {@code epoll_wait(2)}. Negative values mean no timeout.
+     */
+    static int timeoutNsToMs(Node inliningTarget, long timeoutNs, PRaiseNode.Lazy raiseNode) {
+        if (timeoutNs < 0) {
+            return -1;
+        }
+        long ms = timeoutNs / MS_TO_NS + (timeoutNs % MS_TO_NS != 0 ? 1 : 0);
+        if (ms > Integer.MAX_VALUE) {
+            throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.OverflowError, ErrorMessages.TIMEOUT_VALUE_TOO_LARGE);
+        }
+        return (int) ms;
+    }
+
+    @Builtin(name = "register", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Int, defaultValue = "DEFAULT_EVENTS")
+    @GenerateNodeFactory
+    abstract static class RegisterNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return RegisterNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone register(VirtualFrame frame, PPoll self, Object fdObj, int eventMask,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor) {
+            self.register(asFileDescriptor.execute(frame, inliningTarget, fdObj), eventMask);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "modify", minNumOfPositionalArgs = 3, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class ModifyNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return ModifyNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone modify(VirtualFrame frame, PPoll self, Object fdObj, int eventMask,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            if (!self.modify(asFileDescriptor.execute(frame, inliningTarget, fdObj), eventMask)) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.ENOENT);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "unregister", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd"})
+    @GenerateNodeFactory
+    abstract static class UnregisterNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone unregister(VirtualFrame frame, PPoll self, Object fdObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            if (!self.unregister(fd)) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.KeyError, new Object[]{fd});
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "poll", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timeout"})
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PList poll(VirtualFrame frame, PPoll self, Object timeout,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyTimeFromObjectNode pyTimeFromObjectNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile notSelectableBranch,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int timeoutMs = -1;
+            if (!PGuards.isPNone(timeout)) {
+                timeoutMs = timeoutNsToMs(inliningTarget, pyTimeFromObjectNode.execute(frame, inliningTarget, timeout, RoundType.TIMEOUT, MS_TO_NS), raiseNode);
+            }
+            if (self.isPolling()) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.RuntimeError, ErrorMessages.CONCURRENT_POLL_INVOCATION);
+            }
+            // the arrays are shared with the object and only replaced (never mutated) when the
+            // registrations change, so they remain valid while the GIL is released
+            int[] fds = self.getFds();
+            int[] events = self.getEvents();
+            int[] revents;
+            self.setPolling(true);
+            try {
+                gil.release(true);
+                try {
+                    revents = posixLib.poll(PosixSupport.get(inliningTarget), fds, events, timeoutMs);
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } catch (ChannelNotSelectableException e) {
+                // GraalPython hack: if one of the channels is not selectable (can happen only in
+                // the emulated mode), we report all requested events as ready, like select does
+                notSelectableBranch.enter(inliningTarget);
+                revents = events;
+            } finally {
+                self.setPolling(false);
+            }
+            return toList(fds, revents, factory);
+        }
+
+        private static PList toList(int[] fds, int[] revents, PythonObjectFactory factory) {
+            int count = 0;
+            for (int r : revents) {
+                if (r != 0) {
+                    count++;
+                }
+            }
+            Object[] result = new Object[count];
+            int idx = 0;
+            for (int i = 0; i < fds.length; i++) {
+                if (revents[i] != 0) {
+                    result[idx++] = factory.createTuple(new Object[]{fds[i], revents[i]});
+                }
+            }
+            return factory.createList(result);
+        }
+    }
+}
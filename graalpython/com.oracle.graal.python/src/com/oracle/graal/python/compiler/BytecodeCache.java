@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.compiler;
+
+import static com.oracle.graal.python.builtins.modules.SysModuleBuiltins.J_CACHE_TAG;
+import static com.oracle.graal.python.nodes.StringLiterals.J_PY_EXTENSION;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+
+import org.graalvm.nativeimage.ImageInfo;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.thread.PThread;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.memory.ByteArraySupport;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Persistent cache of compiled {@link CodeUnit}s for Python source files, similar to the
+ * {@code __pycache__} directories that {@code importlib} maintains. The cache file for
+ * {@code dir/mod.py} is {@code dir/__pycache__/mod.<cache_tag>[.opt-N].gpyc}, or is placed in a
+ * mirror directory tree under {@link PythonOptions#PyCachePrefix} if that is set. We use our own
+ * extension, because the payload is a serialized {@link CodeUnit} and not a marshalled code object
+ * as in {@code .pyc} files.
+ *
+ * A cache file starts with a fixed-size header that is used for validation:
+ *
+ * <pre>
+ *   int  magic (bytecode version)
+ *   int  future flags the code was compiled with
+ *   long source modification time in milliseconds
+ *   long source length in characters
+ *   long hash of the source characters
+ * </pre>
+ *
+ * The cache is enabled with {@link PythonOptions#PersistentBytecodeCache}. A cache entry is only
+ * used if all header fields match the current source. Cache files are only written if
+ * {@link PythonOptions#DontWriteBytecodeFlag} is off, so the cache follows the same rules as
+ * {@code .pyc} files. Any I/O or permission problem just results in a cache miss.
+ */
+public final class BytecodeCache {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(BytecodeCache.class);
+
+    private static final String PYCACHE = "__pycache__";
+    private static final String EXTENSION = ".gpyc";
+    private static final int MAGIC = 0x47500000 | Compiler.BYTECODE_VERSION;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 3 * Long.BYTES;
+
+    private static final ByteArraySupport SUPPORT = ByteArraySupport.littleEndian();
+
+    private final PythonContext context;
+    private final Source source;
+    private final TruffleFile cacheFile;
+    private final int flags;
+    private final long mtime;
+    private final long hash;
+
+    private BytecodeCache(PythonContext context, Source source, TruffleFile cacheFile, int flags, long mtime, long hash) {
+        this.context = context;
+        this.source = source;
+        this.cacheFile = cacheFile;
+        this.flags = flags;
+        this.mtime = mtime;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the cache for the given file source, or {@code null} if the source is not backed by
+     * a file that can be cached.
+     */
+    @TruffleBoundary
+    public static BytecodeCache forSource(PythonContext context, Source source, int optimize, int flags) {
+        String path = source.getPath();
+        if (path == null || source.isInteractive() || ImageInfo.inImageBuildtimeCode() || !path.endsWith(J_PY_EXTENSION) || !context.getOption(PythonOptions.PersistentBytecodeCache)) {
+            return null;
+        }
+        try {
+            TruffleFile sourceFile = context.getEnv().getPublicTruffleFile(path).getAbsoluteFile();
+            TruffleFile parent = sourceFile.getParent();
+            if (parent == null) {
+                return null;
+            }
+            String name = sourceFile.getName();
+            StringBuilder cacheName = new StringBuilder(name.substring(0, name.length() - J_PY_EXTENSION.length()));
+            cacheName.append('.').append(J_CACHE_TAG);
+            if (optimize > 0) {
+                cacheName.append(".opt-").append(optimize);
+            }
+            cacheName.append(EXTENSION);
+            TruffleFile cacheDir;
+            TruffleString prefix = context.getOption(PythonOptions.PyCachePrefix);
+            if (prefix.isEmpty()) {
+                cacheDir = parent.resolve(PYCACHE);
+            } else {
+                // mirror the absolute source directory below the prefix, like importlib does
+                String parentPath = parent.getPath();
+                if (parentPath.length() > 1 && parentPath.charAt(1) == ':') {
+                    // drop the colon of a Windows drive letter
+                    parentPath = parentPath.charAt(0) + parentPath.substring(2);
+                }
+                String separator = context.getEnv().getFileNameSeparator();
+                int start = 0;
+                while (parentPath.startsWith(separator, start)) {
+                    start += separator.length();
+                }
+                cacheDir = context.getEnv().getPublicTruffleFile(prefix.toJavaStringUncached()).resolve(parentPath.substring(start));
+            }
+            long mtime = sourceFile.getLastModifiedTime().toMillis();
+            return new BytecodeCache(context, source, cacheDir.resolve(cacheName.toString()), flags, mtime, hashCharacters(source.getCharacters()));
+        } catch (IOException | SecurityException | UnsupportedOperationException | InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static long hashCharacters(CharSequence chars) {
+        // 64-bit FNV-1a
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            h = (h ^ (c & 0xff)) * 0x100000001b3L;
+            h = (h ^ (c >>> 8)) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Returns the cached code unit if the cache file exists and is up to date, {@code null}
+     * otherwise.
+     */
+    @TruffleBoundary
+    public CodeUnit load() {
+        byte[] data;
+        try {
+            if (!cacheFile.isRegularFile()) {
+                return null;
+            }
+            data = cacheFile.readAllBytes();
+        } catch (IOException | SecurityException | UnsupportedOperationException e) {
+            return null;
+        }
+        if (data.length <= HEADER_SIZE || SUPPORT.getInt(data, 0) != MAGIC || SUPPORT.getInt(data, 4) != flags || SUPPORT.getLong(data, 8) != mtime ||
+                        SUPPORT.getLong(data, 16) != source.getCharacters().length() || SUPPORT.getLong(data, 24) != hash) {
+            LOGGER.finer(() -> "Stale bytecode cache " + cacheFile);
+            return null;
+        }
+        try {
+            byte[] payload = new byte[data.length - HEADER_SIZE];
+            System.arraycopy(data, HEADER_SIZE, payload, 0, payload.length);
+            CodeUnit code = MarshalModuleBuiltins.deserializeCodeUnit(payload);
+            LOGGER.finer(() -> "Loaded " + source.getPath() + " from bytecode cache " + cacheFile);
+            return code;
+        } catch (PException e) {
+            LOGGER.log(Level.FINE, "Cannot read bytecode cache " + cacheFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the code unit to the cache file unless writing bytecode is disabled. The file is
+     * written to a temporary file first and then atomically moved to its final location, so
+     * concurrent processes never observe partially written cache files.
+     */
+    @TruffleBoundary
+    public void store(CodeUnit code) {
+        if (context.getOption(PythonOptions.DontWriteBytecodeFlag)) {
+            return;
+        }
+        TruffleFile tmpFile = null;
+        try {
+            byte[] payload = MarshalModuleBuiltins.serializeCodeUnit(code);
+            byte[] header = new byte[HEADER_SIZE];
+            SUPPORT.putInt(header, 0, MAGIC);
+            SUPPORT.putInt(header, 4, flags);
+            SUPPORT.putLong(header, 8, mtime);
+            SUPPORT.putLong(header, 16, source.getCharacters().length());
+            SUPPORT.putLong(header, 24, hash);
+            TruffleFile cacheDir = cacheFile.getParent();
+            cacheDir.createDirectories();
+            tmpFile = cacheDir.resolve(cacheFile.getName() + "." + PThread.getThreadId(Thread.currentThread()) + "." + Long.toHexString(System.nanoTime()) + ".tmp");
+            try (OutputStream out = tmpFile.newOutputStream(StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                out.write(header);
+                out.write(payload);
+            }
+            tmpFile.move(cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmpFile = null;
+            LOGGER.finer(() -> "Wrote bytecode cache " + cacheFile);
+        } catch (IOException | SecurityException | UnsupportedOperationException | InvalidPathException | PException e) {
+            LOGGER.log(Level.FINE, "Cannot write bytecode cache " + cacheFile, e);
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    tmpFile.delete();
+                } catch (IOException | SecurityException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+}
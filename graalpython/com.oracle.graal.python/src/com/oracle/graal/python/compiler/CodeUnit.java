@@ -353,6 +353,8 @@ public final class CodeUnit {
                         }
                         break;
                     case LOAD_FAST:
+                    case LOAD_FAST_LOAD_FAST:
+                    case LOAD_FAST_LOAD_ATTR:
                     case STORE_FAST:
                     case DELETE_FAST:
                         line[5] = varnames[oparg].toJavaStringUncached();
@@ -233,7 +233,9 @@ public final class CompilationUnit {
                 }
                 addExceptionRange(finishedExceptionHandlerRanges, start, end, handlerBci, stackLevel);
             }
-            for (Instruction i : b.instr) {
+            boolean fusedWithPrevious = false;
+            for (int j = 0; j < b.instr.size(); j++) {
+                Instruction i = b.instr.get(j);
                 if (i.quickenOutput != 0 || i.quickeningGeneralizeList != null) {
                     quickenedInstructions.add(i);
                 }
@@ -242,8 +244,13 @@ public final class CompilationUnit {
                 } else if (i.opcode == OpCodes.LOAD_FAST) {
                     boxingMetric[i.arg] += i.quickenOutput != 0 ? quickenMetricWeight : -quickenMetricWeight;
                 }
+                OpCodes superinstruction = null;
+                if (!fusedWithPrevious && j + 1 < b.instr.size()) {
+                    superinstruction = selectSuperinstruction(i, b.instr.get(j + 1));
+                }
+                fusedWithPrevious = superinstruction != null;
                 i.bci = buf.size();
-                emitBytecode(i, buf, sourceMapBuilder);
+                emitBytecode(i, superinstruction, buf, sourceMapBuilder);
             }
             b.endBci = buf.size();
             b = b.next;
@@ -431,8 +438,29 @@ public final class CompilationUnit {
         } while (repeat);
     }
 
-    private static void emitBytecode(Instruction instr, ByteArrayOutputStream buf, SourceMap.Builder sourceMapBuilder) throws IllegalStateException {
-        OpCodes opcode = instr.opcode;
+    /**
+     * Selects a superinstruction that replaces the opcode of {@code instr} if it can be fused with
+     * the instruction {@code next} that immediately follows it in the same block. The second
+     * instruction is not a jump target, because it is not the first instruction of a block. It must
+     * be on the same line, so that line tracing and instrumentation don't miss a statement while
+     * the interpreter skips over it, and it must not have extended args, so that its operand is
+     * directly after its opcode. The fusion is restricted to loads whose output is not quickened,
+     * the unboxed loads are handled by the quickened {@code LOAD_FAST} variants.
+     */
+    private static OpCodes selectSuperinstruction(Instruction instr, Instruction next) {
+        if (instr.opcode != OpCodes.LOAD_FAST || instr.quickenOutput != 0 || next.extensions() != 0 || next.location.startLine != instr.location.startLine) {
+            return null;
+        }
+        if (next.opcode == OpCodes.LOAD_ATTR) {
+            return OpCodes.LOAD_FAST_LOAD_ATTR;
+        } else if (next.opcode == OpCodes.LOAD_FAST && next.quickenOutput == 0) {
+            return OpCodes.LOAD_FAST_LOAD_FAST;
+        }
+        return null;
+    }
+
+    private static void emitBytecode(Instruction instr, OpCodes superinstruction, ByteArrayOutputStream buf, SourceMap.Builder sourceMapBuilder) throws IllegalStateException {
+        OpCodes opcode = superinstruction != null ? superinstruction : instr.opcode;
         // Pre-quicken constant loads
         if (opcode == OpCodes.LOAD_BYTE) {
             opcode = (instr.quickenOutput & QuickeningTypes.INT) != 0 ? OpCodes.LOAD_BYTE_I : OpCodes.LOAD_BYTE_O;
@@ -206,7 +206,7 @@ import com.oracle.truffle.api.strings.TruffleString;
  * Compiler for bytecode interpreter.
  */
 public class Compiler implements SSTreeVisitor<Void> {
-    public static final int BYTECODE_VERSION = 29;
+    public static final int BYTECODE_VERSION = 30;
 
     private final ErrorCallback errorCallback;
 
@@ -786,6 +786,28 @@ public enum OpCodes {
      */
     EXIT_AWITH(0, 2, 0),
 
+    /*
+     * Superinstructions. They are emitted by the compiler in place of the opcode of the first
+     * instruction of a pair, the second instruction stays in the bytecode unchanged, so the layout,
+     * jump offsets, exception ranges and source map are the same as for the unfused sequence. The
+     * interpreter executes both instructions at once and skips over the second one, but still
+     * reports the second one to the trace function when tracing is active.
+     */
+    /**
+     * {@code LOAD_FAST} immediately followed by another {@code LOAD_FAST} on the same line. The
+     * immediate operand is the index of the first variable.
+     *
+     * Pushes: the first variable (the second {@code LOAD_FAST} pushes the second variable)
+     */
+    LOAD_FAST_LOAD_FAST(1, 0, 1),
+    /**
+     * {@code LOAD_FAST} immediately followed by {@code LOAD_ATTR} on the same line. The immediate
+     * operand is the index of the variable.
+     *
+     * Pushes: the variable (the {@code LOAD_ATTR} replaces it with the attribute)
+     */
+    LOAD_FAST_LOAD_ATTR(1, 0, 1),
+
     /*
      * Quickened bytecodes
      */
@@ -316,6 +316,10 @@ public abstract class ErrorMessages {
     public static final TruffleString FILE_OR_STREAM_IS_NOT_SEEKABLE = tsLiteral("File or stream is not seekable.");
     public static final TruffleString FILE_OR_STREAM_IS_NOT_WRITABLE = tsLiteral("File or stream is not writable.");
     public static final TruffleString FILE_DESCRIPTOR_OUT_OF_RANGE_IN_SELECT = tsLiteral("filedescriptor out of range in select()");
+    public static final TruffleString CONCURRENT_POLL_INVOCATION = tsLiteral("concurrent poll() invocation");
+    public static final TruffleString IO_OPERATION_ON_CLOSED_EPOLL = tsLiteral("I/O operation on closed epoll object");
+    public static final TruffleString MAXEVENTS_MUST_BE_GREATER_THAN_ZERO = tsLiteral("maxevents must be greater than 0, got %d");
+    public static final TruffleString NEGATIVE_SIZEHINT = tsLiteral("negative sizehint");
     public static final TruffleString FILL_CHAR_MUST_BE_LENGTH_1 = tsLiteral("The fill character must be exactly one character long");
     public static final TruffleString FILL_CHAR_MUST_BE_UNICODE_CHAR_NOT_P = tsLiteral("The fill character must be a unicode character, not %p");
     public static final TruffleString FILTER_SPEC_MUST_BE_DICT = tsLiteral("Filter specifier must be a dict or dict-like object");
@@ -556,6 +560,7 @@ public abstract class ErrorMessages {
     public static final TruffleString NOT_ENOUGH_VALUES_TO_UNPACK_EX = tsLiteral("not enough values to unpack (expected at least %d, got %d)");
     public static final TruffleString NOT_SUPPORTED_BETWEEN_INSTANCES = tsLiteral("'%s' not supported between instances of '%p' and '%p'");
     public static final TruffleString NUMBER_IS_REQUIRED = tsLiteral("a number is required");
+    public static final TruffleString NUMBER_OF_FRAMES_MUST_BE_IN_RANGE = tsLiteral("the number of frames must be in range [1; %d]");
     public static final TruffleString NUMBER_S_CANNOT_FIT_INTO_INDEXSIZED_INT = tsLiteral("number %s cannot fit into index-sized integer");
     public static final TruffleString OBJ_INDEX_MUST_BE_INT_OR_SLICES = tsLiteral("%s indices must be integers or slices, not %p");
     public static final TruffleString OBJ_CANNOT_BE_INTERPRETED_AS_INTEGER = tsLiteral("'%p' object cannot be interpreted as an int");
@@ -667,6 +672,7 @@ public abstract class ErrorMessages {
     public static final TruffleString SIGNED_SHORT_INT_LESS_THAN_MIN = tsLiteral("signed short integer is less than minimum");
     public static final TruffleString SINGLE_RBRACE_ENCOUNTERED_IN_FORMAT_STRING = tsLiteral("Single '}' encountered in format string");
     public static final TruffleString SIZE_MUST_BE_D_OR_S = tsLiteral("size must be %d or %s");
+    public static final TruffleString SIZE_NOT_VALID_D_BYTES = tsLiteral("size not valid: %d bytes");
     public static final TruffleString SLICE_INDICES_MUST_BE_INT_NONE_HAVE_INDEX = tsLiteral("slice indices must be integers or None or have an __index__ method");
     public static final TruffleString SLICE_STEP_CANNOT_BE_ZERO = tsLiteral("slice step cannot be zero");
     public static final TruffleString SPEC_PARENT_MUST_BE_A_STRING = tsLiteral("__spec__.parent must be a string");
@@ -966,6 +972,9 @@ public abstract class ErrorMessages {
     public static final TruffleString EXPECTING_COLON_DELIMITER = tsLiteral("Expecting ':' delimiter");
     public static final TruffleString EXPECTING_COMMA_DELIMITER = tsLiteral("Expecting ',' delimiter");
     public static final TruffleString EXPECTING_VALUE = tsLiteral("Expecting value");
+    public static final TruffleString EXTRA_DATA = tsLiteral("Extra data");
+    public static final TruffleString READ_RETURNED_NOT_STR = tsLiteral("file.read() returned not str but %p");
+    public static final TruffleString CHUNK_SIZE_MUST_BE_POSITIVE = tsLiteral("chunk_size must be positive");
     public static final TruffleString IOR_IS_NOT_SUPPORTED_BY_P_USE_INSTEAD = tsLiteral("'|=' is not supported by %p; use '|' instead");
     public static final TruffleString ZIP_ARG_D_IS_LONGER_THEN_ARG_SD = tsLiteral("zip() argument %d is longer than argument%s%d");
     public static final TruffleString ZIP_ARG_D_IS_SHORTER_THEN_ARG_SD = tsLiteral("zip() argument %d is shorter than argument%s%d");
@@ -976,6 +985,7 @@ public abstract class ErrorMessages {
     public static final TruffleString CASTING_A_NATIVE_INT_OBJECT_IS_NOT_IMPLEMENTED_YET = tsLiteral("casting a native int object is not implemented yet");
     public static final TruffleString PUTTING_NON_MODULE_OBJECTS_IN_SYS_MODULES_IS_NOT_SUPPORTED = tsLiteral("Putting non-module objects in sys.modules is not supported");
     public static final TruffleString GETTING_POLYGLOT_STORAGE_FOR_NATIVE_STORAGE_NOT_IMPLEMENTED = tsLiteral("Getting polyglot storage for native storage not implemented");
+    public static final TruffleString EXPECTED_JAVA_PRIMITIVE_ARRAY_NOT_P = tsLiteral("expected a Java int[], long[], double[] or boolean[] array, not %p");
 
     // SSL errors
     public static final TruffleString SSL_SESSION_CLOSED = tsLiteral("SSL/TLS session closed cleanly.");
@@ -1033,6 +1043,11 @@ public abstract class ErrorMessages {
     public static final TruffleString MMAP_S_IS_GREATER_THAN_FILE_SIZE = tsLiteral("mmap %s is greater than file size");
     public static final TruffleString TOO_MANY_REMAINING_BYTES_TO_BE_STORED = tsLiteral("There are too many remaining bytes to be stored in a bytes object.");
     public static final TruffleString MMAP_CANNOT_MODIFY_READONLY_MEMORY = tsLiteral("mmap can't modify a readonly memory map.");
+    public static final TruffleString MMAP_CLOSED_OR_INVALID = tsLiteral("mmap closed or invalid");
+    public static final TruffleString MMAP_CANNOT_CLOSE_EXPORTED_POINTERS_EXIST = tsLiteral("cannot close exported pointers exist");
+    public static final TruffleString MMAP_LENGTH_NOT_MULTIPLE_OF_ITEM_SIZE = tsLiteral("mmap length not a multiple of item size");
+    public static final TruffleString MMAP_TOO_LARGE_FOR_ARRAY = tsLiteral("mmap is too large for an array");
+    public static final TruffleString MMAP_POINTER_NOT_AVAILABLE = tsLiteral("the memory of an mmap object is not accessible with the %s posix backend");
     public static final TruffleString DATA_OUT_OF_RANGE = tsLiteral("data out of range");
 
     // zlib errors
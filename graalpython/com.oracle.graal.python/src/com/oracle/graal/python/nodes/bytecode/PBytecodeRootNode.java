@@ -1508,6 +1508,45 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
                         break;
                     }
+                    case OpCodesConstants.LOAD_FAST_LOAD_FAST: {
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        int fusedBci = bci;
+                        bytecodeLoadFastInSuperinstruction(virtualFrame, localFrame, ++stackTop, localBC, fusedBci, bci, oparg, localNodes, hasUnboxedLocals);
+                        bci += 2;
+                        if (isTracingEnabled(tracingOrProfilingEnabled)) {
+                            // trace the second instruction as if it was dispatched on its own
+                            final int stackDiff = traceLine(virtualFrame, mutableData, localBC, bci);
+                            if (stackDiff <= 0) {
+                                CompilerDirectives.transferToInterpreterAndInvalidate();
+                                bci = mutableData.getJumpBci();
+                                stackTop += stackDiff;
+                                oparg = 0;
+                                continue;
+                            }
+                        }
+                        int secondIndex = Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadFastInSuperinstruction(virtualFrame, localFrame, ++stackTop, localBC, fusedBci, bci++, secondIndex, localNodes, hasUnboxedLocals);
+                        break;
+                    }
+                    case OpCodesConstants.LOAD_FAST_LOAD_ATTR: {
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadFastInSuperinstruction(virtualFrame, localFrame, ++stackTop, localBC, bci, bci, oparg, localNodes, hasUnboxedLocals);
+                        bci += 2;
+                        if (isTracingEnabled(tracingOrProfilingEnabled)) {
+                            final int stackDiff = traceLine(virtualFrame, mutableData, localBC, bci);
+                            if (stackDiff <= 0) {
+                                CompilerDirectives.transferToInterpreterAndInvalidate();
+                                bci = mutableData.getJumpBci();
+                                stackTop += stackDiff;
+                                oparg = 0;
+                                continue;
+                            }
+                        }
+                        setCurrentBci(virtualFrame, bciSlot, bci);
+                        int nameIndex = Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadAttr(virtualFrame, stackTop, bci++, nameIndex, localNodes, localNames, useCachedNodes);
+                        break;
+                    }
                     case OpCodesConstants.LOAD_FAST_I: {
                         oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
                         bytecodeLoadFastI(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
@@ -3177,6 +3216,11 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             return;
         }
 
+        if (threadState.getProfileFun() instanceof PythonContext.ProfilerHook hook) {
+            invokeProfilerHook(hook, arg, threadState, event);
+            return;
+        }
+
         threadState.profilingStart();
         PFrame pyFrame = mutableData.setPyFrame(ensurePyFrame(virtualFrame));
         Object profileFun = threadState.getProfileFun();
@@ -3201,6 +3245,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     }
 
+    private void invokeProfilerHook(PythonContext.ProfilerHook hook, Object arg, PythonContext.PythonThreadState threadState, PythonContext.ProfileEvent event) {
+        threadState.profilingStart();
+        try {
+            hook.profileEvent(threadState, event, event == PythonContext.ProfileEvent.CALL || event == PythonContext.ProfileEvent.RETURN ? this : arg);
+        } catch (Throwable e) {
+            threadState.setProfileFun(null, PythonLanguage.get(this));
+            throw e;
+        } finally {
+            threadState.profilingStop();
+        }
+    }
+
     @ExplodeLoop
     private void unboxVariables(Frame localFrame) {
         /*
@@ -4511,6 +4567,28 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     }
 
+    /**
+     * Loads a local variable as a part of a superinstruction that starts at {@code fusedBci}. The
+     * superinstructions only handle boxed locals, if the interpreter finds a primitive value in the
+     * frame, the superinstruction is split back into the original instructions, which then get
+     * quickened separately.
+     */
+    @BytecodeInterpreterSwitch
+    private void bytecodeLoadFastInSuperinstruction(VirtualFrame virtualFrame, Frame localFrame, int stackTop, byte[] localBC, int fusedBci, int bci, int index, Node[] localNodes,
+                    boolean hasUnboxedLocals) {
+        if (hasUnboxedLocals || localFrame.isObject(index)) {
+            bytecodeLoadFastO(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
+        } else {
+            splitSuperinstruction(virtualFrame, localFrame, stackTop, localBC, fusedBci, bci, index, localNodes, hasUnboxedLocals);
+        }
+    }
+
+    private void splitSuperinstruction(VirtualFrame virtualFrame, Frame localFrame, int stackTop, byte[] localBC, int fusedBci, int bci, int index, Node[] localNodes, boolean hasUnboxedLocals) {
+        CompilerDirectives.transferToInterpreterAndInvalidate();
+        localBC[fusedBci] = OpCodesConstants.LOAD_FAST;
+        bytecodeLoadFastAdaptive(virtualFrame, localFrame, stackTop, localBC, bci, index, localNodes, hasUnboxedLocals);
+    }
+
     private void generalizeLoadFast(VirtualFrame virtualFrame, Frame localFrame, int stackTop, int bci, int index, Node[] localNodes, boolean hasUnboxedLocals) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeVariableStores(index);
@@ -51,12 +51,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.graalvm.nativeimage.ImageInfo;
 
 import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.Python3Core.SysModuleState;
 import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.function.Signature;
 import com.oracle.graal.python.nodes.PRootNode;
@@ -179,7 +181,16 @@ public class AsyncHandler {
     private final WeakReference<PythonContext> context;
     private final Queue<AsyncAction> rescheduled = new ConcurrentLinkedDeque<>();
     private static final int ASYNC_ACTION_DELAY = 25;
-    private static final int GIL_RELEASE_DELAY = 50;
+    /*
+     * Bounds (in microseconds) for the adaptive GIL release interval. The lower bound corresponds
+     * to CPython's default switch interval, the upper bound to the fixed delay we used before.
+     */
+    private static final long MIN_GIL_RELEASE_DELAY = 5_000;
+    private static final long MAX_GIL_RELEASE_DELAY = 50_000;
+    /* Lower bound (in microseconds) for an interval set via sys.setswitchinterval */
+    private static final long MIN_EXPLICIT_GIL_RELEASE_DELAY = 100;
+    /* The adaptive interval is this multiple of the average GIL hold time */
+    private static final long GIL_HOLD_TIME_FACTOR = 4;
 
     private class AsyncRunnable implements Runnable {
         private final Supplier<AsyncAction> actionSupplier;
@@ -337,17 +348,58 @@ public class AsyncHandler {
         }
     }
 
+    /**
+     * Periodically asks the GIL owner to release the GIL if other threads are waiting for it. The
+     * period is re-computed after every tick: if {@code sys.setswitchinterval} was called, the
+     * requested interval is used as is. Otherwise, the interval adapts to the measured GIL usage.
+     * If nobody is queued on the GIL, we tick with the maximal delay. If there are waiters, the
+     * delay is a multiple of the average hold time, so that mostly I/O-bound threads (which hold
+     * the GIL only briefly) get their turn quickly, while CPU-bound threads competing with each
+     * other are not forced to hand over the GIL more often than necessary.
+     */
     private static class GilReleaseScheduler implements Runnable {
         private final PythonContext ctx;
+        private final ScheduledExecutorService executorService;
         private volatile boolean gilReleaseRequested;
         private Thread lastGilOwner;
 
-        private GilReleaseScheduler(PythonContext ctx) {
+        private GilReleaseScheduler(PythonContext ctx, ScheduledExecutorService executorService) {
             this.ctx = ctx;
+            this.executorService = executorService;
+        }
+
+        void schedule(long delayMicros) {
+            try {
+                executorService.schedule(this, delayMicros, TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                // the async handler was shut down
+            }
+        }
+
+        long computeDelay() {
+            SysModuleState sysModuleState = ctx.getSysModuleState();
+            if (sysModuleState.isSwitchIntervalSet()) {
+                return Math.max(MIN_EXPLICIT_GIL_RELEASE_DELAY, (long) sysModuleState.getSwitchInterval());
+            }
+            if (ctx.getGilQueueLength() == 0) {
+                return MAX_GIL_RELEASE_DELAY;
+            }
+            long averageHoldMicros = ctx.getGilStatistics().getAverageHoldNanos() / 1000;
+            return Math.min(MAX_GIL_RELEASE_DELAY, Math.max(MIN_GIL_RELEASE_DELAY, GIL_HOLD_TIME_FACTOR * averageHoldMicros));
         }
 
         @Override
         public void run() {
+            try {
+                requestGilRelease();
+            } finally {
+                if (executorService != null) {
+                    schedule(computeDelay());
+                }
+            }
+        }
+
+        private void requestGilRelease() {
             if (!ctx.gilHasQueuedThreads()) {
                 // Don't release the gil if nobody is waiting for it
                 return;
@@ -408,9 +460,9 @@ public class AsyncHandler {
         if (ctx == null) {
             return;
         }
-        final Runnable gilReleaseRunnable = new GilReleaseScheduler(ctx);
+        final GilReleaseScheduler gilReleaseRunnable = new GilReleaseScheduler(ctx, executorService);
         if (PythonOptions.AUTOMATIC_ASYNC_ACTIONS) {
-            executorService.scheduleWithFixedDelay(gilReleaseRunnable, GIL_RELEASE_DELAY, GIL_RELEASE_DELAY, TimeUnit.MILLISECONDS);
+            gilReleaseRunnable.schedule(gilReleaseRunnable.computeDelay());
         } else {
             // we will release the gil when polled to do so
             registeredActions.add(new AsyncRunnable(() -> {
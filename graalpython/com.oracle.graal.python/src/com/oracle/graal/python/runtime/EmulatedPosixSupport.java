@@ -65,6 +65,16 @@ import static com.oracle.graal.python.runtime.PosixConstants.EAI_FAMILY;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_NONAME;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_SERVICE;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_SOCKTYPE;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLET;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLONESHOT;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLPRI;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLWRNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_ADD;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_DEL;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_MOD;
 import static com.oracle.graal.python.runtime.PosixConstants.F_OK;
 import static com.oracle.graal.python.runtime.PosixConstants.F_RDLCK;
 import static com.oracle.graal.python.runtime.PosixConstants.F_UNLCK;
@@ -93,6 +103,12 @@ import static com.oracle.graal.python.runtime.PosixConstants.O_SYNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TMPFILE;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TRUNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_WRONLY;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLNVAL;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLPRI;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRNORM;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_EXEC;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_NONE;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_READ;
@@ -172,7 +188,9 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.AlreadyConnectedException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
@@ -247,6 +265,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.UnsupportedPosixFeatu
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.util.FileDeleteShutdownHook;
 import com.oracle.graal.python.util.IPAddressUtil;
+import com.oracle.graal.python.util.IntArrayBuilder;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -537,6 +556,99 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    public Buffer pread(int fd, long length, long offset,
+                    @Bind("$node") Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof ReadableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(channel instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        if (offset < 0) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            return preadFromChannel((SeekableByteChannel) channel, length, offset);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @TruffleBoundary
+    private static Buffer preadFromChannel(SeekableByteChannel channel, long length, long offset) throws IOException {
+        long size = Math.min(Math.min(length, MAX_READ), Math.max(0, channel.size() - offset));
+        ByteBuffer dst = ByteBuffer.allocate((int) size);
+        int readSize;
+        if (channel instanceof FileChannel fileChannel) {
+            readSize = fileChannel.read(dst, offset);
+        } else {
+            synchronized (channel) {
+                long position = channel.position();
+                try {
+                    channel.position(offset);
+                    readSize = channel.read(dst);
+                } finally {
+                    channel.position(position);
+                }
+            }
+        }
+        if (readSize <= 0) {
+            return new Buffer(PythonUtils.EMPTY_BYTE_ARRAY, 0);
+        } else {
+            return new Buffer(dst.array(), readSize);
+        }
+    }
+
+    @ExportMessage
+    public long pwrite(int fd, Buffer data, long offset,
+                    @Bind("$node") Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof WritableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(channel instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        if (offset < 0) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            return pwriteToChannel((SeekableByteChannel) channel, data.getByteBuffer(), offset);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @TruffleBoundary
+    private static int pwriteToChannel(SeekableByteChannel channel, ByteBuffer data, long offset) throws IOException {
+        if (channel instanceof FileChannel fileChannel) {
+            return fileChannel.write(data, offset);
+        }
+        synchronized (channel) {
+            long position = channel.position();
+            try {
+                channel.position(offset);
+                return channel.write(data);
+            } finally {
+                channel.position(position);
+            }
+        }
+    }
+
     @Override
     @ExportMessage
     public int dup(int fd) {
@@ -675,6 +787,258 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    @TruffleBoundary
+    public int[] poll(int[] fds, int[] events, int timeoutMs) throws PosixException {
+        if (!POLLIN.defined) {
+            throw new UnsupportedPosixFeatureException("poll is not available on the current platform");
+        }
+        // poll is emulated with select, only readability and writability can be reported
+        final int readEvents = POLLIN.getValueIfDefined() | POLLPRI.getValueIfDefined() | POLLRDNORM.getValueIfDefined();
+        final int writeEvents = POLLOUT.getValueIfDefined() | POLLWRNORM.getValueIfDefined();
+        int[] revents = new int[fds.length];
+        IntArrayBuilder readfds = new IntArrayBuilder();
+        IntArrayBuilder writefds = new IntArrayBuilder();
+        boolean anyInvalid = false;
+        for (int i = 0; i < fds.length; i++) {
+            if (fds[i] < 0) {
+                continue;
+            }
+            if (getFileChannel(fds[i]) == null) {
+                revents[i] = POLLNVAL.getValueIfDefined();
+                anyInvalid = true;
+                continue;
+            }
+            if ((events[i] & readEvents) != 0) {
+                readfds.add(fds[i]);
+            }
+            if ((events[i] & writeEvents) != 0) {
+                writefds.add(fds[i]);
+            }
+        }
+        Timeval timeout;
+        if (anyInvalid || timeoutMs == 0) {
+            timeout = Timeval.SELECT_TIMEOUT_NOW;
+        } else if (timeoutMs < 0) {
+            timeout = null;
+        } else {
+            timeout = new Timeval(timeoutMs / 1000, (timeoutMs % 1000) * 1000L);
+        }
+        int[] readArr = readfds.toArray();
+        int[] writeArr = writefds.toArray();
+        SelectResult result = select(readArr, writeArr, PythonUtils.EMPTY_INT_ARRAY, timeout);
+        for (int i = 0; i < fds.length; i++) {
+            if (revents[i] == 0) {
+                revents[i] = (isSelected(fds[i], readArr, result.getReadFds()) ? events[i] & readEvents : 0) |
+                                (isSelected(fds[i], writeArr, result.getWriteFds()) ? events[i] & writeEvents : 0);
+            }
+        }
+        return revents;
+    }
+
+    private static boolean isSelected(int fd, int[] fds, boolean[] selected) {
+        for (int i = 0; i < fds.length; i++) {
+            if (fds[i] == fd) {
+                return selected[i];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Emulates an epoll instance with a {@link Selector} that lives as long as the epoll file
+     * descriptor. {@code epoll_ctl} registers, updates and cancels the selection keys, so a wait
+     * only selects. A registered channel has to be non-blocking, sockets in blocking mode emulate
+     * blocking on top of it (see {@link EmulatedSocket#awaitReady}).
+     */
+    private static final class EmulatedEpoll implements Channel {
+        private final Selector selector;
+        // fd -> key of the channel registered under that fd, the key's attachment is the
+        // EpollRegistration
+        private final Map<Integer, SelectionKey> keys = new HashMap<>();
+        // waits use the shared selector and its selected-key set, so they are serialized
+        private final Object waitLock = new Object();
+
+        EmulatedEpoll(Selector selector) {
+            this.selector = selector;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return selector.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            selector.close();
+        }
+    }
+
+    private static final class EpollRegistration {
+        final int fd;
+        // the EPOLL* events requested for the fd, only EPOLLONESHOT is left after a one-shot fd
+        // was reported
+        int events;
+
+        EpollRegistration(int fd, int events) {
+            this.fd = fd;
+            this.events = events;
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int epollCreate() throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("epoll was excluded");
+        }
+        if (!EPOLLIN.defined) {
+            throw new UnsupportedPosixFeatureException("epoll is not available on the current platform");
+        }
+        try {
+            return assignFileDescriptor(new EmulatedEpoll(Selector.open()));
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void epollCtl(int epfd, int op, int fd, int events) throws PosixException {
+        EmulatedEpoll epoll = getEpoll(epfd);
+        synchronized (epoll) {
+            SelectionKey key = epoll.keys.get(fd);
+            if (key != null && !key.isValid()) {
+                // closing the fd dropped its registration
+                epoll.keys.remove(fd);
+                key = null;
+            }
+            try {
+                if (op == EPOLL_CTL_ADD.getValueIfDefined()) {
+                    if (key != null) {
+                        throw posixException(OSErrorEnum.EEXIST);
+                    }
+                    SelectableChannel channel;
+                    try {
+                        channel = getSelectableChannels(new int[]{fd})[0];
+                    } catch (ChannelNotSelectableException e) {
+                        // like epoll on regular files
+                        throw posixException(OSErrorEnum.EPERM);
+                    }
+                    SelectionKey other = channel.keyFor(epoll.selector);
+                    if (other != null && other.isValid()) {
+                        // the same channel is already registered under another fd
+                        throw posixException(OSErrorEnum.EEXIST);
+                    }
+                    if ((events & EPOLLET.getValueIfDefined()) != 0) {
+                        compatibilityIgnored("POSIX emulation layer doesn't support edge-triggered epoll, using level-triggered mode");
+                    }
+                    synchronized (channel.blockingLock()) {
+                        channel.configureBlocking(false);
+                        key = channel.register(epoll.selector, epollEventsToOps(events, channel), new EpollRegistration(fd, events));
+                    }
+                    epoll.keys.put(fd, key);
+                } else if (op == EPOLL_CTL_MOD.getValueIfDefined()) {
+                    if (key == null) {
+                        throw posixException(OSErrorEnum.ENOENT);
+                    }
+                    key.interestOps(epollEventsToOps(events, key.channel()));
+                    ((EpollRegistration) key.attachment()).events = events;
+                } else if (op == EPOLL_CTL_DEL.getValueIfDefined()) {
+                    if (key == null) {
+                        throw posixException(OSErrorEnum.ENOENT);
+                    }
+                    // the channel stays non-blocking, a blocking socket restores its mode on the
+                    // next operation that would block
+                    key.cancel();
+                    epoll.keys.remove(fd);
+                } else {
+                    throw posixException(OSErrorEnum.EINVAL);
+                }
+            } catch (IOException | CancelledKeyException e) {
+                throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+            }
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int epollWait(int epfd, int[] fds, int[] events, int timeoutMs) throws PosixException {
+        EmulatedEpoll epoll = getEpoll(epfd);
+        Selector selector = epoll.selector;
+        synchronized (epoll.waitLock) {
+            try {
+                if (timeoutMs == 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeoutMs < 0 ? 0 : timeoutMs);
+                }
+                int n = 0;
+                synchronized (epoll) {
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        if (n >= fds.length) {
+                            break;
+                        }
+                        if (!key.isValid()) {
+                            // unregistered or closed during the wait
+                            continue;
+                        }
+                        EpollRegistration registration = (EpollRegistration) key.attachment();
+                        int ready = readyOpsToEpollEvents(key.readyOps()) & registration.events;
+                        if (ready == 0) {
+                            continue;
+                        }
+                        if ((registration.events & EPOLLONESHOT.getValueIfDefined()) != 0) {
+                            // disabled until the next EPOLL_CTL_MOD
+                            registration.events = EPOLLONESHOT.getValueIfDefined();
+                            key.interestOps(0);
+                        }
+                        fds[n] = registration.fd;
+                        events[n] = ready;
+                        n++;
+                    }
+                    selector.selectedKeys().clear();
+                }
+                return n;
+            } catch (IOException | ClosedSelectorException e) {
+                throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+            }
+        }
+    }
+
+    private EmulatedEpoll getEpoll(int epfd) throws PosixException {
+        Channel channel = getFileChannel(epfd);
+        if (channel == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(channel instanceof EmulatedEpoll)) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        return (EmulatedEpoll) channel;
+    }
+
+    private static int epollEventsToOps(int events, SelectableChannel channel) {
+        int ops = 0;
+        if ((events & (EPOLLIN.getValueIfDefined() | EPOLLPRI.getValueIfDefined() | EPOLLRDNORM.getValueIfDefined())) != 0) {
+            ops |= SelectionKey.OP_READ | SelectionKey.OP_ACCEPT;
+        }
+        if ((events & (EPOLLOUT.getValueIfDefined() | EPOLLWRNORM.getValueIfDefined())) != 0) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        return ops & channel.validOps();
+    }
+
+    private static int readyOpsToEpollEvents(int readyOps) {
+        int events = 0;
+        if ((readyOps & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0) {
+            events |= EPOLLIN.getValueIfDefined() | EPOLLRDNORM.getValueIfDefined();
+        }
+        if ((readyOps & SelectionKey.OP_WRITE) != 0) {
+            events |= EPOLLOUT.getValueIfDefined() | EPOLLWRNORM.getValueIfDefined();
+        }
+        return events;
+    }
+
     private static boolean[] createSelectedMap(int[] fds, SelectableChannel[] channels, Selector selector, int op) {
         boolean[] result = new boolean[fds.length];
         for (int i = 0; i < channels.length; i++) {
@@ -785,6 +1149,117 @@ public final class EmulatedPosixSupport extends PosixResources {
         return p != newPos ? -1 : p;
     }
 
+    @ExportMessage
+    public long sendfile(int outFd, int inFd, long offset, long count,
+                    @Bind("$node") Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel in = getFileChannel(inFd);
+        Channel out = getFileChannel(outFd);
+        if (!(in instanceof ReadableByteChannel) || !(out instanceof WritableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (offset >= 0 && !(in instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.ESPIPE);
+        }
+        try {
+            return transfer((ReadableByteChannel) in, offset, (WritableByteChannel) out, -1, count);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @ExportMessage
+    public long copyFileRange(int srcFd, long srcOffset, int dstFd, long dstOffset, long count,
+                    @Bind("$node") Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel src = getFileChannel(srcFd);
+        Channel dst = getFileChannel(dstFd);
+        if (!(src instanceof ReadableByteChannel) || !(dst instanceof WritableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        // like the syscall, only regular files are supported
+        if (!(src instanceof SeekableByteChannel) || !(dst instanceof SeekableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            return transfer((ReadableByteChannel) src, srcOffset, (WritableByteChannel) dst, dstOffset, count);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    private static final int TRANSFER_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Copies up to {@code count} bytes between channels. File channels use
+     * {@link FileChannel#transferTo} or {@link FileChannel#transferFrom}, which lets the JDK use
+     * {@code sendfile} or {@code copy_file_range} itself. Other channels go through a single
+     * direct buffer. A negative offset means the current position, which is then advanced. The
+     * callers ensure that channels with a non-negative offset are seekable.
+     */
+    @TruffleBoundary
+    private static long transfer(ReadableByteChannel src, long srcOffset, WritableByteChannel dst, long dstOffset, long count) throws IOException {
+        if (count <= 0) {
+            return 0;
+        }
+        long dstPosition = -1;
+        if (dstOffset >= 0) {
+            dstPosition = ((SeekableByteChannel) dst).position();
+            ((SeekableByteChannel) dst).position(dstOffset);
+        }
+        try {
+            if (src instanceof FileChannel fileChannel) {
+                long position = srcOffset >= 0 ? srcOffset : fileChannel.position();
+                long n = fileChannel.transferTo(position, count, dst);
+                if (srcOffset < 0) {
+                    fileChannel.position(position + n);
+                }
+                return n;
+            }
+            if (dst instanceof FileChannel fileChannel && srcOffset < 0) {
+                long position = fileChannel.position();
+                long n = fileChannel.transferFrom(src, position, count);
+                fileChannel.position(position + n);
+                return n;
+            }
+            long srcPosition = -1;
+            if (srcOffset >= 0) {
+                srcPosition = ((SeekableByteChannel) src).position();
+                ((SeekableByteChannel) src).position(srcOffset);
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(count, TRANSFER_CHUNK_SIZE));
+                int n = src.read(buffer);
+                if (n <= 0) {
+                    return 0;
+                }
+                buffer.flip();
+                int written = dst.write(buffer);
+                if (written < n && srcOffset < 0 && src instanceof SeekableByteChannel seekable) {
+                    // give the bytes that were not written back to the source
+                    seekable.position(seekable.position() - (n - written));
+                }
+                return written;
+            } finally {
+                if (srcPosition >= 0) {
+                    ((SeekableByteChannel) src).position(srcPosition);
+                }
+            }
+        } finally {
+            if (dstPosition >= 0) {
+                ((SeekableByteChannel) dst).position(dstPosition);
+            }
+        }
+    }
+
     @ExportMessage(name = "ftruncate")
     public void ftruncateMessage(int fd, long length,
                     @Bind("$node") Node inliningTarget,
@@ -2980,7 +3455,16 @@ public final class EmulatedPosixSupport extends PosixResources {
         EmulatedSocket socket = getEmulatedSocket(sockfd);
         EmulatedSocket c = null;
         try {
-            c = socket.accept();
+            while (true) {
+                try {
+                    c = socket.accept();
+                    break;
+                } catch (OperationWouldBlockException e) {
+                    if (!socket.awaitReady(SelectionKey.OP_ACCEPT)) {
+                        throw e;
+                    }
+                }
+            }
             EmulatedUniversalSockAddrImpl addr = EmulatedUniversalSockAddrImpl.fromSocketAddress(socket.family, c.getPeerName());
             int fd = assignFileDescriptor(c);
             c = null;
@@ -3094,7 +3578,15 @@ public final class EmulatedPosixSupport extends PosixResources {
         EmulatedSocket socket = getEmulatedSocket(sockfd);
         ByteBuffer bb = ByteBuffer.wrap(buf, offset, len);
         try {
-            return socket.send(bb, flags);
+            while (true) {
+                try {
+                    return socket.send(bb, flags);
+                } catch (OperationWouldBlockException e) {
+                    if (len == 0 || !socket.awaitReady(SelectionKey.OP_WRITE)) {
+                        throw e;
+                    }
+                }
+            }
         } catch (Exception e) {
             throw posixException(e, TruffleString.EqualNode.getUncached());
         }
@@ -3113,7 +3605,15 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
         ByteBuffer bb = ByteBuffer.wrap(buf, offset, len);
         try {
-            return socket.sendto(bb, flags, usa.socketAddress);
+            while (true) {
+                try {
+                    return socket.sendto(bb, flags, usa.socketAddress);
+                } catch (OperationWouldBlockException e) {
+                    if (len == 0 || !socket.awaitReady(SelectionKey.OP_WRITE)) {
+                        throw e;
+                    }
+                }
+            }
         } catch (Exception e) {
             throw posixException(e, TruffleString.EqualNode.getUncached());
         }
@@ -3128,7 +3628,15 @@ public final class EmulatedPosixSupport extends PosixResources {
         EmulatedSocket socket = getEmulatedSocket(sockfd);
         ByteBuffer bb = ByteBuffer.wrap(buf, offset, len);
         try {
-            return socket.recv(bb, flags);
+            while (true) {
+                try {
+                    return socket.recv(bb, flags);
+                } catch (OperationWouldBlockException e) {
+                    if (len == 0 || !socket.awaitReady(SelectionKey.OP_READ)) {
+                        throw e;
+                    }
+                }
+            }
         } catch (Exception e) {
             throw posixException(e, TruffleString.EqualNode.getUncached());
         }
@@ -3143,8 +3651,16 @@ public final class EmulatedPosixSupport extends PosixResources {
         EmulatedSocket socket = getEmulatedSocket(sockfd);
         ByteBuffer bb = ByteBuffer.wrap(buf, offset, len);
         try {
-            SocketAddress sa = socket.recvfrom(bb, flags);
-            return new RecvfromResult(bb.position(), EmulatedUniversalSockAddrImpl.fromSocketAddress(socket.family, sa));
+            while (true) {
+                try {
+                    SocketAddress sa = socket.recvfrom(bb, flags);
+                    return new RecvfromResult(bb.position(), EmulatedUniversalSockAddrImpl.fromSocketAddress(socket.family, sa));
+                } catch (OperationWouldBlockException e) {
+                    if (len == 0 || !socket.awaitReady(SelectionKey.OP_READ)) {
+                        throw e;
+                    }
+                }
+            }
         } catch (Exception e) {
             throw posixException(e, TruffleString.EqualNode.getUncached());
         }
@@ -3759,13 +4275,57 @@ public final class EmulatedPosixSupport extends PosixResources {
 
         abstract boolean isBlocking();
 
+        /**
+         * Returns the channel backing this socket or {@code null} if it has not been created yet.
+         */
+        abstract SelectableChannel getSelectableChannel();
+
         abstract <T> T getsockopt(SocketOption<T> option) throws IOException;
 
         abstract <T> void setsockopt(SocketOption<T> option, T value) throws IOException;
+
+        /**
+         * Called when an operation would block. A socket in blocking mode can have a non-blocking
+         * channel while the channel is registered with an epoll object, in which case this waits
+         * until the channel is ready for {@code ops} and returns {@code true} so that the
+         * operation is retried. Returns {@code false} if the would-block result is to be reported
+         * to the caller.
+         */
+        final boolean awaitReady(int ops) throws IOException {
+            SelectableChannel channel = getSelectableChannel();
+            if (channel == null || !isBlocking()) {
+                return false;
+            }
+            synchronized (channel.blockingLock()) {
+                if (channel.isBlocking()) {
+                    return false;
+                }
+                if (!channel.isRegistered()) {
+                    // the epoll registration is gone, the channel can block by itself again
+                    channel.configureBlocking(true);
+                    return true;
+                }
+            }
+            try (Selector selector = Selector.open()) {
+                channel.register(selector, ops & channel.validOps());
+                selector.select();
+            }
+            return true;
+        }
+
+        static void applyBlocking(SelectableChannel channel, boolean block) throws IOException {
+            synchronized (channel.blockingLock()) {
+                // a registered channel must stay non-blocking, see awaitReady
+                if (!block || !channel.isRegistered()) {
+                    channel.configureBlocking(block);
+                }
+            }
+        }
     }
 
     private static final class EmulatedDatagramSocket extends EmulatedSocket {
         private final DatagramChannel channel;
+        private boolean blocking = true;
 
         @TruffleBoundary
         EmulatedDatagramSocket(int family, int protocol) throws IOException {
@@ -3881,15 +4441,21 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
 
         @Override
-        void configureBlocking(boolean block) throws IOException {
+        synchronized void configureBlocking(boolean block) throws IOException {
             neverPartOfCompilation();
-            channel.configureBlocking(block);
+            blocking = block;
+            applyBlocking(channel, block);
         }
 
         @Override
-        boolean isBlocking() {
+        synchronized boolean isBlocking() {
             neverPartOfCompilation();
-            return channel.isBlocking();
+            return blocking;
+        }
+
+        @Override
+        SelectableChannel getSelectableChannel() {
+            return channel;
         }
 
         @Override
@@ -3913,10 +4479,11 @@ public final class EmulatedPosixSupport extends PosixResources {
         // 3. clientChannel == null, serverChannel != null - this is a server socket, i.e. listen()
         // has been called
         // The state can change at most once, from 1 to 2 or from 1 to 3.
-        // The fields 'bindAddress', 'blocking' and 'options' are valid only in state 1 to
-        // temporarily store the parameters of bind(), setBlocking() and setsockopt(). Once the
-        // appropriate channel has been created in connect() or listen(), these fields are
-        // meaningless.
+        // The fields 'bindAddress' and 'options' are valid only in state 1 to temporarily store
+        // the parameters of bind() and setsockopt(). Once the appropriate channel has been created
+        // in connect() or listen(), these fields are meaningless. The field 'blocking' holds the
+        // mode set by setBlocking() in all states, the channel itself can be non-blocking while it
+        // is registered with an epoll object.
 
         private SocketChannel clientChannel;
         private ServerSocketChannel serverChannel;
@@ -3943,6 +4510,7 @@ public final class EmulatedPosixSupport extends PosixResources {
         private EmulatedStreamSocket(int family, int protocol, SocketChannel client) {
             super(family, protocol);
             clientChannel = client;
+            blocking = client.isBlocking();
         }
 
         @Override
@@ -4157,25 +4725,23 @@ public final class EmulatedPosixSupport extends PosixResources {
         @Override
         synchronized void configureBlocking(boolean block) throws IOException {
             neverPartOfCompilation();
+            blocking = block;
             if (clientChannel != null) {
-                clientChannel.configureBlocking(block);
+                applyBlocking(clientChannel, block);
             } else if (serverChannel != null) {
-                serverChannel.configureBlocking(block);
-            } else {
-                blocking = block;
+                applyBlocking(serverChannel, block);
             }
         }
 
         @Override
         synchronized boolean isBlocking() {
             neverPartOfCompilation();
-            if (clientChannel != null) {
-                return clientChannel.isBlocking();
-            } else if (serverChannel != null) {
-                return serverChannel.isBlocking();
-            } else {
-                return blocking;
-            }
+            return blocking;
+        }
+
+        @Override
+        synchronized SelectableChannel getSelectableChannel() {
+            return clientChannel != null ? clientChannel : serverChannel;
         }
 
         @Override
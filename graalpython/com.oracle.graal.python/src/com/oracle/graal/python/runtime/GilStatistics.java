@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+/**
+ * Counters describing how the GIL of a {@link PythonContext} is used. All mutating methods are
+ * only ever called by the thread that currently holds the GIL (right after acquiring it or right
+ * before releasing it), so the writes are serialized by the lock itself and plain fields are
+ * sufficient. Readers on other threads (e.g. the GIL release scheduler or
+ * {@code __graalpython__.get_gil_stats}) may observe slightly stale values, which is fine for
+ * statistics.
+ */
+public final class GilStatistics {
+    /**
+     * Number of buckets of the hold time histogram. Bucket {@code i > 0} counts hold times in the
+     * range {@code [2^(i-1), 2^i)} microseconds, bucket {@code 0} counts hold times below one
+     * microsecond and the last bucket collects everything that is even longer.
+     */
+    public static final int HOLD_TIME_BUCKETS = 24;
+
+    /**
+     * Per-thread view on the same counters, stored in the thread state of the owning thread.
+     */
+    public static final class ThreadCounters {
+        private long acquisitions;
+        private long contendedAcquisitions;
+        private long waitNanos;
+        private long holdNanos;
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public long getContendedAcquisitions() {
+            return contendedAcquisitions;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public long getHoldNanos() {
+            return holdNanos;
+        }
+    }
+
+    private long acquisitions;
+    private long contendedAcquisitions;
+    private long waitNanos;
+    private final long[] holdTimeHistogram = new long[HOLD_TIME_BUCKETS];
+
+    /* exponentially weighted moving average of the hold time, read by the release scheduler */
+    private volatile long averageHoldNanos;
+
+    /* set when the GIL is acquired, only valid while the lock is held */
+    private long acquiredAtNanos;
+    private ThreadCounters ownerCounters;
+
+    void onAcquired(ThreadCounters counters, long requestedAtNanos, boolean contended) {
+        long now = System.nanoTime();
+        acquisitions++;
+        if (contended) {
+            contendedAcquisitions++;
+            waitNanos += now - requestedAtNanos;
+        }
+        if (counters != null) {
+            counters.acquisitions++;
+            if (contended) {
+                counters.contendedAcquisitions++;
+                counters.waitNanos += now - requestedAtNanos;
+            }
+        }
+        acquiredAtNanos = now;
+        ownerCounters = counters;
+    }
+
+    /**
+     * Forget the current acquisition, e.g. when the GIL was re-acquired on a path that must not
+     * do any bookkeeping. The subsequent release is then not accounted for.
+     */
+    void onAcquiredUntracked() {
+        acquiredAtNanos = 0;
+        ownerCounters = null;
+    }
+
+    void onReleasing() {
+        long acquiredAt = acquiredAtNanos;
+        if (acquiredAt == 0) {
+            return;
+        }
+        acquiredAtNanos = 0;
+        long hold = System.nanoTime() - acquiredAt;
+        holdTimeHistogram[bucketFor(hold)]++;
+        long avg = averageHoldNanos;
+        averageHoldNanos = avg + ((hold - avg) >> 3);
+        ThreadCounters counters = ownerCounters;
+        if (counters != null) {
+            counters.holdNanos += hold;
+            ownerCounters = null;
+        }
+    }
+
+    static int bucketFor(long holdNanos) {
+        long micros = holdNanos / 1000;
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, HOLD_TIME_BUCKETS - 1);
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    public long getContendedAcquisitions() {
+        return contendedAcquisitions;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    public long getAverageHoldNanos() {
+        return averageHoldNanos;
+    }
+
+    public long[] getHoldTimeHistogram() {
+        return holdTimeHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GIL statistics: %d acquisitions, %d contended, %d ms total wait, %d us average hold", acquisitions, contendedAcquisitions, waitNanos / 1000000, averageHoldNanos / 1000);
+    }
+}
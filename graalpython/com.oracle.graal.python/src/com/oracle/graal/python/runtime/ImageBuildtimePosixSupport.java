@@ -209,6 +209,20 @@ public class ImageBuildtimePosixSupport extends PosixSupport {
         return nativeLib.write(nativePosixSupport, fd, data);
     }
 
+    @ExportMessage
+    final Buffer pread(int fd, long length, long offset,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.pread(nativePosixSupport, fd, length, offset);
+    }
+
+    @ExportMessage
+    final long pwrite(int fd, Buffer data, long offset,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.pwrite(nativePosixSupport, fd, data, offset);
+    }
+
     @ExportMessage
     final int dup(int fd,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -253,6 +267,33 @@ public class ImageBuildtimePosixSupport extends PosixSupport {
         return nativeLib.select(nativePosixSupport, readfds, writefds, errorfds, timeout);
     }
 
+    @ExportMessage
+    final int[] poll(int[] fds, int[] events, int timeoutMs,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.poll(nativePosixSupport, fds, events, timeoutMs);
+    }
+
+    @ExportMessage
+    final int epollCreate(@CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.epollCreate(nativePosixSupport);
+    }
+
+    @ExportMessage
+    final void epollCtl(int epfd, int op, int fd, int events,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        nativeLib.epollCtl(nativePosixSupport, epfd, op, fd, events);
+    }
+
+    @ExportMessage
+    final int epollWait(int epfd, int[] fds, int[] events, int timeoutMs,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.epollWait(nativePosixSupport, epfd, fds, events, timeoutMs);
+    }
+
     @ExportMessage
     final long lseek(int fd, long offset, int how,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -262,6 +303,20 @@ public class ImageBuildtimePosixSupport extends PosixSupport {
         return nativeLib.lseek(nativePosixSupport, fd, offset, how);
     }
 
+    @ExportMessage
+    final long sendfile(int outFd, int inFd, long offset, long count,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.sendfile(nativePosixSupport, outFd, inFd, offset, count);
+    }
+
+    @ExportMessage
+    final long copyFileRange(int srcFd, long srcOffset, int dstFd, long dstOffset, long count,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInImageBuildtime();
+        return nativeLib.copyFileRange(nativePosixSupport, srcFd, srcOffset, dstFd, dstOffset, count);
+    }
+
     @ExportMessage
     final void ftruncate(int fd, long length,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -182,11 +182,19 @@ public final class NFIPosixSupport extends PosixSupport {
         call_close("(sint32):sint32"),
         call_read("(sint32, [sint8], uint64):sint64"),
         call_write("(sint32, [sint8], uint64):sint64"),
+        call_pread("(sint32, [sint8], uint64, sint64):sint64"),
+        call_pwrite("(sint32, [sint8], uint64, sint64):sint64"),
         call_dup("(sint32):sint32"),
         call_dup2("(sint32, sint32, sint32):sint32"),
         call_pipe2("([sint32]):sint32"),
         call_select("(sint32, [sint32], sint32, [sint32], sint32, [sint32], sint32, sint64, sint64, [sint8]):sint32"),
+        call_poll("([sint32], [sint32], [sint32], sint32, sint32):sint32"),
+        call_epoll_create("():sint32"),
+        call_epoll_ctl("(sint32, sint32, sint32, sint32):sint32"),
+        call_epoll_wait("(sint32, [sint32], [sint32], sint32, sint32):sint32"),
         call_lseek("(sint32, sint64, sint32):sint64"),
+        call_sendfile("(sint32, sint32, sint64, uint64):sint64"),
+        call_copy_file_range("(sint32, sint64, sint32, sint64, uint64):sint64"),
         call_ftruncate("(sint32, sint64):sint32"),
         call_truncate("([sint8], sint64):sint32"),
         call_fsync("(sint32):sint32"),
@@ -573,6 +581,28 @@ public final class NFIPosixSupport extends PosixSupport {
         return n;
     }
 
+    @ExportMessage
+    public Buffer pread(int fd, long length, long offset,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        long count = Math.min(length, MAX_READ);
+        Buffer buffer = Buffer.allocate(count);
+        long n = invokeNode.callLong(this, PosixNativeFunction.call_pread, fd, wrap(buffer), count, offset);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return buffer.withLength(n);
+    }
+
+    @ExportMessage
+    public long pwrite(int fd, Buffer data, long offset,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        long n = invokeNode.callLong(this, PosixNativeFunction.call_pwrite, fd, wrap(data), data.length, offset);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return n;
+    }
+
     @ExportMessage
     public int dup(int fd,
                     @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
@@ -651,6 +681,57 @@ public final class NFIPosixSupport extends PosixSupport {
 
     }
 
+    @ExportMessage
+    public int[] poll(int[] fds, int[] events, int timeoutMs,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        int[] revents = new int[fds.length];
+        int result = invokeNode.callInt(this, PosixNativeFunction.call_poll, wrap(fds), wrap(events), wrap(revents), fds.length, timeoutMs);
+        if (result < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return revents;
+    }
+
+    private static final UnsupportedPosixFeatureException NO_EPOLL_EXCEPTION = new UnsupportedPosixFeatureException("epoll is not available on the current platform");
+
+    @ExportMessage
+    public int epollCreate(
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        int epfd = invokeNode.callInt(this, PosixNativeFunction.call_epoll_create);
+        if (epfd < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return epfd;
+    }
+
+    @ExportMessage
+    public void epollCtl(int epfd, int op, int fd, int events,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        if (invokeNode.callInt(this, PosixNativeFunction.call_epoll_ctl, epfd, op, fd, events) < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+    }
+
+    @ExportMessage
+    public int epollWait(int epfd, int[] fds, int[] events, int timeoutMs,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        assert fds.length == events.length && fds.length > 0;
+        int result = invokeNode.callInt(this, PosixNativeFunction.call_epoll_wait, epfd, wrap(fds), wrap(events), fds.length, timeoutMs);
+        if (result < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return result;
+    }
+
     private static boolean[] selectFillInResult(int[] fds, byte[] selected, int selectedOffset) {
         boolean[] res = new boolean[fds.length];
         for (int i = 0; i < fds.length; i++) {
@@ -679,6 +760,26 @@ public final class NFIPosixSupport extends PosixSupport {
         return res;
     }
 
+    @ExportMessage
+    public long sendfile(int outFd, int inFd, long offset, long count,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        long res = invokeNode.callLong(this, PosixNativeFunction.call_sendfile, outFd, inFd, offset, count);
+        if (res < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return res;
+    }
+
+    @ExportMessage
+    public long copyFileRange(int srcFd, long srcOffset, int dstFd, long dstOffset, long count,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        long res = invokeNode.callLong(this, PosixNativeFunction.call_copy_file_range, srcFd, srcOffset, dstFd, dstOffset, count);
+        if (res < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return res;
+    }
+
     @ExportMessage
     public void ftruncate(int fd, long length,
                     @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
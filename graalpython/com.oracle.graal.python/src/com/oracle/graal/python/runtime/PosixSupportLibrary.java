@@ -95,6 +95,16 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract long write(Object receiver, int fd, Buffer data) throws PosixException;
 
+    /**
+     * Reads up to {@code length} bytes at {@code offset} without changing the file position.
+     */
+    public abstract Buffer pread(Object receiver, int fd, long length, long offset) throws PosixException;
+
+    /**
+     * Writes {@code data} at {@code offset} without changing the file position.
+     */
+    public abstract long pwrite(Object receiver, int fd, Buffer data, long offset) throws PosixException;
+
     public abstract int dup(Object receiver, int fd) throws PosixException;
 
     public abstract int dup2(Object receiver, int fd, int fd2, boolean inheritable) throws PosixException;
@@ -107,8 +117,58 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract SelectResult select(Object receiver, int[] readfds, int[] writefds, int[] errorfds, Timeval timeout) throws PosixException;
 
+    /**
+     * Waits for events on the given file descriptors like {@code poll(2)}.
+     *
+     * @param events the requested events for each fd (a combination of {@code POLL*} constants)
+     * @param timeoutMs timeout in milliseconds, negative for no timeout
+     * @return the returned events for each fd, {@code 0} if the fd is not ready
+     */
+    public abstract int[] poll(Object receiver, int[] fds, int[] events, int timeoutMs) throws PosixException;
+
+    /**
+     * Creates a new non-inheritable epoll instance and returns its file descriptor.
+     */
+    public abstract int epollCreate(Object receiver) throws PosixException;
+
+    /**
+     * Adds, modifies or removes the registration of {@code fd} in the epoll instance {@code epfd}.
+     *
+     * @param op one of {@code EPOLL_CTL_ADD}, {@code EPOLL_CTL_MOD} and {@code EPOLL_CTL_DEL}
+     * @param events a combination of {@code EPOLL*} constants, ignored for
+     *            {@code EPOLL_CTL_DEL}
+     */
+    public abstract void epollCtl(Object receiver, int epfd, int op, int fd, int events) throws PosixException;
+
+    /**
+     * Waits for events on the epoll instance {@code epfd}. The ready file descriptors and their
+     * events are stored in {@code fds} and {@code events}, at most {@code fds.length} of them.
+     *
+     * @param timeoutMs timeout in milliseconds, negative for no timeout
+     * @return the number of ready file descriptors
+     */
+    public abstract int epollWait(Object receiver, int epfd, int[] fds, int[] events, int timeoutMs) throws PosixException;
+
     public abstract long lseek(Object receiver, int fd, long offset, int how) throws PosixException;
 
+    /**
+     * Copies up to {@code count} bytes from {@code inFd} to {@code outFd} without passing them
+     * through a Java buffer, like {@code sendfile(2)}.
+     *
+     * @param offset the position in {@code inFd} to read from, or a negative value to read from
+     *            the current file position and advance it
+     * @return the number of bytes written, {@code 0} at the end of the input file
+     */
+    public abstract long sendfile(Object receiver, int outFd, int inFd, long offset, long count) throws PosixException;
+
+    /**
+     * Copies up to {@code count} bytes between two files like {@code copy_file_range(2)}. Negative
+     * offsets mean that the current file position is used and advanced.
+     *
+     * @return the number of bytes copied, {@code 0} at the end of the source file
+     */
+    public abstract long copyFileRange(Object receiver, int srcFd, long srcOffset, int dstFd, long dstOffset, long count) throws PosixException;
+
     public abstract void ftruncate(Object receiver, int fd, long length) throws PosixException;
 
     public abstract void truncate(Object receiver, Object path, long length) throws PosixException;
@@ -275,6 +275,21 @@ public final class PythonContext extends Python3Core {
         }
     }
 
+    /**
+     * A profile function implemented in Java, like a profile function installed with
+     * {@code PyEval_SetProfile} in CPython. If the profile function of a thread implements this
+     * interface, the bytecode interpreter calls it directly instead of calling it as a Python
+     * function, which avoids materializing the frame and its locals for every event.
+     */
+    public interface ProfilerHook {
+        /**
+         * @param code the {@link com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode} for
+         *            {@link ProfileEvent#CALL} and {@link ProfileEvent#RETURN}, the called builtin
+         *            function or method otherwise.
+         */
+        void profileEvent(PythonThreadState threadState, ProfileEvent event, Object code);
+    }
+
     /**
      * A class to store thread-local data mostly like CPython's {@code PyThreadState}.
      */
@@ -335,6 +350,12 @@ public final class PythonContext extends Python3Core {
         /* The global profiling function, set by sys.setprofile and returned by sys.getprofile. */
         Object profileFun;
 
+        /*
+         * Set while tracemalloc builds objects from its own traces, so that they are not traced.
+         * Corresponds to 'tracemalloc_reentrant_key' in CPython.
+         */
+        boolean tracemallocSuspended;
+
         /*
          * the current contextvars.Context for the thread.
          */
@@ -355,6 +376,9 @@ public final class PythonContext extends Python3Core {
          */
         public int recursionDepth;
 
+        /* GIL usage counters of this thread, only updated while holding the GIL */
+        final GilStatistics.ThreadCounters gilCounters = new GilStatistics.ThreadCounters();
+
         /*
          * The constructor needs to have this particular signature such that we can use it for
          * ContextThreadLocal.
@@ -585,6 +609,19 @@ public final class PythonContext extends Python3Core {
             this.profiling = false;
         }
 
+        public boolean isTracemallocSuspended() {
+            return tracemallocSuspended;
+        }
+
+        /**
+         * Suspends or resumes tracemalloc for this thread and returns the previous setting.
+         */
+        public boolean setTracemallocSuspended(boolean suspended) {
+            boolean prev = tracemallocSuspended;
+            tracemallocSuspended = suspended;
+            return prev;
+        }
+
         public Object getAsyncgenFirstIter() {
             return asyncgenFirstIter;
         }
@@ -752,6 +789,8 @@ public final class PythonContext extends Python3Core {
     }
 
     private final GlobalInterpreterLock globalInterpreterLock = new GlobalInterpreterLock();
+    private final GilStatistics gilStatistics = new GilStatistics();
+    private final TracemallocState tracemallocState = new TracemallocState();
 
     /*
      * Used to avoid triggering more async handlers from an async handler. We run those only on the
@@ -966,7 +1005,10 @@ public final class PythonContext extends Python3Core {
 
         /**
          * Maps the two fake file descriptors created in {@link #pipe()} to one
-         * {@link LinkedBlockingQueue}
+         * {@link LinkedBlockingQueue}. The queued messages are either a {@code byte[]}, or a
+         * {@code MessageWithBuffers} holding the data and its out-of-band buffers. Since all contexts
+         * share the heap, the arrays are passed on by reference and must not be modified once
+         * they were added.
          */
         private final ConcurrentSkipListMap<Integer, LinkedBlockingQueue<Object>> pipeData = new ConcurrentSkipListMap<>();
 
@@ -1031,7 +1073,7 @@ public final class PythonContext extends Python3Core {
          * one or no queue registered for a given fd.
          */
         @TruffleBoundary
-        public void addPipeData(int fd, byte[] bytes, Runnable noFDHandler, Runnable brokenPipeHandler) {
+        public void addPipeData(int fd, Object message, Runnable noFDHandler, Runnable brokenPipeHandler) {
             assert isWriteFD(fd);
             LinkedBlockingQueue<Object> q = pipeData.get(fd);
             if (q == null) {
@@ -1045,7 +1087,7 @@ public final class PythonContext extends Python3Core {
                 brokenPipeHandler.run();
                 throw CompilerDirectives.shouldNotReachHere();
             }
-            q.add(bytes);
+            q.add(message);
         }
 
         /**
@@ -2030,6 +2072,7 @@ public final class PythonContext extends Python3Core {
             }
             // shut down async actions threads
             handler.shutdown();
+            LOGGER.fine(() -> gilStatistics.toString());
             finalizing = true;
             // interrupt and join or kill python threads
             joinThreads();
@@ -2295,6 +2338,7 @@ public final class PythonContext extends Python3Core {
     public void ensureGilAfterFailure() {
         if (!ownsGil()) {
             globalInterpreterLock.lock();
+            gilStatistics.onAcquiredUntracked();
         }
     }
 
@@ -2321,6 +2365,38 @@ public final class PythonContext extends Python3Core {
         return globalInterpreterLock.hasQueuedThreads();
     }
 
+    /**
+     * Should not be used outside of {@link AsyncHandler}
+     */
+    int getGilQueueLength() {
+        return globalInterpreterLock.getQueueLength();
+    }
+
+    public GilStatistics getGilStatistics() {
+        return gilStatistics;
+    }
+
+    public TracemallocState getTracemallocState() {
+        return tracemallocState;
+    }
+
+    /**
+     * Returns the GIL counters of all currently attached threads.
+     */
+    @TruffleBoundary
+    public synchronized Map<Thread, GilStatistics.ThreadCounters> getGilThreadCounters() {
+        Map<Thread, GilStatistics.ThreadCounters> result = new HashMap<>();
+        for (Map.Entry<Thread, PythonThreadState> entry : threadStateMapping.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().gilCounters);
+        }
+        return result;
+    }
+
+    private GilStatistics.ThreadCounters currentGilCounters() {
+        PythonThreadState ts = getLanguage().getThreadStateLocal().get();
+        return ts != null ? ts.gilCounters : null;
+    }
+
     /**
      * Should not be called directly.
      *
@@ -2330,7 +2406,11 @@ public final class PythonContext extends Python3Core {
     boolean tryAcquireGil() {
         try {
             // Using tryLock with empty timeout to ensure fairness
-            return globalInterpreterLock.tryLock(0, TimeUnit.SECONDS);
+            if (globalInterpreterLock.tryLock(0, TimeUnit.SECONDS)) {
+                gilStatistics.onAcquired(currentGilCounters(), 0, false);
+                return true;
+            }
+            return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return false;
@@ -2346,7 +2426,10 @@ public final class PythonContext extends Python3Core {
     void acquireGil() throws InterruptedException {
         assert !ownsGil() : dumpStackOnAssertionHelper("trying to acquire the GIL more than once");
         boolean wasInterrupted = Thread.interrupted();
+        boolean contended = globalInterpreterLock.isLocked();
+        long requestedAt = contended ? System.nanoTime() : 0;
         globalInterpreterLock.lockInterruptibly();
+        gilStatistics.onAcquired(currentGilCounters(), requestedAt, contended);
         if (wasInterrupted) {
             Thread.currentThread().interrupt();
         }
@@ -2365,6 +2448,7 @@ public final class PythonContext extends Python3Core {
     @TruffleBoundary
     void releaseGil() {
         assert globalInterpreterLock.getHoldCount() == 1 : dumpStackOnAssertionHelper("trying to release the GIL with invalid hold count " + globalInterpreterLock.getHoldCount());
+        gilStatistics.onReleasing();
         globalInterpreterLock.unlock();
     }
 
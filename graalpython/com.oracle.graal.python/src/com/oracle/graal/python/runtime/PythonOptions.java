@@ -181,6 +181,15 @@ public final class PythonOptions {
                     "Equivalent to setting the PYTHONPYCACHEPREFIX environment variable for the standard launcher.", usageSyntax = "<path>", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> PyCachePrefix = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
 
+    @Option(category = OptionCategory.EXPERT, help = "Cache the compiled bytecode of source files that are evaluated directly (e.g., the main script or files passed to Context.eval) " +
+                    "in __pycache__ directories or below PyCachePrefix, like the import system does with .pyc files. Cache files are only written if DontWriteBytecodeFlag is false.", //
+                    usageSyntax = "true|false") //
+    public static final OptionKey<Boolean> PersistentBytecodeCache = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, help = "Minimum number of elements for list.sort() to sort on multiple cores. This applies to lists of ints, floats or strings, " +
+                    "and to sorts whose keys are all of one of these types. The GIL is released during such sorts. 0 disables parallel sorting.", usageSyntax = "<elements>") //
+    public static final OptionKey<Integer> ParallelSortThreshold = new OptionKey<>(0);
+
     @Option(category = OptionCategory.USER, help = "Equivalent to setting the PYTHONWARNINGS environment variable for the standard launcher.", //
                     usageSyntax = "<action>[:<message>[:<category>[:<module>[:<line>]]]][,<action>[:<message>[:<category>[:<module>[:<line>]]]]]", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> WarnOptions = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
@@ -364,6 +373,18 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, usageSyntax = "<bytes>", help = "Initial native memory heap size that triggers a GC (default: 256 MB).") //
     public static final OptionKey<Long> InitialNativeMemory = new OptionKey<>(1L << 28);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<allocations>", help = "While tracemalloc is tracing, record only every n-th object allocation and scale its size by n. " +
+                    "Larger intervals reduce the overhead of tracing (default: 1).") //
+    public static final OptionKey<Integer> TracemallocSampleInterval = new OptionKey<>(1);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Let cProfile use the CPU sampler and report estimated call counts and times " +
+                    "instead of recording every call exactly.") //
+    public static final OptionKey<Boolean> CProfileSampling = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<bytes>", help = "Stack size of threads started with the threading module when threading.stack_size() was not set. " +
+                    "Unlike sizes passed to threading.stack_size(), the value is used as is. Smaller stacks let programs run more threads (default: 0, which uses the default stack size of the JVM).") //
+    public static final OptionKey<Long> ThreadStackSize = new OptionKey<>(0L);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Use the experimental panama backend for NFI.", stability = OptionStability.EXPERIMENTAL) //
     public static final OptionKey<Boolean> UsePanama = new OptionKey<>(false);
 
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.bytecode.FrameInfo;
+import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.ArrayBasedSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.frame.FrameInstanceVisitor;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Allocation tracing state of the {@code _tracemalloc} module of a {@link PythonContext}.
+ * <p>
+ * Allocations are reported by {@link com.oracle.graal.python.runtime.object.PythonObjectFactory}
+ * once {@link com.oracle.graal.python.PythonLanguage#noTracemallocAssumption} was invalidated.
+ * Only every {@link PythonOptions#TracemallocSampleInterval n-th} allocation is recorded and its
+ * size is scaled by the interval, so the totals are estimates of the real numbers. The Java heap
+ * does not tell us the size of an object, so sizes are estimated from the object header and, for
+ * lists, tuples and bytes-like objects, the capacity of their storage.
+ * <p>
+ * Recorded objects are held by weak references and their traces disappear once the objects are
+ * collected. Allocations that share the same traceback share one {@link Site} which holds the
+ * counters of that site, so the memory needed per recorded object is a single weak reference.
+ */
+public final class TracemallocState {
+    /** Like {@code MAX_NFRAME} in CPython's {@code _tracemalloc.c}. */
+    public static final int MAX_NFRAME = 65535;
+
+    /* rough size of an object header with a shape and a few fields */
+    private static final long OBJECT_SIZE_ESTIMATE = 32;
+
+    /* rough size of the bookkeeping per recorded object and per site */
+    private static final long TRACE_OVERHEAD = 48;
+    private static final long SITE_OVERHEAD = 64;
+
+    /**
+     * An allocation site, i.e., the traceback of an allocation. The frames are ordered from the
+     * most recent to the oldest one, as {@code _tracemalloc._get_traces} returns them.
+     */
+    public static final class Site {
+        private final TruffleString[] filenames;
+        private final int[] linenos;
+        private final int totalFrames;
+        private final int hash;
+        private long count;
+        private long size;
+
+        Site(TruffleString[] filenames, int[] linenos, int totalFrames) {
+            this.filenames = filenames;
+            this.linenos = linenos;
+            this.totalFrames = totalFrames;
+            this.hash = 31 * (31 * Arrays.hashCode(filenames) + Arrays.hashCode(linenos)) + totalFrames;
+        }
+
+        public int getFrameCount() {
+            return filenames.length;
+        }
+
+        public TruffleString getFilename(int i) {
+            return filenames[i];
+        }
+
+        public int getLineno(int i) {
+            return linenos[i];
+        }
+
+        public int getTotalFrames() {
+            return totalFrames;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Site other)) {
+                return false;
+            }
+            return hash == other.hash && totalFrames == other.totalFrames && Arrays.equals(linenos, other.linenos) && Arrays.equals(filenames, other.filenames);
+        }
+    }
+
+    /** A recorded object. Traces with the same identity hash code are chained. */
+    public static final class Trace extends WeakReference<Object> {
+        private final Site site;
+        private final long size;
+        private final int identityHash;
+        private Trace next;
+
+        Trace(Object referent, ReferenceQueue<Object> queue, Site site, long size) {
+            super(referent, queue);
+            this.site = site;
+            this.size = size;
+            this.identityHash = System.identityHashCode(referent);
+        }
+
+        public Site getSite() {
+            return site;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    private volatile boolean tracing;
+    private int maxFrames = 1;
+    private int sampleInterval = 1;
+    private int untilSample = 1;
+
+    private ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final HashMap<Site, Site> sites = new HashMap<>();
+    private final HashMap<Integer, Trace> traces = new HashMap<>();
+    private long traceCount;
+    private long tracedMemory;
+    private long peakTracedMemory;
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public int getTracebackLimit() {
+        return maxFrames;
+    }
+
+    @TruffleBoundary
+    public synchronized void start(int nframe, int interval) {
+        assert 1 <= nframe && nframe <= MAX_NFRAME;
+        maxFrames = nframe;
+        sampleInterval = Math.max(interval, 1);
+        untilSample = sampleInterval;
+        tracing = true;
+    }
+
+    @TruffleBoundary
+    public synchronized void stop() {
+        tracing = false;
+        clear();
+    }
+
+    /**
+     * Counts down to the next allocation that should be recorded. This is called for every
+     * allocation while tracing, so it does not synchronize; a lost update just shifts the sample.
+     */
+    public boolean sample() {
+        if (--untilSample > 0) {
+            return false;
+        }
+        untilSample = sampleInterval;
+        return true;
+    }
+
+    @TruffleBoundary
+    public synchronized void record(Object object) {
+        if (!tracing) {
+            return;
+        }
+        processQueue();
+        Site site = captureSite();
+        Site existing = sites.putIfAbsent(site, site);
+        if (existing != null) {
+            site = existing;
+        }
+        long size = estimateSize(object) * sampleInterval;
+        Trace trace = new Trace(object, queue, site, size);
+        trace.next = traces.put(trace.identityHash, trace);
+        site.count++;
+        site.size += size;
+        traceCount++;
+        tracedMemory += size;
+        if (tracedMemory > peakTracedMemory) {
+            peakTracedMemory = tracedMemory;
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized void clear() {
+        sites.clear();
+        traces.clear();
+        // traces of the old queue are unreachable now, so we must not process them any more
+        queue = new ReferenceQueue<>();
+        traceCount = 0;
+        tracedMemory = 0;
+        peakTracedMemory = 0;
+    }
+
+    @TruffleBoundary
+    public synchronized long getTracedMemory() {
+        processQueue();
+        return tracedMemory;
+    }
+
+    @TruffleBoundary
+    public synchronized long getPeakTracedMemory() {
+        processQueue();
+        return peakTracedMemory;
+    }
+
+    @TruffleBoundary
+    public synchronized void resetPeak() {
+        processQueue();
+        peakTracedMemory = tracedMemory;
+    }
+
+    /** Estimate of the memory used to store the traces, like {@code get_tracemalloc_memory}. */
+    @TruffleBoundary
+    public synchronized long getTracemallocMemory() {
+        processQueue();
+        return traceCount * TRACE_OVERHEAD + sites.size() * SITE_OVERHEAD;
+    }
+
+    /** Returns the traces of all recorded objects that are still alive. */
+    @TruffleBoundary
+    public synchronized Trace[] getTraces() {
+        processQueue();
+        ArrayList<Trace> result = new ArrayList<>((int) traceCount);
+        for (Trace head : traces.values()) {
+            for (Trace trace = head; trace != null; trace = trace.next) {
+                if (!trace.refersTo(null)) {
+                    result.add(trace);
+                }
+            }
+        }
+        return result.toArray(new Trace[0]);
+    }
+
+    @TruffleBoundary
+    public synchronized Site getObjectSite(Object object) {
+        for (Trace trace = traces.get(System.identityHashCode(object)); trace != null; trace = trace.next) {
+            if (trace.refersTo(object)) {
+                return trace.site;
+            }
+        }
+        return null;
+    }
+
+    private void processQueue() {
+        Reference<?> ref;
+        while ((ref = queue.poll()) != null) {
+            remove((Trace) ref);
+        }
+    }
+
+    private void remove(Trace trace) {
+        Trace head = traces.get(trace.identityHash);
+        if (head == trace) {
+            if (trace.next == null) {
+                traces.remove(trace.identityHash);
+            } else {
+                traces.put(trace.identityHash, trace.next);
+            }
+        } else {
+            Trace prev = head;
+            while (prev != null && prev.next != trace) {
+                prev = prev.next;
+            }
+            if (prev == null) {
+                // not in the table anymore
+                return;
+            }
+            prev.next = trace.next;
+        }
+        Site site = trace.site;
+        site.count--;
+        site.size -= trace.size;
+        if (site.count == 0) {
+            sites.remove(site);
+        }
+        traceCount--;
+        tracedMemory -= trace.size;
+    }
+
+    private Site captureSite() {
+        int limit = maxFrames;
+        TruffleString[] filenames = new TruffleString[limit];
+        int[] linenos = new int[limit];
+        int[] total = new int[1];
+        Truffle.getRuntime().iterateFrames((FrameInstanceVisitor<Object>) frameInstance -> {
+            Frame frame = frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY);
+            if (frame != null && frame.getFrameDescriptor().getInfo() instanceof FrameInfo frameInfo) {
+                int i = total[0]++;
+                if (i < limit) {
+                    PBytecodeRootNode rootNode = frameInfo.getRootNode();
+                    int bci = frameInfo.getBci(frame);
+                    filenames[i] = PCode.extractFileName(rootNode);
+                    linenos[i] = bci >= 0 ? rootNode.bciToLine(bci) : rootNode.getFirstLineno();
+                }
+            }
+            return null;
+        });
+        int n = Math.min(total[0], limit);
+        if (n < limit) {
+            return new Site(Arrays.copyOf(filenames, n), Arrays.copyOf(linenos, n), total[0]);
+        }
+        return new Site(filenames, linenos, total[0]);
+    }
+
+    private static long estimateSize(Object object) {
+        long size = OBJECT_SIZE_ESTIMATE;
+        if (object instanceof PList || object instanceof PTuple || object instanceof PBytesLike) {
+            SequenceStorage storage = ((PSequence) object).getSequenceStorage();
+            if (storage instanceof ArrayBasedSequenceStorage) {
+                long itemSize;
+                if (storage instanceof ByteSequenceStorage || storage instanceof BoolSequenceStorage) {
+                    itemSize = 1;
+                } else if (storage instanceof IntSequenceStorage) {
+                    itemSize = Integer.BYTES;
+                } else {
+                    itemSize = Long.BYTES;
+                }
+                size += storage.getCapacity() * itemSize;
+            }
+        }
+        return size;
+    }
+}
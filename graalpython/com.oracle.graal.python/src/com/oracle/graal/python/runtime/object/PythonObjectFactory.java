@@ -72,6 +72,7 @@ import com.oracle.graal.python.builtins.modules.io.PTextIO;
 import com.oracle.graal.python.builtins.modules.json.PJSONEncoder;
 import com.oracle.graal.python.builtins.modules.json.PJSONEncoder.FastEncode;
 import com.oracle.graal.python.builtins.modules.json.PJSONScanner;
+import com.oracle.graal.python.builtins.modules.json.PJSONStreamScanner;
 import com.oracle.graal.python.builtins.modules.lzma.LZMAObject;
 import com.oracle.graal.python.builtins.modules.multiprocessing.PGraalPySemLock;
 import com.oracle.graal.python.builtins.modules.multiprocessing.PSemLock;
@@ -190,6 +191,8 @@ import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
 import com.oracle.graal.python.builtins.objects.reversed.PSequenceReverseIterator;
 import com.oracle.graal.python.builtins.objects.reversed.PStringReverseIterator;
+import com.oracle.graal.python.builtins.objects.select.PEpoll;
+import com.oracle.graal.python.builtins.objects.select.PPoll;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
@@ -231,6 +234,7 @@ import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.TracemallocState;
 import com.oracle.graal.python.runtime.object.PythonObjectFactoryNodeGen.LazyNodeGen;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
@@ -318,6 +322,9 @@ public abstract class PythonObjectFactory extends Node {
         if (reporter.isActive()) {
             doTraceImpl(o, size, reporter);
         }
+        if (!PythonLanguage.get(null).noTracemallocAssumption.isValid()) {
+            doTracemalloc(o);
+        }
         return null;
     }
 
@@ -327,6 +334,15 @@ public abstract class PythonObjectFactory extends Node {
         reporter.onReturnValue(o, 0, size);
     }
 
+    @InliningCutoff
+    private static void doTracemalloc(Object o) {
+        PythonContext context = PythonContext.get(null);
+        TracemallocState state = context.getTracemallocState();
+        if (state.isTracing() && !context.getThreadState(PythonLanguage.get(null)).isTracemallocSuspended() && state.sample()) {
+            state.record(o);
+        }
+    }
+
     @NeverDefault
     protected AllocationReporter getAllocationReporter() {
         return PythonContext.get(this).getAllocationReporter();
@@ -1284,6 +1300,14 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PMMap(clazz, getShape(clazz), context, mmapHandle, fd, length, access));
     }
 
+    public final PPoll createPoll() {
+        return trace(new PPoll(PythonBuiltinClassType.PPoll, getShape(PythonBuiltinClassType.PPoll)));
+    }
+
+    public final PEpoll createEpoll(Object clazz, PythonContext context, int epfd) {
+        return trace(new PEpoll(clazz, getShape(clazz), context, epfd));
+    }
+
     public final BZ2Object.BZ2Compressor createBZ2Compressor(Object clazz) {
         return trace(BZ2Object.createCompressor(clazz, getShape(clazz)));
     }
@@ -1534,6 +1558,11 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PJSONEncoder(clazz, getShape(clazz), markers, defaultFn, encoder, indent, keySeparator, itemSeparator, sortKeys, skipKeys, allowNan, fastEncode));
     }
 
+    @TruffleBoundary
+    public final PJSONStreamScanner createJSONStreamScanner(Object scanOnce, Object read, boolean array, int chunkSize) {
+        return trace(new PJSONStreamScanner(PythonBuiltinClassType.JSONStreamScanner, getShape(PythonBuiltinClassType.JSONStreamScanner), scanOnce, read, array, chunkSize));
+    }
+
     public final PDeque createDeque() {
         return trace(new PDeque(PythonBuiltinClassType.PDeque, getShape(PythonBuiltinClassType.PDeque)));
     }
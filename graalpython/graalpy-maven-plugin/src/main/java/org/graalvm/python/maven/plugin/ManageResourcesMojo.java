@@ -97,6 +97,9 @@ public class ManageResourcesMojo extends AbstractMojo {
     @Parameter
     PythonHome pythonHome;
 
+    @Parameter(defaultValue = "false")
+    boolean packResources;
+
     @Parameter(defaultValue = "${session}", readonly = true, required = true)
     private MavenSession session;
 
@@ -165,7 +168,7 @@ public class ManageResourcesMojo extends AbstractMojo {
 
         Path homeDirectory;
         if(pythonResourcesDirectory == null) {
-            homeDirectory = Path.of(project.getBuild().getOutputDirectory(), VFS_ROOT, VFS_HOME);
+            homeDirectory = getGeneratedVFSRoot().resolve(VFS_HOME);
         } else {
             homeDirectory = Path.of(pythonResourcesDirectory, VFS_HOME);
         }
@@ -187,9 +190,50 @@ public class ManageResourcesMojo extends AbstractMojo {
         return new ArrayList<>(0);
     }
 
+    /**
+     * The directory in which the home and venv are generated when no python resources directory is
+     * configured. Without packing they go directly to the output directory. With packing they are
+     * kept outside of it so that only the archive gets into the jar, while the venv can still be
+     * reused across builds.
+     */
+    private Path getGeneratedVFSRoot() {
+        if (packResources) {
+            return Path.of(project.getBuild().getDirectory(), "graalpy-vfs", VFS_ROOT);
+        }
+        return Path.of(project.getBuild().getOutputDirectory(), VFS_ROOT);
+    }
+
     private void listGraalPyResources() throws MojoExecutionException {
         Path vfs = Path.of(project.getBuild().getOutputDirectory(), VFS_ROOT);
-        if (Files.exists(vfs)) {
+        if (packResources) {
+            List<Path> roots = new ArrayList<>();
+            if (Files.exists(vfs)) {
+                roots.add(vfs);
+            }
+            Path generated = getGeneratedVFSRoot();
+            if (!generated.equals(vfs) && Files.exists(generated)) {
+                roots.add(generated);
+            }
+            if (roots.isEmpty()) {
+                return;
+            }
+            Path pack = vfs.resolve(VFSUtils.VFS_PACK);
+            try {
+                VFSUtils.generateVFSPack(pack, roots);
+            } catch (IOException e) {
+                throw new MojoExecutionException(String.format("Failed to generate resources archive in '%s'", vfs.toString()), e);
+            }
+            // the archive holds all resources, keeping the loose files would package them twice
+            try (var s = Files.walk(vfs)) {
+                for (Path p : s.sorted(Comparator.reverseOrder()).toList()) {
+                    if (!p.equals(pack) && !p.equals(vfs)) {
+                        Files.delete(p);
+                    }
+                }
+            } catch (IOException e) {
+                throw new MojoExecutionException(String.format("Failed to delete packed resources in '%s'", vfs.toString()), e);
+            }
+        } else if (Files.exists(vfs)) {
             try {
                 VFSUtils.generateVFSFilesList(vfs);
             } catch (IOException e) {
@@ -201,7 +245,7 @@ public class ManageResourcesMojo extends AbstractMojo {
     private void manageVenv() throws MojoExecutionException {
         Path venvDirectory;
         if(pythonResourcesDirectory == null) {
-            venvDirectory = Path.of(project.getBuild().getOutputDirectory(), VFS_ROOT, VFS_VENV);
+            venvDirectory = getGeneratedVFSRoot().resolve(VFS_VENV);
         } else {
             venvDirectory = Path.of(pythonResourcesDirectory, VFS_VENV);
         }
@@ -339,16 +339,6 @@ class Pattern():
     def fullmatch(self, string, pos=0, endpos=maxsize):
         return self._search(string, pos, endpos, method=_METHOD_FULLMATCH)
 
-    def __sanitize_out_type(self, elem):
-        """Helper function for findall and split. Ensures that the type of the elements of the
-           returned list if always either 'str' or 'bytes'."""
-        if self.__binary:
-            return bytes(elem)
-        elif elem is None:
-            return ""
-        else:
-            return str(elem)
-
     @__graalpython__.force_split_direct_calls
     def finditer(self, string, pos=0, endpos=maxsize):
         for must_advance in [False, True]:
@@ -379,23 +369,7 @@ class Pattern():
                 return self.__fallback_compile().findall(string, pos=pos, endpos=endpos)
         _check_pos(pos)
         self.__check_input_type(string)
-        substring, pos, endpos = _normalize_bounds(string, pos, endpos)
-        matchlist = []
-        must_advance = False
-        while pos <= endpos:
-            compiled_regex = tregex_compile(self, _METHOD_SEARCH, must_advance)
-            result = tregex_call_exec(compiled_regex, substring, pos)
-            if not result.isMatch:
-                break
-            elif self.groups == 0:
-                matchlist.append(self.__sanitize_out_type(string[result.getStart(0):result.getEnd(0)]))
-            elif self.groups == 1:
-                matchlist.append(self.__sanitize_out_type(string[result.getStart(1):result.getEnd(1)]))
-            else:
-                matchlist.append(tuple(map(self.__sanitize_out_type, Match(self, pos, endpos, result, string, self.__indexgroup).groups())))
-            pos = result.getEnd(0)
-            must_advance = (result.getStart(0) == result.getEnd(0))
-        return matchlist
+        return tregex_findall(self, string, pos, endpos)
 
     @__graalpython__.force_split_direct_calls
     def sub(self, repl, string, count=0):
@@ -407,78 +381,27 @@ class Pattern():
             if tregex_compile(self, _METHOD_SEARCH, must_advance) is None:
                 return self.__fallback_compile().subn(repl, string, count=count)
         self.__check_input_type(string)
-        n = 0
-        result = []
-        pos = 0
-        literal = False
-        must_advance = False
+        template = None
         if not callable(repl):
             self.__check_input_type(repl)
             if isinstance(repl, str):
                 literal = '\\' not in repl
             else:
                 literal = b'\\' not in repl
-            if not literal:
-                import re
-                repl = re._subx(self, repl)
-                if not callable(repl):
-                    literal = True
-
-        while (count == 0 or n < count) and pos <= len(string):
-            compiled_regex = tregex_compile(self, _METHOD_SEARCH, must_advance)
-            match_result = tregex_call_exec(compiled_regex, string, pos)
-            if not match_result.isMatch:
-                break
-            n += 1
-            start = match_result.getStart(0)
-            end = match_result.getEnd(0)
-            result.append(string[pos:start])
             if literal:
-                result.append(repl)
+                template = ([], [repl])
             else:
-                _srematch = Match(self, pos, -1, match_result, string, self.__indexgroup)
-                _repl = repl(_srematch)
-                if _repl is not None:
-                    result.append(_repl)
-            pos = end
-            must_advance = start == end
-        result.append(string[pos:])
-        if self.__binary:
-            return b"".join(result), n
-        else:
-            return "".join(result), n
+                import re
+                template = re._compile_repl(repl, self)
+        return tregex_subn(self, string, repl, template, count)
 
     @__graalpython__.force_split_direct_calls
     def split(self, string, maxsplit=0):
         for must_advance in [False, True]:
             if tregex_compile(self, _METHOD_SEARCH, must_advance) is None:
                 return self.__fallback_compile().split(string, maxsplit=maxsplit)
-        n = 0
-        result = []
-        collect_pos = 0
-        search_pos = 0
-        must_advance = False
-        while (maxsplit == 0 or n < maxsplit) and search_pos <= len(string):
-            compiled_regex = tregex_compile(self, _METHOD_SEARCH, must_advance)
-            match_result = tregex_call_exec(compiled_regex, string, search_pos)
-            if not match_result.isMatch:
-                break
-            n += 1
-            start = match_result.getStart(0)
-            end = match_result.getEnd(0)
-            result.append(self.__sanitize_out_type(string[collect_pos:start]))
-            # add all group strings
-            for i in range(1, self.groups + 1):
-                groupStart = match_result.getStart(i)
-                if groupStart >= 0:
-                    result.append(self.__sanitize_out_type(string[groupStart:match_result.getEnd(i)]))
-                else:
-                    result.append(None)
-            collect_pos = end
-            search_pos = end
-            must_advance = start == end
-        result.append(self.__sanitize_out_type(string[collect_pos:]))
-        return result
+        self.__check_input_type(string)
+        return tregex_split(self, string, maxsplit)
 
     def scanner(self, string, pos=0, endpos=maxsize):
         # We cannot pass the must_advance parameter to the internal SRE implementation.
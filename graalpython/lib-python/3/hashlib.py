@@ -287,6 +287,17 @@ def file_digest(fileobj, digest, /, *, _bufsize=2**18):
             f"'{fileobj!r}' is not a file-like object in binary reading mode."
         )
 
+    # GraalPy change: hash seekable binary files in Java, reading them with
+    # pread from the file descriptor instead of going through Python I/O
+    if _hashlib is not None and hasattr(_hashlib, "file_digest_fd"):
+        from io import BufferedReader, FileIO
+        if type(fileobj) in (BufferedReader, FileIO) and fileobj.seekable():
+            pos = fileobj.tell()
+            size = _hashlib.file_digest_fd(digestobj, fileobj.fileno(), pos)
+            if size is not None:
+                fileobj.seek(pos + size)
+                return digestobj
+
     # binary file, socket.SocketIO object
     # Note: socket I/O uses different syscalls than file I/O.
     buf = bytearray(_bufsize)  # Reusable buffer to reduce allocations.
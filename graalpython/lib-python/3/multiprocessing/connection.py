@@ -231,6 +231,11 @@ class _ConnectionBase:
         """Send a (picklable) object"""
         self._check_closed()
         self._check_writable()
+        # Begin Truffle change
+        if self._handle < 0 and _default_context._is_graalpy():
+            self._send_mp_obj(obj)
+            return
+        # End Truffle change
         self._send_bytes(_ForkingPickler.dumps(obj))
 
     def recv_bytes(self, maxlength=None):
@@ -275,6 +280,10 @@ class _ConnectionBase:
         """Receive a (picklable) object"""
         self._check_closed()
         self._check_readable()
+        # Begin Truffle change
+        if self._handle < 0 and _default_context._is_graalpy():
+            return self._recv_mp_obj()
+        # End Truffle change
         buf = self._recv_bytes()
         return _ForkingPickler.loads(buf.getbuffer())
 
@@ -412,7 +421,7 @@ class Connection(_ConnectionBase):
     def _send(self, buf, write=_write):
         # Begin Truffle change
         if self._handle < 0 and _default_context._is_graalpy():
-            self._send_mp_write(buf.tobytes())
+            self._send_mp_write(buf)
             return
         # End Truffle change
         remaining = len(buf)
@@ -446,7 +455,7 @@ class Connection(_ConnectionBase):
     def _send_bytes(self, buf):
         # Begin Truffle change
         if self._handle < 0 and _default_context._is_graalpy():
-            self._send_mp_write(buf.tobytes())
+            self._send_mp_write(buf)
             return
         # End Truffle change
         n = len(buf)
@@ -491,11 +500,38 @@ class Connection(_ConnectionBase):
         # the whole byte array at once
         from _multiprocessing_graalpy import _read
         chunk = _read(self._handle, size)
+        if isinstance(chunk, tuple):
+            # the message was sent with out-of-band buffers by send(),
+            # turn it into a regular pickle for the bytes API
+            chunk = _inline_pickle_buffers(*chunk)
         return io.BytesIO(chunk)
 
     def _send_mp_write(self, bytes):
+        # _write accepts any buffer and copies it at most once
         from _multiprocessing_graalpy import _write
         _write(self._handle, bytes)
+
+    def _send_mp_obj(self, obj):
+        # Pickle with protocol 5 and pass the out-of-band buffers next
+        # to the pickle data, so that they are not copied into the stream
+        from _multiprocessing_graalpy import _write
+        buffers = []
+        buf = io.BytesIO()
+        _ForkingPickler(buf, 5, buffer_callback=buffers.append).dump(obj)
+        if buffers:
+            _write(self._handle, buf.getbuffer(), [b.raw() for b in buffers])
+        else:
+            _write(self._handle, buf.getbuffer())
+
+    def _recv_mp_obj(self):
+        from _multiprocessing_graalpy import _read
+        chunk = _read(self._handle, None)
+        if isinstance(chunk, tuple):
+            data, buffers = chunk
+            return _ForkingPickler.loads(data, buffers=buffers)
+        if not chunk:
+            raise EOFError
+        return _ForkingPickler.loads(chunk)
     # End Truffle change
 
     def _poll(self, timeout):
@@ -503,6 +539,31 @@ class Connection(_ConnectionBase):
         return bool(r)
 
 
+# Begin Truffle change
+def _inline_pickle_buffers(data, buffers):
+    # Rewrite a protocol 5 pickle that refers to out-of-band buffers into
+    # one that holds their contents in-band, like a pickle written without
+    # buffer_callback. This works on the opcodes only and does not unpickle
+    # anything. The frames are dropped since their sizes change, they are
+    # optional for the unpickler.
+    import pickle
+    import pickletools
+    buffers = iter(buffers)
+    out = io.BytesIO()
+    for opcode, arg, pos, end in pickletools._genops(data, yield_end_pos=True):
+        if opcode.name == 'FRAME':
+            continue
+        if opcode.name == 'NEXT_BUFFER':
+            buf = next(buffers)
+            out.write(pickle.BYTEARRAY8 if isinstance(buf, bytearray) else pickle.BINBYTES8)
+            out.write(struct.pack("<Q", len(buf)))
+            out.write(buf)
+        else:
+            out.write(data[pos:end])
+    return out.getvalue()
+# End Truffle change
+
+
 #
 # Public functions
 #
@@ -35,10 +35,13 @@ class ForkingPickler(pickle.Pickler):
     _extra_reducers = {}
     _copyreg_dispatch_table = copyreg.dispatch_table
 
-    def __init__(self, *args):
-        super().__init__(*args)
+    # Begin Truffle change
+    # accept keyword arguments, e.g., buffer_callback
+    def __init__(self, *args, **kwargs):
+        super().__init__(*args, **kwargs)
         self.dispatch_table = self._copyreg_dispatch_table.copy()
         self.dispatch_table.update(self._extra_reducers)
+    # End Truffle change
 
     @classmethod
     def register(cls, type, reduce):
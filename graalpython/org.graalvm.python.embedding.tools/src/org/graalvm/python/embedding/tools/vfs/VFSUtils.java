@@ -43,6 +43,8 @@ package org.graalvm.python.embedding.tools.vfs;
 import org.graalvm.python.embedding.tools.exec.GraalPyRunner;
 import org.graalvm.python.embedding.tools.exec.SubprocessLog;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -53,6 +55,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,6 +65,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,6 +77,14 @@ public final class VFSUtils {
     public static final String VFS_HOME = "home";
     public static final String VFS_VENV = "venv";
     public static final String VFS_FILESLIST = "fileslist.txt";
+    public static final String VFS_PACK = "vfs.pack";
+
+    /*
+     * Header of the packed VFS format, must be kept in sync with VirtualFileSystemPack in
+     * org.graalvm.python.embedding.
+     */
+    private static final int VFS_PACK_MAGIC = 0x47505646;
+    private static final int VFS_PACK_VERSION = 1;
 
     public static final String GRAALPY_GROUP_ID = "org.graalvm.python";
 
@@ -122,6 +134,69 @@ public final class VFSUtils {
 
     public static void generateVFSFilesList(Path vfs) throws IOException {
         Path filesList = vfs.resolve(VFS_FILESLIST);
+        String[] a = listVFSEntries(vfs);
+        try (var wr = new FileWriter(filesList.toFile())) {
+            for (String f : a) {
+                wr.write(f);
+                wr.write("\n");
+            }
+        }
+    }
+
+    /**
+     * Packs all files and directories in the given virtual filesystem roots into a single
+     * {@value #VFS_PACK} archive. All roots have to be named {@value #VFS_ROOT}, their contents are
+     * merged. The archive starts with an index sorted by resource path which holds the offset and
+     * size of each file, followed by the file contents. The runtime prefers this archive over the
+     * files list and individual resources when it is present.
+     */
+    public static void generateVFSPack(Path pack, List<Path> vfsRoots) throws IOException {
+        TreeMap<String, Path> index = new TreeMap<>();
+        for (Path vfs : vfsRoots) {
+            Path root = vfs.toAbsolutePath().getParent();
+            for (String f : listVFSEntries(vfs)) {
+                if (f.endsWith("/" + VFS_PACK) || f.endsWith("/" + VFS_FILESLIST)) {
+                    continue;
+                }
+                index.putIfAbsent(f, f.endsWith("/") ? null : root.resolve(f.substring(1)));
+            }
+        }
+        List<String> entries = new ArrayList<>(index.keySet());
+        List<Path> files = new ArrayList<>(index.values());
+        createParentDirectories(pack);
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(pack)))) {
+            out.writeInt(VFS_PACK_MAGIC);
+            out.writeInt(VFS_PACK_VERSION);
+            out.writeInt(entries.size());
+            long offset = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                byte[] name = entries.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+                Path file = files.get(i);
+                if (file == null) {
+                    out.writeLong(-1);
+                    out.writeLong(-1);
+                } else {
+                    long size = Files.size(file);
+                    out.writeLong(offset);
+                    out.writeLong(size);
+                    offset += size;
+                }
+            }
+            for (Path file : files) {
+                if (file != null) {
+                    Files.copy(file, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the sorted resource paths of all files and directories in the given virtual
+     * filesystem root, using '/' as separator and with a trailing '/' for directories.
+     */
+    private static String[] listVFSEntries(Path vfs) throws IOException {
         if (!Files.isDirectory(vfs)) {
             throw new IOException(String.format("'%s' has to exist and be a directory.\n", vfs.toString()));
         }
@@ -140,16 +215,13 @@ public final class VFSUtils {
             });
         }
         String[] a = ret.toArray(new String[ret.size()]);
-        Arrays.sort(a);
-        try (var wr = new FileWriter(filesList.toFile())) {
-            for (String f : a) {
-                if (f.charAt(0) == '\\') {
-                    f = f.replace("\\", "/");
-                }
-                wr.write(f);
-                wr.write("\n");
+        for (int i = 0; i < a.length; i++) {
+            if (a[i].charAt(0) == '\\') {
+                a[i] = a[i].replace("\\", "/");
             }
         }
+        Arrays.sort(a);
+        return a;
     }
 
     private static String makeDirPath(Path p) {
@@ -94,6 +94,11 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
      * to determine directory entries, if an entry is a file or a directory, etc.
      */
     private static final String FILES_LIST_PATH = VFS_ROOT + "/fileslist.txt";
+    /*
+     * Optional single archive with a sorted index and the contents of all files. If present, it is
+     * used instead of the files list and the individual resources.
+     */
+    private static final String PACK_PATH = VFS_ROOT + "/vfs.pack";
     private static final String VENV_PREFIX = VFS_ROOT + "/" + VFS_VENV;
     private static final String HOME_PREFIX = VFS_ROOT + "/" + VFS_HOME;
     // TODO see GR-54915, deprecated and should be removed after 24.2.0
@@ -215,10 +220,16 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     }
 
     /*
-     * Maps platform-specific paths to entries.
+     * Maps platform-specific paths to entries. Not used if entries are looked up in the pack.
      */
     private Map<String, BaseEntry> vfsEntries;
 
+    /*
+     * The packed resources, if available. Unless the filesystem is case-insensitive, entries are
+     * looked up in its sorted index on demand.
+     */
+    private VirtualFileSystemPack pack;
+
     /**
      * Class used to read resources with getResource(name). By default VirtualFileSystem.class.
      */
@@ -248,24 +259,65 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
     private final class FileEntry extends BaseEntry {
         private byte[] data;
+        /*
+         * Index into the packed resources or -1 if this file is read from an individual resource.
+         */
+        private final int packIndex;
 
-        public FileEntry(String path) {
+        public FileEntry(String path, int packIndex) {
             super(path);
+            this.packIndex = packIndex;
         }
 
-        private byte[] getData() throws IOException {
+        /**
+         * Returns a read-only buffer with the file contents. Packed files are not copied.
+         */
+        private ByteBuffer getBuffer() throws IOException {
+            if (packIndex >= 0) {
+                return pack.getBuffer(packIndex);
+            }
             if (data == null) {
                 data = readResource(getResourcePath());
             }
-            return data;
+            return ByteBuffer.wrap(data).asReadOnlyBuffer();
+        }
+
+        private int getSize() throws IOException {
+            if (packIndex >= 0) {
+                return pack.getFileSize(packIndex);
+            }
+            return getBuffer().remaining();
         }
     }
 
     private final class DirEntry extends BaseEntry {
-        List<BaseEntry> entries = new ArrayList<>();
+        private List<BaseEntry> entries;
+        /*
+         * Index into the packed resources or -1 if the entries are added by addEntry.
+         */
+        private final int packIndex;
 
         DirEntry(String platformPath) {
             super(platformPath);
+            this.packIndex = -1;
+            this.entries = new ArrayList<>();
+        }
+
+        DirEntry(String platformPath, int packIndex) {
+            super(platformPath);
+            this.packIndex = packIndex;
+        }
+
+        List<BaseEntry> getEntries() {
+            if (entries == null) {
+                int[] children = pack.getChildren(packIndex);
+                List<BaseEntry> list = new ArrayList<>(children.length);
+                for (int child : children) {
+                    list.add(createPackEntry(child));
+                }
+                entries = list;
+            }
+            return entries;
         }
     }
 
@@ -452,7 +504,28 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     }
 
     private void initEntries() throws IOException {
+        pack = VirtualFileSystemPack.open(this.resourceLoadingClass, PACK_PATH);
+        if (pack != null && !caseInsensitive) {
+            if (extractOnStartup) {
+                for (int i = 0; i < pack.size(); i++) {
+                    if (!pack.isDirectory(i)) {
+                        Path p = Paths.get(resourcePathToPlatformPath(pack.getPath(i)));
+                        if (shouldExtract(p)) {
+                            getExtractedPath(p);
+                        }
+                    }
+                }
+            }
+            return;
+        }
         vfsEntries = new HashMap<>();
+        if (pack != null) {
+            // the index is sorted case-sensitively, so it cannot be searched for other cases
+            for (int i = 0; i < pack.size(); i++) {
+                addEntry(pack.getPath(i), i);
+            }
+            return;
+        }
         try (InputStream stream = this.resourceLoadingClass.getResourceAsStream(FILES_LIST_PATH)) {
             if (stream == null) {
                 return;
@@ -460,34 +533,38 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
             BufferedReader br = new BufferedReader(new InputStreamReader(stream));
             String line;
             while ((line = br.readLine()) != null) {
-                String platformPath = resourcePathToPlatformPath(line);
-                int i = 0;
-                DirEntry parent = null;
-                while ((i = platformPath.indexOf(PLATFORM_SEPARATOR, i)) != -1) {
-                    String dir = platformPath.substring(0, i);
-                    String dirKey = toCaseComparable(dir);
-                    DirEntry dirEntry = (DirEntry) vfsEntries.get(dirKey);
-                    if (dirEntry == null) {
-                        dirEntry = new DirEntry(dir);
-                        vfsEntries.put(dirKey, dirEntry);
-                        if (parent != null) {
-                            parent.entries.add(dirEntry);
-                        }
-                    }
-                    parent = dirEntry;
-                    i++;
+                addEntry(line, -1);
+            }
+        }
+    }
+
+    private void addEntry(String resourcePath, int packIndex) {
+        String platformPath = resourcePathToPlatformPath(resourcePath);
+        int i = 0;
+        DirEntry parent = null;
+        while ((i = platformPath.indexOf(PLATFORM_SEPARATOR, i)) != -1) {
+            String dir = platformPath.substring(0, i);
+            String dirKey = toCaseComparable(dir);
+            DirEntry dirEntry = (DirEntry) vfsEntries.get(dirKey);
+            if (dirEntry == null) {
+                dirEntry = new DirEntry(dir);
+                vfsEntries.put(dirKey, dirEntry);
+                if (parent != null) {
+                    parent.getEntries().add(dirEntry);
                 }
-                assert parent != null;
-                if (!platformPath.endsWith(PLATFORM_SEPARATOR)) {
-                    FileEntry fileEntry = new FileEntry(platformPath);
-                    vfsEntries.put(toCaseComparable(platformPath), fileEntry);
-                    parent.entries.add(fileEntry);
-                    if (extractOnStartup) {
-                        Path p = Paths.get(fileEntry.getPlatformPath());
-                        if (shouldExtract(p)) {
-                            getExtractedPath(p);
-                        }
-                    }
+            }
+            parent = dirEntry;
+            i++;
+        }
+        assert parent != null;
+        if (!platformPath.endsWith(PLATFORM_SEPARATOR)) {
+            FileEntry fileEntry = new FileEntry(platformPath, packIndex);
+            vfsEntries.put(toCaseComparable(platformPath), fileEntry);
+            parent.getEntries().add(fileEntry);
+            if (extractOnStartup) {
+                Path p = Paths.get(fileEntry.getPlatformPath());
+                if (shouldExtract(p)) {
+                    getExtractedPath(p);
                 }
             }
         }
@@ -518,13 +595,44 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     }
 
     private BaseEntry getEntry(Path inputPath) throws IOException {
-        if (vfsEntries == null) {
+        if (vfsEntries == null && pack == null) {
             initEntries();
         }
         Path path = toAbsolutePathInternal(inputPath).normalize();
+        if (vfsEntries == null) {
+            return getPackEntry(path);
+        }
         return vfsEntries.get(toCaseComparable(path.toString()));
     }
 
+    /**
+     * Looks up the given normalized absolute path in the index of the pack.
+     */
+    private BaseEntry getPackEntry(Path path) {
+        String platformPath = path.toString();
+        if (!platformPath.startsWith(mountPoint.toString())) {
+            return null;
+        }
+        String resourcePath = platformPathToResourcePath(platformPath);
+        int index = pack.find(resourcePath);
+        if (index >= 0) {
+            return new FileEntry(platformPath, index);
+        }
+        index = pack.find(resourcePath + RESOURCE_SEPARATOR);
+        if (index >= 0) {
+            return new DirEntry(platformPath, index);
+        }
+        return null;
+    }
+
+    private BaseEntry createPackEntry(int index) {
+        String platformPath = resourcePathToPlatformPath(pack.getPath(index));
+        if (pack.isDirectory(index)) {
+            return new DirEntry(platformPath.substring(0, platformPath.length() - PLATFORM_SEPARATOR.length()), index);
+        }
+        return new FileEntry(platformPath, index);
+    }
+
     /**
      * The mount point for the virtual filesystem.
      *
@@ -579,7 +687,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
                     Files.createDirectories(parent);
 
                     // write data extracted file
-                    Files.write(xPath, fileEntry.getData());
+                    writeFile(xPath, fileEntry.getBuffer());
 
                     if (extractLibsDir) {
                         Path pkgDir = getPythonPackageDir(path);
@@ -620,15 +728,38 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         if (entry instanceof FileEntry) {
             extractPath(path, false);
         } else if (entry != null) {
-            if (((DirEntry) entry).entries != null) {
-                for (BaseEntry be : ((DirEntry) entry).entries) {
-                    extract(Path.of(be.getPlatformPath()));
-                }
+            for (BaseEntry be : ((DirEntry) entry).getEntries()) {
+                extract(Path.of(be.getPlatformPath()));
+            }
+        }
+    }
+
+    private static void writeFile(Path path, ByteBuffer contents) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (contents.hasRemaining()) {
+                channel.write(contents);
             }
         }
     }
 
     void extractResources(Path resourcesDirectory) throws IOException {
+        VirtualFileSystemPack resourcesPack = VirtualFileSystemPack.open(this.resourceLoadingClass, PACK_PATH);
+        if (resourcesPack != null) {
+            for (int i = 0; i < resourcesPack.size(); i++) {
+                String resourcePath = resourcesPack.getPath(i);
+                Path destFile = resourcesDirectory.resolve(Path.of(resourcePath.substring(VFS_ROOT.length() + 1)));
+                if (resourcePath.endsWith(RESOURCE_SEPARATOR)) {
+                    Files.createDirectories(destFile);
+                } else {
+                    Path parent = destFile.getParent();
+                    if (parent != null) {
+                        Files.createDirectories(parent);
+                    }
+                    writeFile(destFile, resourcesPack.getBuffer(i));
+                }
+            }
+            return;
+        }
         InputStream stream = this.resourceLoadingClass.getResourceAsStream(FILES_LIST_PATH);
         if (stream == null) {
             return;
@@ -725,17 +856,18 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
             return new SeekableByteChannel() {
                 long position = 0;
 
-                final byte[] bytes = fileEntry.getData();
+                final ByteBuffer buffer = fileEntry.getBuffer();
+                final int size = buffer.remaining();
 
                 @Override
                 public int read(ByteBuffer dst) throws IOException {
-                    if (position > bytes.length) {
+                    if (position > size) {
                         return -1;
-                    } else if (position == bytes.length) {
+                    } else if (position == size) {
                         return 0;
                     } else {
-                        int length = Math.min(bytes.length - (int) position, dst.remaining());
-                        dst.put(bytes, (int) position, length);
+                        int length = Math.min(size - (int) position, dst.remaining());
+                        dst.put(buffer.duplicate().position((int) position).limit((int) position + length));
                         position += length;
                         if (dst.hasRemaining()) {
                             position++;
@@ -762,7 +894,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
                 @Override
                 public long size() throws IOException {
-                    return bytes.length;
+                    return size;
                 }
 
                 @Override
@@ -802,7 +934,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
                 @Override
                 public Iterator<Path> iterator() {
-                    return dirEntry.entries.stream().map(e -> Path.of(e.getPlatformPath())).iterator();
+                    return dirEntry.getEntries().stream().map(e -> Path.of(e.getPlatformPath())).iterator();
                 }
             };
         } else {
@@ -856,7 +988,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         attrs.put("isDirectory", entry instanceof DirEntry);
         attrs.put("isSymbolicLink", false);
         attrs.put("isOther", false);
-        attrs.put("size", (long) (entry instanceof FileEntry fileEntry ? fileEntry.getData().length : 0));
+        attrs.put("size", (long) (entry instanceof FileEntry fileEntry ? fileEntry.getSize() : 0));
         attrs.put("mode", 0555);
         attrs.put("dev", 0L);
         attrs.put("nlink", 1);
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.graalvm.python.embedding.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+/**
+ * Read-only view of a packed virtual filesystem archive as produced by
+ * {@code org.graalvm.python.embedding.tools.vfs.VFSUtils#generateVFSPack}. The archive consists of
+ * an index sorted by resource path followed by the contents of all files. Archives found on the
+ * real filesystem are memory mapped. An archive inside a jar is extracted once to a cache
+ * directory, keyed by the jar file and the archive's checksum, and later runs map the cached copy.
+ * The archive contents are never held on the Java heap. A loaded archive is shared by all
+ * {@link VirtualFileSystem} instances that resolve the same resource, and entries are looked up by
+ * binary search in the index.
+ */
+final class VirtualFileSystemPack {
+    private static final int MAGIC = 0x47505646;
+    private static final int VERSION = 1;
+
+    private static final ConcurrentHashMap<String, VirtualFileSystemPack> CACHE = new ConcurrentHashMap<>();
+
+    /*
+     * Resource paths, sorted. Directory paths end with a '/'.
+     */
+    private final String[] paths;
+    private final long[] offsets;
+    private final long[] sizes;
+    private final ByteBuffer data;
+
+    private VirtualFileSystemPack(String[] paths, long[] offsets, long[] sizes, ByteBuffer data) {
+        this.paths = paths;
+        this.offsets = offsets;
+        this.sizes = sizes;
+        this.data = data;
+    }
+
+    /**
+     * Returns the archive for the given resource or {@code null} if there is no such resource.
+     */
+    static VirtualFileSystemPack open(Class<?> resourceLoadingClass, String resourcePath) throws IOException {
+        URL url = resourceLoadingClass.getResource(resourcePath);
+        if (url == null) {
+            return null;
+        }
+        try {
+            return CACHE.computeIfAbsent(url.toExternalForm(), (key) -> {
+                try {
+                    return load(url);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static VirtualFileSystemPack load(URL url) throws IOException {
+        ByteBuffer buffer;
+        if ("file".equals(url.getProtocol())) {
+            buffer = map(toPath(url), url);
+        } else {
+            buffer = mapExtracted(url);
+        }
+        try {
+            return parse(buffer);
+        } catch (RuntimeException e) {
+            throw new IOException(String.format("malformed virtual filesystem archive '%s'", url), e);
+        }
+    }
+
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * An archive inside a jar cannot be mapped, and reading it onto the heap would keep all
+     * resources there for the lifetime of the process. It is extracted to a cache directory
+     * instead, under a name derived from the jar file, its modification time and the checksum and
+     * size of the archive entry, so that it is extracted only once and not on every start.
+     */
+    private static ByteBuffer mapExtracted(URL url) throws IOException {
+        Path cacheDir = getCacheDirectory();
+        String key = cacheDir != null ? getCacheKey(url) : null;
+        if (key == null) {
+            return mapTemporaryCopy(url);
+        }
+        Path cached = cacheDir.resolve("vfs-" + key + ".pack");
+        if (!Files.isRegularFile(cached)) {
+            Path tempFile = Files.createTempFile(cacheDir, "vfs-", ".tmp");
+            try {
+                try (InputStream stream = url.openStream()) {
+                    Files.copy(stream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                try {
+                    Files.move(tempFile, cached, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, cached, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    // another process extracted the same archive concurrently
+                    if (!Files.isRegularFile(cached)) {
+                        throw e;
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        return map(cached, url);
+    }
+
+    /**
+     * Returns a per-user directory for extracted archives, or {@code null} if there is no such
+     * directory that is owned by the current user.
+     */
+    private static Path getCacheDirectory() {
+        try {
+            Path dir = Path.of(System.getProperty("java.io.tmpdir"), "graalpy-vfs-" + System.getProperty("user.name"));
+            if (!Files.isDirectory(dir)) {
+                if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                    Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+                } else {
+                    Files.createDirectories(dir);
+                }
+            }
+            // do not use archives that somebody else could have put there
+            if (!Files.getOwner(dir).getName().equals(System.getProperty("user.name"))) {
+                return null;
+            }
+            return dir;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static String getCacheKey(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection jarConnection) || !"file".equals(jarConnection.getJarFileURL().getProtocol())) {
+            return null;
+        }
+        JarEntry entry = jarConnection.getJarEntry();
+        if (entry == null || entry.getCrc() == -1 || entry.getSize() == -1) {
+            return null;
+        }
+        Path jar = toPath(jarConnection.getJarFileURL()).toAbsolutePath();
+        String key = String.format("%s|%d|%s|%d|%d", jar, Files.getLastModifiedTime(jar).toMillis(), entry.getName(), entry.getCrc(), entry.getSize());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Maps a private copy of the archive that is deleted right away. Used when the archive cannot
+     * be cached.
+     */
+    private static ByteBuffer mapTemporaryCopy(URL url) throws IOException {
+        Path tempFile = Files.createTempFile("graalpy-vfs", ".pack");
+        try {
+            try (InputStream stream = url.openStream()) {
+                Files.copy(stream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return map(tempFile, url);
+        } finally {
+            // the mapping stays valid after the file is deleted on POSIX systems, elsewhere
+            // the file is removed when the VM exits
+            try {
+                Files.delete(tempFile);
+            } catch (IOException e) {
+                tempFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private static ByteBuffer map(Path path, URL url) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(String.format("virtual filesystem archive '%s' is too large", url));
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static VirtualFileSystemPack parse(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("unsupported virtual filesystem archive format");
+        }
+        int count = buffer.getInt();
+        String[] paths = new String[count];
+        long[] offsets = new long[count];
+        long[] sizes = new long[count];
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            paths[i] = new String(name, StandardCharsets.UTF_8);
+            offsets[i] = buffer.getLong();
+            sizes[i] = buffer.getLong();
+        }
+        ByteBuffer data = buffer.slice().asReadOnlyBuffer();
+        return new VirtualFileSystemPack(paths, offsets, sizes, data);
+    }
+
+    int size() {
+        return paths.length;
+    }
+
+    String getPath(int index) {
+        return paths[index];
+    }
+
+    boolean isDirectory(int index) {
+        return sizes[index] < 0;
+    }
+
+    /**
+     * Returns the index of the given resource path, or -1 if there is no such entry. Directory
+     * paths have to end with a '/'.
+     */
+    int find(String path) {
+        int index = Arrays.binarySearch(paths, path);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Returns the indices of the entries directly contained in the directory at the given index.
+     * Since the paths are sorted, the contents of a directory directly follow it, and the contents
+     * of each subdirectory are skipped with a binary search.
+     */
+    int[] getChildren(int dirIndex) {
+        assert isDirectory(dirIndex) : "not a directory";
+        String dir = paths[dirIndex];
+        int[] children = new int[8];
+        int count = 0;
+        int i = dirIndex + 1;
+        while (i < paths.length && paths[i].startsWith(dir)) {
+            if (count == children.length) {
+                children = Arrays.copyOf(children, count * 2);
+            }
+            children[count++] = i;
+            i = isDirectory(i) ? getSubtreeEnd(i) : i + 1;
+        }
+        return Arrays.copyOf(children, count);
+    }
+
+    private int getSubtreeEnd(int dirIndex) {
+        String dir = paths[dirIndex];
+        // the first path after all paths starting with dir, since dir ends with a '/'
+        String bound = dir.substring(0, dir.length() - 1) + (char) ('/' + 1);
+        int index = Arrays.binarySearch(paths, dirIndex + 1, paths.length, bound);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int getFileSize(int index) {
+        assert sizes[index] >= 0 : "not a file";
+        return (int) sizes[index];
+    }
+
+    /**
+     * Returns a read-only buffer with the contents of the file at the given index without copying
+     * them.
+     */
+    ByteBuffer getBuffer(int index) {
+        int offset = (int) offsets[index];
+        return data.duplicate().position(offset).limit(offset + getFileSize(index)).slice();
+    }
+}
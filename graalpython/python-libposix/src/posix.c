@@ -55,6 +55,7 @@
 #include <fcntl.h>
 #include <netdb.h>
 #include <netinet/in.h>
+#include <poll.h>
 #include <semaphore.h>
 #include <signal.h>
 #include <stddef.h>
@@ -87,6 +88,16 @@
 #include <sys/resource.h>
 #endif
 
+#ifdef __linux__
+#include <sys/epoll.h>
+#include <sys/sendfile.h>
+#include <sys/syscall.h>
+#endif
+
+#ifdef __APPLE__
+#include <sys/uio.h>
+#endif
+
 int64_t call_getpid() {
     return getpid();
 }
@@ -136,6 +147,14 @@ int64_t call_write(int32_t fd, void *buf, uint64_t count) {
     return write(fd, buf, count);
 }
 
+int64_t call_pread(int32_t fd, void *buf, uint64_t count, int64_t offset) {
+    return pread(fd, buf, count, offset);
+}
+
+int64_t call_pwrite(int32_t fd, void *buf, uint64_t count, int64_t offset) {
+    return pwrite(fd, buf, count, offset);
+}
+
 int32_t call_dup(int32_t fd) {
     return fcntl(fd, F_DUPFD_CLOEXEC, 0);
 }
@@ -215,10 +234,102 @@ int32_t call_select(int32_t nfds, int32_t* readfds, int32_t readfdsLen,
     return (int32_t) result;
 }
 
+// revents is output parameter, it receives the returned events of each fd
+int32_t call_poll(int32_t* fds, int32_t* events, int32_t* revents, int32_t nfds, int32_t timeout) {
+    struct pollfd *pfds = calloc(nfds > 0 ? nfds : 1, sizeof(struct pollfd));
+    if (pfds == NULL) {
+        errno = ENOMEM;
+        return -1;
+    }
+    for (int32_t i = 0; i < nfds; ++i) {
+        pfds[i].fd = fds[i];
+        pfds[i].events = (short) events[i];
+    }
+    int result = poll(pfds, nfds, timeout);
+    for (int32_t i = 0; i < nfds; ++i) {
+        revents[i] = (uint16_t) pfds[i].revents;
+    }
+    free(pfds);
+    return (int32_t) result;
+}
+
+#ifdef __linux__
+int32_t call_epoll_create() {
+    return epoll_create1(EPOLL_CLOEXEC);
+}
+
+int32_t call_epoll_ctl(int32_t epfd, int32_t op, int32_t fd, int32_t events) {
+    struct epoll_event ev;
+    ev.events = (uint32_t) events;
+    ev.data.fd = fd;
+    return epoll_ctl(epfd, op, fd, &ev);
+}
+
+// fds and events are output parameters of length maxevents
+int32_t call_epoll_wait(int32_t epfd, int32_t* fds, int32_t* events, int32_t maxevents, int32_t timeout) {
+    struct epoll_event *evs = calloc(maxevents, sizeof(struct epoll_event));
+    if (evs == NULL) {
+        errno = ENOMEM;
+        return -1;
+    }
+    int result = epoll_wait(epfd, evs, maxevents, timeout);
+    for (int i = 0; i < result; ++i) {
+        fds[i] = evs[i].data.fd;
+        events[i] = (int32_t) evs[i].events;
+    }
+    free(evs);
+    return (int32_t) result;
+}
+#endif
+
 int64_t call_lseek(int32_t fd, int64_t offset, int32_t whence) {
     return lseek(fd, offset, whence);
 }
 
+// A negative offset means that the current file position of in_fd is used and updated.
+int64_t call_sendfile(int32_t out_fd, int32_t in_fd, int64_t offset, uint64_t count) {
+#if defined(__linux__)
+    if (offset < 0) {
+        return sendfile(out_fd, in_fd, NULL, count);
+    }
+    off_t off = offset;
+    return sendfile(out_fd, in_fd, &off, count);
+#elif defined(__APPLE__)
+    int use_position = offset < 0;
+    if (use_position) {
+        offset = lseek(in_fd, 0, SEEK_CUR);
+        if (offset < 0) {
+            return -1;
+        }
+    }
+    off_t len = count;
+    int res = sendfile(in_fd, out_fd, offset, &len, NULL, 0);
+    if (res < 0 && len == 0) {
+        return -1;
+    }
+    // on EAGAIN and EINTR, len holds the number of bytes that were sent anyway
+    if (use_position && lseek(in_fd, offset + len, SEEK_SET) < 0) {
+        return -1;
+    }
+    return len;
+#else
+    errno = ENOSYS;
+    return -1;
+#endif
+}
+
+// Negative offsets mean that the current file positions are used and updated.
+int64_t call_copy_file_range(int32_t src_fd, int64_t src_offset, int32_t dst_fd, int64_t dst_offset, uint64_t count) {
+#if defined(__linux__) && defined(SYS_copy_file_range)
+    int64_t src_off = src_offset;
+    int64_t dst_off = dst_offset;
+    return syscall(SYS_copy_file_range, src_fd, src_offset < 0 ? NULL : &src_off, dst_fd, dst_offset < 0 ? NULL : &dst_off, count, 0);
+#else
+    errno = ENOSYS;
+    return -1;
+#endif
+}
+
 int32_t call_ftruncate(int32_t fd, int64_t length) {
     return ftruncate(fd, length);
 }
@@ -354,6 +354,14 @@ def node_footprint_analyzer(args, **kwargs):
     return mx.run_java(vm_args + [main_class] + args, **kwargs)
 
 
+def python_jmh(args, **kwargs):
+    """run the JMH microbenchmarks of interpreter hot paths, all arguments are passed to JMH"""
+    main_class = 'com.oracle.graal.python.benchmarks.micro.MicroBenchRunner'
+    vm_args = mx.get_runtime_jvm_args(['GRAALPYTHON', 'GRAALPYTHON-LAUNCHER', 'TRUFFLE_NFI', 'com.oracle.graal.python.benchmarks'], jdk=get_jdk())
+    vm_args.append("-Dorg.graalvm.language.python.home=%s" % _dev_pythonhome())
+    return mx.run_java(vm_args + [main_class] + args, jdk=get_jdk(), **kwargs)
+
+
 def _dev_pythonhome_context():
     home = os.environ.get("GRAAL_PYTHONHOME", _dev_pythonhome())
     return set_env(GRAAL_PYTHONHOME=home)
@@ -3064,6 +3072,7 @@ mx.update_commands(SUITE, {
     'bisect-benchmark': [mx_graalpython_bisect.bisect_benchmark, ''],
     'python-leak-test': [run_leak_launcher, ''],
     'python-nodes-footprint': [node_footprint_analyzer, ''],
+    'python-jmh': [python_jmh, '[JMH options] [benchmark regexp]'],
     'python-checkcopyrights': [python_checkcopyrights, '[--fix]'],
     'host-inlining-log-extract': [host_inlining_log_extract_method, ''],
 })
@@ -75,7 +75,11 @@ includes = '''
 # include <netdb.h>
 # include <netinet/in.h>
 # include <netinet/tcp.h>
+# include <poll.h>
 # include <sys/mman.h>
+# ifdef __linux__
+#  include <sys/epoll.h>
+# endif
 # include <sys/resource.h>
 # include <sys/select.h>
 # include <sys/socket.h>
@@ -155,6 +159,11 @@ constant_defs = '''
 0 i RUSAGE_SELF
 * i RUSAGE_THREAD
 
+* x EPOLL_CLOEXEC
+* i EPOLL_CTL_ADD
+* i EPOLL_CTL_MOD
+* i EPOLL_CTL_DEL
+
 [openFlags]
 * x O_ACCMODE
   x O_RDONLY
@@ -352,6 +361,36 @@ u x S_IFCHR
 0 i SHUT_WR
 0 i SHUT_RDWR
 
+[pollEvents]
+* x POLLIN
+* x POLLPRI
+* x POLLOUT
+* x POLLERR
+* x POLLHUP
+* x POLLNVAL
+* x POLLRDNORM
+* x POLLRDBAND
+* x POLLWRNORM
+* x POLLWRBAND
+* x POLLMSG
+* x POLLRDHUP
+
+[epollEvents]
+* x EPOLLIN
+* x EPOLLPRI
+* x EPOLLOUT
+* x EPOLLERR
+* x EPOLLHUP
+* x EPOLLRDNORM
+* x EPOLLRDBAND
+* x EPOLLWRNORM
+* x EPOLLWRBAND
+* x EPOLLMSG
+* x EPOLLRDHUP
+* x EPOLLEXCLUSIVE
+* x EPOLLONESHOT
+* x EPOLLET
+
 [socketOptions]
   i SO_DEBUG
   i SO_ACCEPTCONN